@@ -0,0 +1,152 @@
+package com.example.spreado.domain.meeting;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회의 종료(endMeeting) 부하 테스트.
+ * 실행 중인 서버에 HTTP로 요청하며, 회의 생성은 호출마다 측정 밖(Level.Invocation)에서 준비합니다.
+ * Throughput은 초당 처리 수, SampleTime은 p50/p90/p99 등 지연 백분위를 보여줍니다.
+ *
+ * <ul>
+ *   <li>endMeeting: 회의 종료 API 응답까지 (요약은 작업 큐에 등록만 됨)</li>
+ *   <li>endMeetingUntilSummarized: 회의 종료부터 요약 작업이 끝날 때까지</li>
+ * </ul>
+ *
+ * 준비: 스텁 서버(SummaryStubServer)를 띄우고 서버를 스텁에 연결해 실행한 뒤,
+ * 요청할 사용자와 그 사용자가 속한 그룹을 환경 변수로 지정합니다.
+ * <pre>
+ * ./gradlew summaryStubServer
+ * SUMMARY_AI_URL=http://localhost:8089/v1 LIVEBLOCKS_API_BASE=http://localhost:8089 ./gradlew bootRun
+ * LOADTEST_USER_ID=1 LOADTEST_GROUP_ID=1 JWT_SECRET=... ./gradlew jmh -PjmhIncludes=EndMeetingLoadBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Threads(8)
+@Fork(1)
+public class EndMeetingLoadBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long SUMMARY_POLL_MILLIS = 100;
+    private static final long SUMMARY_TIMEOUT_MILLIS = 5 * 60 * 1000;
+
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String authorization;
+    private long groupId;
+    private long meetingId;
+
+    @Setup(Level.Trial)
+    public void setUpClient() {
+        baseUrl = env("LOADTEST_BASE_URL", "http://localhost:8080");
+        groupId = Long.parseLong(env("LOADTEST_GROUP_ID", null));
+        String userId = env("LOADTEST_USER_ID", null);
+
+        // 서버와 같은 JWT_SECRET으로 access token을 발급 (AccessTokenProvider와 같은 형식)
+        Date now = new Date();
+        authorization = "Bearer " + JWT.create()
+                .withSubject(userId)
+                .withIssuedAt(now)
+                .withExpiresAt(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .sign(Algorithm.HMAC256(env("JWT_SECRET", null)));
+
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Setup(Level.Invocation)
+    public void createMeeting() throws IOException, InterruptedException {
+        String body = OBJECT_MAPPER.createObjectNode()
+                .put("groupId", groupId)
+                .put("title", "load-test")
+                .toString();
+
+        JsonNode created = send(request("/meeting").POST(HttpRequest.BodyPublishers.ofString(body)), 200);
+        meetingId = created.path("meetingId").asLong();
+    }
+
+    @Benchmark
+    public long endMeeting() throws IOException, InterruptedException {
+        return end().path("summaryJobId").asLong();
+    }
+
+    @Benchmark
+    public long endMeetingUntilSummarized() throws IOException, InterruptedException {
+        long jobId = end().path("summaryJobId").asLong();
+        long deadline = System.currentTimeMillis() + SUMMARY_TIMEOUT_MILLIS;
+
+        while (System.currentTimeMillis() < deadline) {
+            JsonNode job = send(request("/summaries/jobs/" + jobId).GET(), 200);
+            switch (job.path("status").asText()) {
+                case "SUCCEEDED":
+                    return job.path("summaryId").asLong();
+                case "FAILED":
+                    throw new IllegalStateException("요약 작업 실패 - jobId: " + jobId + ", error: " + job.path("errorMessage").asText());
+                default:
+                    Thread.sleep(SUMMARY_POLL_MILLIS);
+            }
+        }
+        throw new IllegalStateException("요약 작업이 제한 시간 안에 끝나지 않았습니다 - jobId: " + jobId);
+    }
+
+    private JsonNode end() throws IOException, InterruptedException {
+        return send(request("/meeting/" + meetingId + "/end").POST(HttpRequest.BodyPublishers.noBody()), 202);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json");
+    }
+
+    private JsonNode send(HttpRequest.Builder builder, int expectedStatus) throws IOException, InterruptedException {
+        HttpRequest request = builder.build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri()
+                    + " -> " + response.statusCode() + ": " + response.body());
+        }
+        return OBJECT_MAPPER.readTree(response.body());
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        if (value != null && !value.isBlank()) {
+            return value;
+        }
+        if (defaultValue == null) {
+            throw new IllegalStateException("환경 변수 " + name + " 이(가) 필요합니다.");
+        }
+        return defaultValue;
+    }
+}
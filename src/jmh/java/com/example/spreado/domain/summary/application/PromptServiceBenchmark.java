@@ -0,0 +1,70 @@
+package com.example.spreado.domain.summary.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전처리된 회의록 본문으로 요약 프롬프트를 만드는 비용을 측정합니다.
+ * 미리 파싱한 템플릿(PromptTemplate)과 호출마다 형식 문자열을 해석하는 String.formatted를 함께 측정하며,
+ * 할당량은 -prof gc 결과의 gc.alloc.rate.norm(호출당 바이트)으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptServiceBenchmark {
+
+    @Param({"mock_note1", "mock_note2", "mock_note3", "1KB", "100KB", "1MB", "10MB"})
+    private String input;
+
+    private static final String CHUNK_NOTICE = "(긴 회의록을 나눈 일부입니다. 이 부분에 명시된 내용만 요약하세요.)\n";
+
+    private PromptService promptService;
+    private String template;
+    private String meetingBody;
+
+    @Setup
+    public void setUp() {
+        template = SummaryBenchmarkFixtures.promptTemplate();
+        promptService = new PromptService(template, SummaryBenchmarkFixtures.updatePromptTemplate());
+        meetingBody = new SummaryDocumentPreprocessor(SummaryBenchmarkFixtures.OBJECT_MAPPER)
+                .toPlainText(SummaryBenchmarkFixtures.note(input));
+
+        if (!buildSummaryPrompt().equals(formatted()) || !buildChunkPrompt().equals(formattedChunk())) {
+            throw new IllegalStateException("두 구현의 프롬프트가 다릅니다: " + input);
+        }
+    }
+
+    @Benchmark
+    public String buildSummaryPrompt() {
+        return promptService.buildSummaryPrompt(meetingBody);
+    }
+
+    @Benchmark
+    public String formatted() {
+        return template.formatted(meetingBody);
+    }
+
+    @Benchmark
+    public String buildChunkPrompt() {
+        return promptService.buildChunkPrompt(meetingBody);
+    }
+
+    @Benchmark
+    public String formattedChunk() {
+        return template.formatted(CHUNK_NOTICE + meetingBody);
+    }
+}
@@ -0,0 +1,587 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.global.shared.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+
+/**
+ * 벤치마크 비교용으로 보존한 정규식 기반 공백 정리 구현.
+ * 인라인 구간마다 replaceAll로 공백을 정리하고 마지막에 빈 줄을 한 번 더 정리합니다.
+ */
+public class RegexSummaryDocumentPreprocessor {
+
+    // 문서 위치 우선순위 (값이 클수록 우선)
+    private static final int UNRESOLVED = -1;
+    private static final int ROOT_CONTENT = 0;
+    private static final int ROOT_DOC = 1;
+    private static final int DATA_DOC = 2;
+    private static final int DATA_CONTENT = 3;
+
+    private static final String UNCHECKED_MARKER = "[ ] ";
+    private static final String CHECKED_MARKER = "[x] ";
+
+    private final ObjectMapper objectMapper;
+
+    public RegexSummaryDocumentPreprocessor(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String toPlainText(JsonNode docsNode) {
+        if (docsNode == null || docsNode.isNull()) {
+            return "";
+        }
+
+        if (docsNode.isMissingNode()) {
+            throw new BadRequestException("회의록 문서가 비어 있습니다.");
+        }
+
+        try (JsonParser parser = createRootParser(docsNode)) {
+            return convert(parser);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("노트 문서를 파싱하는 중 오류가 발생했습니다.");
+        } catch (IOException e) {
+            throw new IllegalStateException("회의록 문서를 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private JsonParser createRootParser(JsonNode docsNode) throws IOException {
+        if (!docsNode.isTextual()) {
+            return docsNode.traverse(objectMapper);
+        }
+
+        String raw = docsNode.asText("");
+        if (!StringUtils.hasText(raw)) {
+            throw new BadRequestException("회의록 문서가 비어 있습니다.");
+        }
+        return objectMapper.createParser(raw);
+    }
+
+    private String convert(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            throw new BadRequestException("회의록 문서가 비어 있습니다.");
+        }
+
+        if (token == JsonToken.VALUE_STRING) {
+            // 문자열 토큰이 올바른지 먼저 확인 (잘못된 경우 파싱 오류로 처리)
+            parser.getText();
+            throw new BadRequestException("회의록은 tiptap JSON 형식으로 저장되어야 합니다.");
+        }
+
+        StringBuilder builder = new StringBuilder();
+        int resolved = UNRESOLVED;
+
+        if (token == JsonToken.START_OBJECT) {
+            // 여러 경로에 문서가 있으면 우선순위가 높은 쪽의 결과만 남김
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                int mark = builder.length();
+
+                switch (field) {
+                    case "data" -> {
+                        if (value == JsonToken.START_OBJECT) {
+                            resolved = appendDataObject(parser, builder, resolved);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "doc" -> {
+                        boolean found = value == JsonToken.START_OBJECT && appendDocObject(parser, builder);
+                        resolved = select(builder, mark, found, ROOT_DOC, resolved);
+                    }
+                    case "content" -> {
+                        boolean found = value == JsonToken.START_ARRAY;
+                        if (found) {
+                            appendContent(parser, builder, 0);
+                        } else {
+                            parser.skipChildren();
+                        }
+                        resolved = select(builder, mark, found, ROOT_CONTENT, resolved);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+
+        if (resolved == UNRESOLVED) {
+            throw new BadRequestException("회의록 문서에서 doc.content 구조를 찾을 수 없습니다.");
+        }
+
+        return cleanup(builder.toString());
+    }
+
+    private int appendDataObject(JsonParser parser, StringBuilder builder, int resolved) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            int mark = builder.length();
+
+            switch (field) {
+                // 1. data.content가 문자열이면 파싱 (Liveblocks 저장 형식)
+                case "content" -> {
+                    boolean found = value == JsonToken.VALUE_STRING && appendEmbeddedDocument(parser, builder);
+                    if (value != JsonToken.VALUE_STRING) {
+                        parser.skipChildren();
+                    }
+                    resolved = select(builder, mark, found, DATA_CONTENT, resolved);
+                }
+                // 2. data.doc 경로
+                case "doc" -> {
+                    boolean found = value == JsonToken.START_OBJECT && appendDocObject(parser, builder);
+                    resolved = select(builder, mark, found, DATA_DOC, resolved);
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return resolved;
+    }
+
+    private boolean appendEmbeddedDocument(JsonParser parser, StringBuilder builder) throws IOException {
+        try (JsonParser embedded = parser.hasTextCharacters()
+                ? objectMapper.createParser(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                : objectMapper.createParser(parser.getText())) {
+            if (embedded.nextToken() != JsonToken.START_OBJECT) {
+                embedded.skipChildren();
+                return false;
+            }
+            return appendDocObject(embedded, builder);
+        } catch (JsonProcessingException e) {
+            // 파싱 실패 시 다음 경로 시도
+            return false;
+        }
+    }
+
+    private boolean appendDocObject(JsonParser parser, StringBuilder builder) throws IOException {
+        int start = builder.length();
+        boolean found = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (!"content".equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            builder.setLength(start);
+            found = value == JsonToken.START_ARRAY;
+            if (found) {
+                appendContent(parser, builder, 0);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return found;
+    }
+
+    private int select(StringBuilder builder, int mark, boolean found, int priority, int resolved) {
+        if (found && priority >= resolved) {
+            builder.delete(0, mark);
+            return priority;
+        }
+        builder.setLength(mark);
+        return resolved;
+    }
+
+    private void appendContent(JsonParser parser, StringBuilder builder, int indentLevel) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                appendNode(parser, builder, indentLevel, null);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 블록 노드 하나를 기록합니다. bullet이 있으면 목록 항목의 자식으로 처리하며,
+     * 문단이 기록되었는지(항목의 대표 텍스트가 있는지)를 반환합니다.
+     */
+    private boolean appendNode(JsonParser parser, StringBuilder builder, int indentLevel, String bullet) throws IOException {
+        int start = builder.length();
+        String type = null;
+        JsonNode level = null;
+        JsonNode pendingContent = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "type" -> type = readType(parser);
+                case "attrs" -> level = readAttribute(parser, "level");
+                case "content" -> {
+                    // type보다 content가 먼저 오면 처리 방법을 알 수 없으므로 type을 읽은 뒤에 처리
+                    if (type == null) {
+                        pendingContent = parser.readValueAsTree();
+                    } else {
+                        appendNodeContent(parser, builder, type, indentLevel, bullet);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (type == null) {
+            type = "";
+        }
+
+        if (pendingContent != null) {
+            try (JsonParser buffered = pendingContent.traverse(objectMapper)) {
+                buffered.nextToken();
+                appendNodeContent(buffered, builder, type, indentLevel, bullet);
+            }
+        }
+
+        if (bullet != null) {
+            return finishListChild(builder, start, type, indentLevel, bullet);
+        }
+
+        switch (type) {
+            case "heading" -> finishHeading(builder, start, level);
+            case "paragraph" -> finishParagraph(builder, start);
+            case "blockquote" -> finishBlockquote(builder, start);
+            default -> {
+            }
+        }
+        return false;
+    }
+
+    private void appendNodeContent(JsonParser parser, StringBuilder builder, String type, int indentLevel, String bullet) throws IOException {
+        if (bullet != null) {
+            switch (type) {
+                case "paragraph" -> appendInlineText(parser, builder);
+                case "bulletList" -> appendList(parser, builder, indentLevel + 1, false);
+                case "orderedList" -> appendList(parser, builder, indentLevel + 1, true);
+                case "taskList" -> appendTaskList(parser, builder, indentLevel + 1);
+                default -> appendContent(parser, builder, indentLevel + 1);
+            }
+            return;
+        }
+
+        switch (type) {
+            case "heading", "paragraph", "blockquote" -> appendInlineText(parser, builder);
+            case "bulletList" -> appendList(parser, builder, indentLevel, false);
+            case "orderedList" -> appendList(parser, builder, indentLevel, true);
+            case "taskList" -> appendTaskList(parser, builder, indentLevel);
+            default -> appendContent(parser, builder, indentLevel);
+        }
+    }
+
+    private void finishHeading(StringBuilder builder, int start, JsonNode levelNode) {
+        if (builder.length() == start) {
+            return;
+        }
+
+        int level = levelNode == null ? 1 : levelNode.asInt(1);
+        trim(builder, start);
+        builder.insert(start, "#".repeat(Math.max(1, level)) + " ")
+                .append("\n\n");
+    }
+
+    private void finishParagraph(StringBuilder builder, int start) {
+        if (builder.length() == start) {
+            return;
+        }
+
+        trim(builder, start);
+        builder.append("\n\n");
+    }
+
+    private void finishBlockquote(StringBuilder builder, int start) {
+        if (builder.length() == start) {
+            return;
+        }
+
+        trim(builder, start);
+        String quoted = builder.substring(start).replaceAll("\\s*\\n\\s*", "\n> ");
+        builder.setLength(start);
+        builder.append("> ")
+                .append(quoted)
+                .append("\n\n");
+    }
+
+    private boolean finishListChild(StringBuilder builder, int start, String type, int indentLevel, String bullet) {
+        if (!"paragraph".equals(type) || builder.length() == start) {
+            return false;
+        }
+
+        trim(builder, start);
+        builder.insert(start, "  ".repeat(indentLevel) + bullet)
+                .append("\n");
+        return true;
+    }
+
+    private void appendList(JsonParser parser, StringBuilder builder, int indentLevel, boolean ordered) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        int index = 1;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String bullet = ordered ? index++ + ". " : "- ";
+            appendListItem(parser, builder, indentLevel, bullet);
+        }
+        builder.append("\n");
+    }
+
+    private void appendTaskList(JsonParser parser, StringBuilder builder, int indentLevel) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            appendListItem(parser, builder, indentLevel, null);
+        }
+        builder.append("\n");
+    }
+
+    /**
+     * 목록 항목을 기록합니다. bullet이 null이면 체크 여부(attrs.checked)로 할 일 표시를 정합니다.
+     */
+    private void appendListItem(JsonParser parser, StringBuilder builder, int indentLevel, String bullet) throws IOException {
+        boolean task = bullet == null;
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            appendListLine(builder, indentLevel, task ? UNCHECKED_MARKER : bullet);
+            return;
+        }
+
+        String marker = bullet;
+        JsonNode pendingContent = null;
+        boolean hasContent = false;
+        boolean hasPrimaryText = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("attrs".equals(field) && task) {
+                JsonNode checked = readAttribute(parser, "checked");
+                marker = checked != null && checked.asBoolean(false) ? CHECKED_MARKER : UNCHECKED_MARKER;
+            } else if ("content".equals(field)) {
+                // 체크 여부를 아직 모르면 attrs를 읽은 뒤에 처리
+                if (marker == null) {
+                    pendingContent = parser.readValueAsTree();
+                } else if (value == JsonToken.START_ARRAY) {
+                    hasContent = true;
+                    hasPrimaryText = appendListItemContent(parser, builder, indentLevel, marker);
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (marker == null) {
+            marker = UNCHECKED_MARKER;
+        }
+
+        if (pendingContent != null && pendingContent.isArray()) {
+            try (JsonParser buffered = pendingContent.traverse(objectMapper)) {
+                buffered.nextToken();
+                hasContent = true;
+                hasPrimaryText = appendListItemContent(buffered, builder, indentLevel, marker);
+            }
+        }
+
+        if (!hasContent) {
+            appendListLine(builder, indentLevel, marker);
+        } else if (!hasPrimaryText) {
+            appendListLine(builder, indentLevel, marker.trim());
+        }
+    }
+
+    private boolean appendListItemContent(JsonParser parser, StringBuilder builder, int indentLevel, String bullet) throws IOException {
+        boolean hasPrimaryText = false;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                hasPrimaryText |= appendNode(parser, builder, indentLevel, bullet);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return hasPrimaryText;
+    }
+
+    private void appendListLine(StringBuilder builder, int indentLevel, String bullet) {
+        builder.append("  ".repeat(indentLevel))
+                .append(bullet)
+                .append("\n");
+    }
+
+    /**
+     * 인라인 노드들의 텍스트를 이어 붙입니다. 배열이면 공백을 정리하고 앞뒤 공백을 제거합니다.
+     */
+    private void appendInlineText(JsonParser parser, StringBuilder builder) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            appendValueText(parser, builder);
+            return;
+        }
+
+        int start = builder.length();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                appendInlineNode(parser, builder);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        String normalized = builder.substring(start).replaceAll("[ \\t]{2,}", " ").trim();
+        builder.setLength(start);
+        builder.append(normalized);
+    }
+
+    private void appendInlineNode(JsonParser parser, StringBuilder builder) throws IOException {
+        String type = null;
+        JsonNode pendingText = null;
+        JsonNode pendingContent = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "type" -> type = readType(parser);
+                case "text" -> {
+                    if (type == null) {
+                        pendingText = parser.readValueAsTree();
+                    } else if ("text".equals(type)) {
+                        appendValueText(parser, builder);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "content" -> {
+                    if (type == null) {
+                        pendingContent = parser.readValueAsTree();
+                    } else if (!"text".equals(type) && !"hardBreak".equals(type)) {
+                        appendInlineText(parser, builder);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (type == null) {
+            type = "";
+        }
+
+        switch (type) {
+            case "text" -> {
+                if (pendingText != null) {
+                    builder.append(pendingText.asText(""));
+                }
+            }
+            case "hardBreak" -> builder.append("\n");
+            default -> {
+                if (pendingContent != null) {
+                    try (JsonParser buffered = pendingContent.traverse(objectMapper)) {
+                        buffered.nextToken();
+                        appendInlineText(buffered, builder);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 값을 JsonNode.asText("")와 같은 규칙으로 기록합니다.
+     */
+    private void appendValueText(JsonParser parser, StringBuilder builder) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            if (parser.hasTextCharacters()) {
+                builder.append(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            } else {
+                builder.append(parser.getText());
+            }
+            return;
+        }
+
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        JsonNode value = parser.readValueAsTree();
+        builder.append(value.asText(""));
+    }
+
+    private String readType(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+
+        parser.skipChildren();
+        return "";
+    }
+
+    private JsonNode readAttribute(JsonParser parser, String name) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        JsonNode attribute = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                attribute = parser.readValueAsTree();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return attribute;
+    }
+
+    // String.trim()과 같은 기준으로 start 이후 구간의 앞뒤 공백을 제거
+    private void trim(StringBuilder builder, int start) {
+        int end = builder.length();
+        while (end > start && builder.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        builder.setLength(end);
+
+        int from = start;
+        while (from < end && builder.charAt(from) <= ' ') {
+            from++;
+        }
+        builder.delete(start, from);
+    }
+
+    private String cleanup(String text) {
+        if (!StringUtils.hasText(text)) {
+            return "";
+        }
+
+        return text.replaceAll("(\\n){3,}", "\n\n").trim();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.spreado.domain.summary.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 벤치마크 입력 데이터.
+ * mock_data의 회의록/요약을 그대로 쓰거나, 회의록 본문을 반복해 1KB ~ 10MB 크기의 합성 문서를 만듭니다.
+ */
+public final class SummaryBenchmarkFixtures {
+
+    public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String BASE_NOTE = "mock_note1";
+
+    private SummaryBenchmarkFixtures() {
+    }
+
+    /**
+     * 입력 이름으로 회의록 문서를 만듭니다.
+     * mock_note1 ~ 3은 원본 그대로, 1KB/100KB/1MB/10MB는 mock_note1 본문을 반복해 해당 크기 이상으로 만듭니다.
+     */
+    public static JsonNode note(String input) {
+        if (input.startsWith("mock_note")) {
+            return readTree("/mock_data/" + input + ".json");
+        }
+        return scaledNote(parseSize(input));
+    }
+
+    public static String summaryJson(String note) {
+        return readString("/mock_data/test-summaries/" + note + "_summary.json");
+    }
+
+    /**
+     * 입력 이름으로 요약 JSON을 만듭니다.
+     * mock_note1 ~ 3은 원본 그대로, 1KB/100KB/1MB는 mock_note1 요약의 마일스톤과 액션 아이템을 반복해 해당 크기 이상으로 만듭니다.
+     */
+    public static String scaledSummaryJson(String input) {
+        if (input.startsWith("mock_note")) {
+            return summaryJson(input);
+        }
+
+        ObjectNode root = (ObjectNode) readTree("/mock_data/test-summaries/" + BASE_NOTE + "_summary.json");
+        ArrayNode milestones = (ArrayNode) root.path("milestones");
+        ObjectNode actionItems = (ObjectNode) root.path("actionItemsByRole");
+        ArrayNode originalMilestones = milestones.deepCopy();
+        ObjectNode originalActionItems = actionItems.deepCopy();
+
+        long unitBytes = Math.max(1, serializedSize(root));
+        long copies = Math.max(1, (parseSize(input) + unitBytes - 1) / unitBytes);
+        for (long i = 1; i < copies; i++) {
+            milestones.addAll(originalMilestones.deepCopy());
+            originalActionItems.properties().forEach(role ->
+                    ((ArrayNode) actionItems.path(role.getKey())).addAll((ArrayNode) role.getValue().deepCopy()));
+        }
+        return root.toString();
+    }
+
+    public static String promptTemplate() {
+        return prompt("summary.prompt.template");
+    }
+
+    public static String updatePromptTemplate() {
+        return prompt("summary.prompt.update-template");
+    }
+
+    private static String prompt(String key) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("templates/prompts.yml"));
+        return yaml.getObject().getProperty(key);
+    }
+
+    private static JsonNode scaledNote(long targetBytes) {
+        ObjectNode root = (ObjectNode) readTree("/mock_data/" + BASE_NOTE + ".json");
+        ArrayNode content = (ArrayNode) root.path("data").path("doc").path("content");
+        ArrayNode original = content.deepCopy();
+
+        long unitBytes = Math.max(1, serializedSize(original));
+        long copies = Math.max(1, (targetBytes + unitBytes - 1) / unitBytes);
+
+        content.removeAll();
+        for (long i = 0; i < copies; i++) {
+            content.addAll(original.deepCopy());
+        }
+        return root;
+    }
+
+    private static long parseSize(String input) {
+        String upper = input.toUpperCase();
+        if (upper.endsWith("MB")) {
+            return Long.parseLong(upper.substring(0, upper.length() - 2)) * 1024 * 1024;
+        }
+        if (upper.endsWith("KB")) {
+            return Long.parseLong(upper.substring(0, upper.length() - 2)) * 1024;
+        }
+        throw new IllegalArgumentException("지원하지 않는 입력입니다: " + input);
+    }
+
+    private static long serializedSize(JsonNode node) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(node).length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode readTree(String path) {
+        try (InputStream in = open(path)) {
+            return OBJECT_MAPPER.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readString(String path) {
+        try (InputStream in = open(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream open(String path) throws IOException {
+        InputStream in = SummaryBenchmarkFixtures.class.getResourceAsStream(path);
+        if (in == null) {
+            throw new IOException("벤치마크 입력을 찾을 수 없습니다: " + path);
+        }
+        return in;
+    }
+}
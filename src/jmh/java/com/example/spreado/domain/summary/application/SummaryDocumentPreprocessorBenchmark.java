@@ -0,0 +1,58 @@
+package com.example.spreado.domain.summary.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회의록 전처리(toPlainText) 벤치마크.
+ * 공백 정리를 기록 시점에 처리하는 현재 구현과 정규식 기반 구현을 함께 측정합니다.
+ * 할당량은 -prof gc 결과의 gc.alloc.rate.norm(호출당 바이트)으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SummaryDocumentPreprocessorBenchmark {
+
+    @Param({"mock_note1", "mock_note2", "mock_note3", "1KB", "100KB", "1MB", "10MB"})
+    private String input;
+
+    private JsonNode document;
+    private SummaryDocumentPreprocessor preprocessor;
+    private RegexSummaryDocumentPreprocessor regexPreprocessor;
+
+    @Setup
+    public void setUp() {
+        preprocessor = new SummaryDocumentPreprocessor(SummaryBenchmarkFixtures.OBJECT_MAPPER);
+        regexPreprocessor = new RegexSummaryDocumentPreprocessor(SummaryBenchmarkFixtures.OBJECT_MAPPER);
+        document = SummaryBenchmarkFixtures.note(input);
+
+        if (!preprocessor.toPlainText(document).equals(regexPreprocessor.toPlainText(document))) {
+            throw new IllegalStateException("두 구현의 변환 결과가 다릅니다: " + input);
+        }
+    }
+
+    @Benchmark
+    public String inline() {
+        return preprocessor.toPlainText(document);
+    }
+
+    @Benchmark
+    public String regex() {
+        return regexPreprocessor.toPlainText(document);
+    }
+}
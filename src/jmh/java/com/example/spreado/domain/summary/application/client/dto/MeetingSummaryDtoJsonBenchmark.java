@@ -0,0 +1,58 @@
+package com.example.spreado.domain.summary.application.client.dto;
+
+import com.example.spreado.domain.summary.application.SummaryBenchmarkFixtures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 응답(MeetingSummaryDto)의 역직렬화와 요약 저장용 직렬화 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeetingSummaryDtoJsonBenchmark {
+
+    @Param({"mock_note1", "mock_note2", "mock_note3"})
+    private String note;
+
+    private final ObjectMapper objectMapper = SummaryBenchmarkFixtures.OBJECT_MAPPER;
+    private String summaryJson;
+    private MeetingSummaryDto summaryDto;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        summaryJson = SummaryBenchmarkFixtures.summaryJson(note);
+        summaryDto = objectMapper.readValue(summaryJson, MeetingSummaryDto.class);
+    }
+
+    @Benchmark
+    public MeetingSummaryDto read() throws JsonProcessingException {
+        return objectMapper.readValue(summaryJson, MeetingSummaryDto.class);
+    }
+
+    @Benchmark
+    public String write() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(summaryDto);
+    }
+
+    @Benchmark
+    public String roundTrip() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(objectMapper.readValue(summaryJson, MeetingSummaryDto.class));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.spreado.domain.summary.application.support;
+
+import com.example.spreado.domain.summary.application.SummaryBenchmarkFixtures;
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요약을 메일 본문 HTML로 렌더링하는 비용을 측정합니다.
+ *
+ * <ul>
+ *   <li>renderHtml: 이미 파싱된 MeetingSummaryDto를 렌더링 (MailService는 요약 JSON을 한 번만 파싱)</li>
+ *   <li>parseAndRenderHtml: 저장된 요약 JSON 파싱부터 렌더링까지</li>
+ * </ul>
+ *
+ * 100KB/1MB 입력은 마일스톤과 액션 아이템이 매우 많은 요약을 흉내 냅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SummaryEmailFormatterBenchmark {
+
+    @Param({"mock_note1", "mock_note2", "mock_note3", "100KB", "1MB"})
+    private String input;
+
+    private String summaryJson;
+    private MeetingSummaryDto summary;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        summaryJson = SummaryBenchmarkFixtures.scaledSummaryJson(input);
+        summary = SummaryBenchmarkFixtures.OBJECT_MAPPER.readValue(summaryJson, MeetingSummaryDto.class);
+    }
+
+    @Benchmark
+    public String renderHtml() {
+        return SummaryEmailFormatter.renderHtml(summary);
+    }
+
+    @Benchmark
+    public String parseAndRenderHtml() throws JsonProcessingException {
+        return SummaryEmailFormatter.renderHtml(
+                SummaryBenchmarkFixtures.OBJECT_MAPPER.readValue(summaryJson, MeetingSummaryDto.class));
+    }
+}
@@ -153,11 +153,11 @@ public class GroupController {
     @PreAuthorize("isAuthenticated()")
     @Operation(
             summary = "그룹 초대 이메일 발송",
-            description = "그룹 초대 링크를 이메일로 발송합니다. 그룹 멤버만 초대할 수 있습니다.",
+            description = "그룹 초대 링크를 이메일로 발송합니다. 그룹 멤버만 초대할 수 있습니다. 발송 대기열에 등록한 뒤 바로 응답하며, 실제 발송은 백그라운드에서 수신자별로 처리됩니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "이메일 발송 성공", content = @Content(schema = @Schema(implementation = GroupEmailInviteResponse.class))),
+            @ApiResponse(responseCode = "200", description = "이메일 발송 등록 성공", content = @Content(schema = @Schema(implementation = GroupEmailInviteResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음", content = @Content)
@@ -9,10 +9,10 @@ public record GroupEmailInviteResponse(
         @Schema(description = "그룹 ID", example = "1")
         Long groupId,
 
-        @Schema(description = "초대 메일 발송 성공 개수", example = "3")
+        @Schema(description = "발송 등록된 초대 메일 개수 (중복 주소 제외)", example = "3")
         int successCount,
 
-        @Schema(description = "발송된 이메일 주소 목록")
+        @Schema(description = "발송 등록된 이메일 주소 목록")
         List<String> sentEmails
 ) {
 }
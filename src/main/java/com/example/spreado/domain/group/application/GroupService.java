@@ -137,7 +137,7 @@ public class GroupService {
         groupRepository.deleteById(groupId);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public GroupEmailInviteResponse sendEmailInvites(Long groupId, GroupEmailInviteRequest request, Long userId) {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new NotFoundException("해당 그룹을 찾을 수 없습니다."));
@@ -148,12 +148,12 @@ public class GroupService {
         User inviter = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("해당 사용자를 찾을 수 없습니다."));
 
-        groupEmailInviteService.sendInviteEmails(group, inviter, request.emails(), request.message());
+        List<String> queuedEmails = groupEmailInviteService.sendInviteEmails(group, inviter, request.emails(), request.message());
 
         return new GroupEmailInviteResponse(
                 group.getId(),
-                request.emails().size(),
-                request.emails()
+                queuedEmails.size(),
+                queuedEmails
         );
     }
 
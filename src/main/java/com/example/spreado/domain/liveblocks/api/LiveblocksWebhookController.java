@@ -0,0 +1,40 @@
+package com.example.spreado.domain.liveblocks.api;
+
+import com.example.spreado.domain.liveblocks.application.LiveblocksWebhookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Liveblocks Webhook API", description = "Liveblocks 웹훅 수신 API")
+@RestController
+@RequestMapping("/liveblocks")
+@RequiredArgsConstructor
+public class LiveblocksWebhookController {
+
+    private final LiveblocksWebhookService liveblocksWebhookService;
+
+    @PostMapping("/webhook")
+    @Operation(
+            summary = "Liveblocks 웹훅 수신",
+            description = "Liveblocks가 보내는 웹훅을 서명 검증 후 처리합니다. storageUpdated 이벤트를 받으면 회의록 초안 스냅샷을 예약합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "수신 성공"),
+            @ApiResponse(responseCode = "400", description = "웹훅 본문 오류"),
+            @ApiResponse(responseCode = "401", description = "서명 검증 실패"),
+            @ApiResponse(responseCode = "503", description = "웹훅 서명 키 미설정")
+    })
+    public ResponseEntity<Void> receive(
+            @RequestHeader(value = "webhook-id", required = false) String webhookId,
+            @RequestHeader(value = "webhook-timestamp", required = false) String timestamp,
+            @RequestHeader(value = "webhook-signature", required = false) String signature,
+            @RequestBody byte[] body
+    ) {
+        liveblocksWebhookService.handle(webhookId, timestamp, signature, body);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.spreado.domain.liveblocks.application;
+
+import com.example.spreado.domain.liveblocks.application.client.LiveblocksClient;
+import com.example.spreado.domain.liveblocks.application.client.dto.LiveblocksRoom;
+import com.example.spreado.domain.liveblocks.application.client.dto.LiveblocksRoomPage;
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksReconcileProperties;
+import com.example.spreado.domain.liveblocks.core.repository.LiveblocksReconcileLockRepository;
+import com.example.spreado.domain.liveblocks.core.repository.LiveblocksReconcileLockRepository.ReconcileLock;
+import com.example.spreado.domain.meeting.application.MeetingEndService;
+import com.example.spreado.domain.meeting.application.MeetingService;
+import com.example.spreado.domain.meeting.core.entity.MeetingStatus;
+import com.example.spreado.domain.meeting.core.util.RoomIdPolicy;
+import com.example.spreado.domain.summary.application.client.resilience.TokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Liveblocks 방과 meetings 테이블을 맞추는 주기 작업.
+ * 방 목록을 페이지 단위로 읽어 방 metadata(groupId/meetingId)의 회의 상태를 한 번에 조회하고,
+ * 종료되었거나 없는 회의의 방은 지우고, 오래 접속이 없는 진행 중 회의는 스토리지를 노트로 남긴 뒤 종료합니다.
+ * 목록을 끝까지 읽은 경우에만 방이 없는 진행 중 회의도 종료합니다.
+ * 모든 Liveblocks 호출은 분당 한도(requestsPerMinute) 안에서 보내며, 정리는 여러 번 실행되어도 결과가 같습니다.
+ * 여러 인스턴스가 떠 있어도 DB advisory lock을 잡은 한 곳에서만 실행하므로 호출 한도가 인스턴스 수만큼 늘어나지 않습니다.
+ */
+@Slf4j
+@Component
+public class LiveblocksReconciler {
+
+    private static final String METRIC_NAME = "liveblocks.reconcile";
+
+    private final LiveblocksClient liveblocksClient;
+    private final MeetingService meetingService;
+    private final MeetingEndService meetingEndService;
+    private final LiveblocksRoomOutboxService roomOutboxService;
+    private final RoomIdPolicy roomIdPolicy;
+    private final LiveblocksReconcileProperties reconcileProperties;
+    private final MeterRegistry meterRegistry;
+    private final LiveblocksReconcileLockRepository reconcileLockRepository;
+    private final TokenBucket requestBucket;
+
+    public LiveblocksReconciler(LiveblocksClient liveblocksClient,
+                                MeetingService meetingService,
+                                MeetingEndService meetingEndService,
+                                LiveblocksRoomOutboxService roomOutboxService,
+                                RoomIdPolicy roomIdPolicy,
+                                LiveblocksReconcileProperties reconcileProperties,
+                                LiveblocksReconcileLockRepository reconcileLockRepository,
+                                MeterRegistry meterRegistry) {
+        this.liveblocksClient = liveblocksClient;
+        this.meetingService = meetingService;
+        this.meetingEndService = meetingEndService;
+        this.roomOutboxService = roomOutboxService;
+        this.roomIdPolicy = roomIdPolicy;
+        this.reconcileProperties = reconcileProperties;
+        this.reconcileLockRepository = reconcileLockRepository;
+        this.meterRegistry = meterRegistry;
+        this.requestBucket = new TokenBucket(reconcileProperties.getRequestsPerMinute());
+    }
+
+    @Scheduled(fixedDelayString = "${liveblocks.reconcile.poll-interval-ms:600000}",
+            initialDelayString = "${liveblocks.reconcile.poll-interval-ms:600000}")
+    public void reconcile() {
+        if (!reconcileProperties.isEnabled()) {
+            return;
+        }
+        try {
+            Optional<ReconcileLock> lock = reconcileLockRepository.tryLock();
+            if (lock.isEmpty()) {
+                log.debug("다른 인스턴스가 방 정리를 실행 중이라 건너뜁니다.");
+                return;
+            }
+            try (ReconcileLock ignored = lock.get()) {
+                run();
+            }
+        } catch (RateLimitedException e) {
+            log.info("Liveblocks 호출 한도로 방 정리를 다음 주기로 넘깁니다.");
+        } catch (Exception e) {
+            log.error("Liveblocks 방 정리 중 오류 발생 - errorMessage: {}", e.getMessage(), e);
+        }
+    }
+
+    private void run() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Set<Long> meetingsWithRoom = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            String startingAfter = cursor;
+            LiveblocksRoomPage page = call(() -> liveblocksClient.listRooms(startingAfter, reconcileProperties.getPageSize()).block());
+            reconcilePage(page.rooms(), now, meetingsWithRoom);
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null && pages < reconcileProperties.getMaxPages());
+
+        if (cursor != null) {
+            log.info("방 목록을 {}페이지까지만 읽어 방 없는 회의 정리는 건너뜁니다.", pages);
+            return;
+        }
+        closeMeetingsWithoutRoom(meetingsWithRoom);
+    }
+
+    private void reconcilePage(List<LiveblocksRoom> rooms, OffsetDateTime now, Set<Long> meetingsWithRoom) {
+        List<Long> meetingIds = rooms.stream().map(this::meetingId).toList();
+        Map<Long, MeetingStatus> statuses = meetingService.getMeetingStatuses(
+                meetingIds.stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+
+        for (int i = 0; i < rooms.size(); i++) {
+            LiveblocksRoom room = rooms.get(i);
+            Long meetingId = meetingIds.get(i);
+            if (meetingId == null) {
+                // 이 서비스가 만든 방이 아니면 건드리지 않음
+                continue;
+            }
+
+            MeetingStatus meetingStatus = statuses.get(meetingId);
+            if (meetingStatus == MeetingStatus.ONGOING) {
+                meetingsWithRoom.add(meetingId);
+                if (isStale(room, now)) {
+                    closeStaleMeeting(room, meetingId);
+                }
+            } else if (isPastGracePeriod(room, now)) {
+                deleteOrphanRoom(room, meetingId);
+            }
+        }
+    }
+
+    private void closeStaleMeeting(LiveblocksRoom room, Long meetingId) {
+        int activeUsers = call(() -> liveblocksClient.countActiveUsers(room.id()).block());
+        if (activeUsers > 0) {
+            return;
+        }
+
+        try {
+            meetingEndService.closeStaleMeeting(meetingId, room.id());
+            record("stale_meeting_closed");
+            log.info("오래 접속이 없는 회의를 종료했습니다 - meetingId: {}, roomId: {}", meetingId, room.id());
+        } catch (Exception e) {
+            log.warn("방치된 회의 종료 실패 - meetingId: {}, errorMessage: {}", meetingId, e.getMessage());
+        }
+    }
+
+    private void deleteOrphanRoom(LiveblocksRoom room, Long meetingId) {
+        try {
+            call(() -> liveblocksClient.deleteRoom(room.id()).block());
+            record("orphan_room_deleted");
+            log.info("회의가 없거나 종료된 방을 삭제했습니다 - meetingId: {}, roomId: {}", meetingId, room.id());
+        } catch (RateLimitedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("남은 방 삭제 실패 - roomId: {}, errorMessage: {}", room.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * 방 목록 어디에도 없는 진행 중 회의는 방 생성에 실패했거나 방이 먼저 지워진 경우이므로 종료합니다.
+     * 방 생성 요청이 아직 재시도 중인 회의는 곧 방이 생길 수 있으므로 건너뜁니다.
+     */
+    private void closeMeetingsWithoutRoom(Set<Long> meetingsWithRoom) {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(reconcileProperties.getGracePeriod());
+        List<Long> ongoingMeetingIds = meetingService.getOngoingMeetingIdsCreatedBefore(createdBefore);
+        Set<Long> awaitingRoom = roomOutboxService.findMeetingIdsAwaitingRoom(ongoingMeetingIds);
+
+        for (Long meetingId : ongoingMeetingIds) {
+            if (meetingsWithRoom.contains(meetingId) || awaitingRoom.contains(meetingId)) {
+                continue;
+            }
+            try {
+                meetingService.closeRoomlessMeeting(meetingId);
+                record("roomless_meeting_closed");
+                log.info("방이 없는 진행 중 회의를 종료했습니다 - meetingId: {}", meetingId);
+            } catch (Exception e) {
+                log.warn("방 없는 회의 종료 실패 - meetingId: {}, errorMessage: {}", meetingId, e.getMessage());
+            }
+        }
+    }
+
+    private Long meetingId(LiveblocksRoom room) {
+        return room.meetingId() != null ? room.meetingId() : roomIdPolicy.toMeetingId(room.id());
+    }
+
+    /**
+     * 마지막 접속 이후 staleAfter가 지났으면 방치된 것으로 봅니다.
+     * 아무도 접속하지 않은 방은 생성 시각부터 계산합니다.
+     */
+    private boolean isStale(LiveblocksRoom room, OffsetDateTime now) {
+        OffsetDateTime lastActiveAt = room.lastConnectionAt() != null ? room.lastConnectionAt() : room.createdAt();
+        return lastActiveAt != null && lastActiveAt.plus(reconcileProperties.getStaleAfter()).isBefore(now);
+    }
+
+    private boolean isPastGracePeriod(LiveblocksRoom room, OffsetDateTime now) {
+        return room.createdAt() != null && room.createdAt().plus(reconcileProperties.getGracePeriod()).isBefore(now);
+    }
+
+    /**
+     * 분당 한도 안에서 Liveblocks를 호출합니다. maxWait 안에 차례가 오지 않으면 이번 실행을 중단합니다.
+     */
+    private <T> T call(Supplier<T> request) {
+        long waitNanos = requestBucket.reserve(1, reconcileProperties.getMaxWait());
+        if (waitNanos < 0) {
+            throw new RateLimitedException();
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RateLimitedException();
+            }
+        }
+        return request.get();
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+    }
+
+    private static class RateLimitedException extends RuntimeException {
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.spreado.domain.liveblocks.application;
+
+import com.example.spreado.domain.liveblocks.application.LiveblocksRoomOutboxService.LiveblocksRoomTaskEnqueuedEvent;
+import com.example.spreado.domain.liveblocks.application.LiveblocksRoomOutboxService.PendingRoomTask;
+import com.example.spreado.domain.liveblocks.application.client.LiveblocksApiException;
+import com.example.spreado.domain.liveblocks.application.client.LiveblocksClient;
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksOutboxProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * liveblocks_room_tasks 테이블을 polling 하여 방 생성/삭제 요청을 보내는 워커.
+ * 가져온 작업을 스레드 수만큼 묶음으로 나누고, 묶음 안의 요청은 동시에 보낸 뒤 결과를 한 번에 기록합니다.
+ * DB 트랜잭션은 작업 점유와 결과 기록에만 짧게 열리고, Liveblocks 응답을 기다리는 동안에는 열려 있지 않습니다.
+ */
+@Slf4j
+@Component
+public class LiveblocksRoomDispatcher {
+
+    private final LiveblocksRoomOutboxService outboxService;
+    private final LiveblocksClient liveblocksClient;
+    private final LiveblocksOutboxProperties outboxProperties;
+    private final ThreadPoolTaskExecutor liveblocksRoomDispatchExecutor;
+    private final MeterRegistry meterRegistry;
+    private final String workerId;
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public LiveblocksRoomDispatcher(LiveblocksRoomOutboxService outboxService,
+                                    LiveblocksClient liveblocksClient,
+                                    LiveblocksOutboxProperties outboxProperties,
+                                    @Qualifier("liveblocksRoomDispatchExecutor") ThreadPoolTaskExecutor liveblocksRoomDispatchExecutor,
+                                    MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.liveblocksClient = liveblocksClient;
+        this.outboxProperties = outboxProperties;
+        this.liveblocksRoomDispatchExecutor = liveblocksRoomDispatchExecutor;
+        this.meterRegistry = meterRegistry;
+        this.workerId = resolveWorkerId();
+    }
+
+    /**
+     * 이전 실행에서 처리 중 종료되어 lease가 만료된 작업을 다시 대기 상태로 돌립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverExpiredLeases() {
+        int recovered = outboxService.requeueExpiredLeases();
+        if (recovered > 0) {
+            log.info("만료된 Liveblocks 방 작업 {}건을 다시 대기열에 등록했습니다.", recovered);
+        }
+    }
+
+    /**
+     * 작업이 등록된 트랜잭션이 커밋되면 다음 polling을 기다리지 않고 바로 가져갑니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomTaskEnqueued(LiveblocksRoomTaskEnqueuedEvent event) {
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${liveblocks.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        if (!pollLock.tryLock()) {
+            return;
+        }
+        try {
+            int idleThreads = liveblocksRoomDispatchExecutor.getMaxPoolSize() - liveblocksRoomDispatchExecutor.getActiveCount();
+            if (idleThreads <= 0) {
+                return;
+            }
+
+            int batchSize = Math.max(1, outboxProperties.getBatchSize());
+            List<PendingRoomTask> tasks = outboxService.claimTasks(workerId, idleThreads * batchSize);
+            for (int from = 0; from < tasks.size(); from += batchSize) {
+                dispatch(tasks.subList(from, Math.min(tasks.size(), from + batchSize)));
+            }
+        } catch (Exception e) {
+            log.error("Liveblocks 방 작업 polling 중 오류 발생 - workerId: {}, errorMessage: {}", workerId, e.getMessage(), e);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void dispatch(List<PendingRoomTask> tasks) {
+        List<PendingRoomTask> slice = List.copyOf(tasks);
+        try {
+            liveblocksRoomDispatchExecutor.execute(() -> run(slice));
+        } catch (RejectedExecutionException e) {
+            log.warn("Liveblocks 방 작업 실행기 포화로 작업을 반환합니다 - tasks: {}", slice.size());
+            slice.forEach(task -> outboxService.release(task.taskId(), workerId));
+        }
+    }
+
+    private void run(List<PendingRoomTask> tasks) {
+        List<TaskResult> results = Flux.fromIterable(tasks)
+                .flatMap(task -> send(task)
+                        .then(Mono.fromSupplier(() -> new TaskResult(task, null)))
+                        .onErrorResume(e -> Mono.just(new TaskResult(task, e))), tasks.size())
+                .collectList()
+                .block();
+
+        // 요청 성공 후 결과 저장이 실패해도 lease 만료 뒤 다시 보내면 되므로(생성은 idempotent, 삭제는 404를 성공으로 처리) 예외만 남김
+        try {
+            outboxService.completeAll(results.stream()
+                    .filter(TaskResult::succeeded)
+                    .map(result -> result.task().taskId())
+                    .toList(), workerId);
+        } catch (RuntimeException e) {
+            log.error("Liveblocks 방 작업 결과 저장 실패 - tasks: {}, errorMessage: {}", tasks.size(), e.getMessage(), e);
+        }
+
+        for (TaskResult result : results) {
+            if (result.succeeded()) {
+                record(result.task(), "done");
+            } else {
+                failed(result.task(), result.error());
+            }
+        }
+    }
+
+    private Mono<Void> send(PendingRoomTask task) {
+        return switch (task.type()) {
+            // 토큰을 받은 클라이언트가 먼저 접속하면 Liveblocks가 metadata 없이 방을 만들고,
+            // idempotent 생성은 그 방을 그대로 돌려주므로 metadata가 빠져 있으면 채워 넣음
+            case CREATE_ROOM -> liveblocksClient.createRoom(task.roomId(), task.metadata())
+                    .flatMap(room -> hasMetadata(room, task.metadata())
+                            ? Mono.<Void>empty()
+                            : liveblocksClient.updateRoom(task.roomId(), task.metadata()))
+                    .then();
+            // 이미 지워진 방(정리 작업이 먼저 지웠거나 생성에 실패한 방)이면 삭제된 것으로 봄
+            case DELETE_ROOM -> liveblocksClient.deleteRoom(task.roomId())
+                    .onErrorResume(LiveblocksApiException.class,
+                            e -> e.isNotFound() ? Mono.empty() : Mono.error(e));
+        };
+    }
+
+    // 응답의 metadata 값은 문자열 또는 문자열 배열
+    private static boolean hasMetadata(Map<String, Object> room, Map<String, Object> expected) {
+        if (expected == null || expected.isEmpty()) {
+            return true;
+        }
+        if (!(room.get("metadata") instanceof Map<?, ?> metadata)) {
+            return false;
+        }
+        return expected.entrySet().stream().allMatch(entry -> {
+            Object actual = metadata.get(entry.getKey());
+            return actual instanceof List<?> values ? values.contains(entry.getValue()) : entry.getValue().equals(actual);
+        });
+    }
+
+    private void failed(PendingRoomTask task, Throwable e) {
+        // 네트워크 오류나 타임아웃은 상태 코드가 없으므로 다시 시도
+        boolean retryable = !(e instanceof LiveblocksApiException apiException) || apiException.isRetryable();
+        log.warn("Liveblocks 방 작업 오류 - taskId: {}, type: {}, roomId: {}, retryable: {}, errorType: {}, errorMessage: {}",
+                task.taskId(), task.type(), task.roomId(), retryable, e.getClass().getSimpleName(), e.getMessage());
+        try {
+            outboxService.fail(task.taskId(), workerId, e.getMessage(), retryable);
+        } catch (RuntimeException saveError) {
+            log.error("Liveblocks 방 작업 실패 기록 실패 - taskId: {}, errorMessage: {}", task.taskId(), saveError.getMessage(), saveError);
+        }
+        record(task, retryable ? "retry" : "rejected");
+    }
+
+    private void record(PendingRoomTask task, String result) {
+        meterRegistry.counter("liveblocks.room.tasks", "type", task.type().name(), "result", result).increment();
+    }
+
+    private static String resolveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private record TaskResult(PendingRoomTask task, Throwable error) {
+
+        boolean succeeded() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.spreado.domain.liveblocks.application;
+
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksOutboxProperties;
+import com.example.spreado.domain.liveblocks.core.entity.LiveblocksRoomTask;
+import com.example.spreado.domain.liveblocks.core.entity.LiveblocksRoomTaskType;
+import com.example.spreado.domain.liveblocks.core.repository.LiveblocksRoomTaskRepository;
+import com.example.spreado.domain.meeting.core.entity.Meeting;
+import com.example.spreado.domain.meeting.core.util.RoomIdPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * liveblocks_room_tasks 테이블 기반의 방 생성/삭제 대기열.
+ * 회의 생성/종료 트랜잭션은 작업을 기록만 하고, 실제 Liveblocks 호출은 커밋 이후 LiveblocksRoomDispatcher가 보냅니다.
+ * 트랜잭션이 롤백되면 작업도 함께 사라지므로 DB와 Liveblocks가 어긋나지 않습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class LiveblocksRoomOutboxService {
+
+    private final LiveblocksRoomTaskRepository roomTaskRepository;
+    private final RoomIdPolicy roomIdPolicy;
+    private final LiveblocksOutboxProperties outboxProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void enqueueCreateRoom(Meeting meeting) {
+        roomTaskRepository.save(LiveblocksRoomTask.createRoom(
+                meeting.getId(), roomIdPolicy.toRoomId(meeting), roomMetadata(meeting), outboxProperties.getMaxAttempts()));
+        eventPublisher.publishEvent(new LiveblocksRoomTaskEnqueuedEvent(meeting.getId()));
+    }
+
+    @Transactional
+    public void enqueueDeleteRoom(Meeting meeting) {
+        roomTaskRepository.save(LiveblocksRoomTask.deleteRoom(
+                meeting.getId(), roomIdPolicy.toRoomId(meeting), outboxProperties.getMaxAttempts()));
+        eventPublisher.publishEvent(new LiveblocksRoomTaskEnqueuedEvent(meeting.getId()));
+    }
+
+    /**
+     * 실행할 작업을 최대 limit개 점유합니다.
+     * 커밋 이후 이벤트 리스너에서도 호출되므로 항상 새 트랜잭션으로 실행합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PendingRoomTask> claimTasks(String workerId, int limit) {
+        List<LiveblocksRoomTask> tasks = roomTaskRepository.lockRunnableTasks(limit);
+        tasks.forEach(task -> task.claim(workerId, outboxProperties.getLease()));
+        return tasks.stream()
+                .map(task -> new PendingRoomTask(task.getId(), task.getType(), task.getRoomId(), task.getMetadata()))
+                .toList();
+    }
+
+    @Transactional
+    public void completeAll(Collection<Long> taskIds, String workerId) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        int completed = roomTaskRepository.completeAll(taskIds, workerId, OffsetDateTime.now());
+        if (completed < taskIds.size()) {
+            // lease가 만료되어 다른 워커가 가져간 작업이면 결과를 덮어쓰지 않음
+            log.warn("점유하지 않은 방 작업 결과 무시 - workerId: {}, tasks: {}, completed: {}", workerId, taskIds.size(), completed);
+        }
+    }
+
+    @Transactional
+    public void fail(Long taskId, String workerId, String error, boolean retryable) {
+        findOwnedTask(taskId, workerId).ifPresent(task -> {
+            task.fail(error, retryable, backoff(task.getAttempts()));
+            log.warn("Liveblocks 방 작업 실패 - taskId: {}, type: {}, roomId: {}, attempts: {}/{}, status: {}, nextRunAt: {}",
+                    taskId, task.getType(), task.getRoomId(), task.getAttempts(), task.getMaxAttempts(), task.getStatus(), task.getNextRunAt());
+        });
+    }
+
+    @Transactional
+    public void release(Long taskId, String workerId) {
+        findOwnedTask(taskId, workerId).ifPresent(LiveblocksRoomTask::release);
+    }
+
+    /**
+     * 처리 도중 종료된 인스턴스가 남긴 RUNNING 작업을 다시 대기 상태로 돌립니다.
+     */
+    @Transactional
+    public int requeueExpiredLeases() {
+        return roomTaskRepository.requeueExpiredLeases(OffsetDateTime.now());
+    }
+
+    /**
+     * 방 생성 요청이 아직 대기 중이거나 재시도 중인 회의 ID. 이 회의들은 방이 없어도 곧 생길 수 있습니다.
+     */
+    public Set<Long> findMeetingIdsAwaitingRoom(Collection<Long> meetingIds) {
+        return roomTaskRepository.findMeetingIdsWithPendingType(meetingIds, LiveblocksRoomTaskType.CREATE_ROOM);
+    }
+
+    private Optional<LiveblocksRoomTask> findOwnedTask(Long taskId, String workerId) {
+        return roomTaskRepository.findById(taskId)
+                .filter(task -> {
+                    if (task.isLockedBy(workerId)) {
+                        return true;
+                    }
+                    log.warn("점유하지 않은 방 작업 결과 무시 - taskId: {}, workerId: {}, lockedBy: {}",
+                            taskId, workerId, task.getLockedBy());
+                    return false;
+                });
+    }
+
+    // 메타데이터에 groupId/meetingId를 넣어 두면 대시보드/검색과 방 정리(LiveblocksReconciler)에서 회의를 찾을 수 있음
+    private Map<String, Object> roomMetadata(Meeting meeting) {
+        return Map.of(
+                "groupId", String.valueOf(meeting.getGroup().getId()),
+                "meetingId", String.valueOf(meeting.getId())
+        );
+    }
+
+    /**
+     * 지수 backoff (initial * 2^(attempts-1), 최대 maxBackoff)에 ±20% jitter를 적용합니다.
+     */
+    private Duration backoff(int attempts) {
+        long initialMillis = outboxProperties.getInitialBackoff().toMillis();
+        long maxMillis = outboxProperties.getMaxBackoff().toMillis();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(initialMillis << exponent, maxMillis);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+
+    public record PendingRoomTask(Long taskId, LiveblocksRoomTaskType type, String roomId, Map<String, Object> metadata) {
+    }
+
+    public record LiveblocksRoomTaskEnqueuedEvent(Long meetingId) {
+    }
+}
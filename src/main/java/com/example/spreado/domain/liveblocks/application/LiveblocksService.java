@@ -2,11 +2,14 @@ package com.example.spreado.domain.liveblocks.application;
 
 import com.example.spreado.domain.group.core.entity.GroupMember;
 import com.example.spreado.domain.group.core.repository.GroupMemberRepository;
+import com.example.spreado.domain.liveblocks.application.client.LiveblocksClient;
+import com.example.spreado.domain.liveblocks.application.support.TreeRecordingJsonParser;
 import com.example.spreado.domain.meeting.core.entity.Meeting;
 import com.example.spreado.domain.meeting.core.entity.MeetingStatus;
 import com.example.spreado.domain.meeting.core.repository.MeetingJoinRepository;
 import com.example.spreado.domain.meeting.core.repository.MeetingRepository;
 import com.example.spreado.domain.meeting.core.util.RoomIdPolicy;
+import com.example.spreado.domain.summary.application.SummaryDocumentPreprocessor;
 import com.example.spreado.domain.user.core.entity.User;
 import com.example.spreado.domain.user.core.repository.UserRepository;
 import com.example.spreado.global.shared.exception.ForbiddenException;
@@ -14,41 +17,81 @@ import com.example.spreado.global.shared.exception.NotFoundException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatusCode;
-import org.springframework.http.MediaType;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
-import java.util.HashMap;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
-
+import java.util.Optional;
+
+/**
+ * 회의 권한을 확인하고 LiveblocksClient 호출 결과를 기다려 반환합니다.
+ * 트랜잭션 없이 실행되므로 결과를 기다리는 동안 DB 연결을 잡고 있지 않습니다 (방 생성/삭제는 LiveblocksRoomOutboxService).
+ * 회의 종료 시의 스토리지도 회의를 잠그기 전에 트랜잭션 밖에서 받습니다 (MeetingEndService).
+ * 요청 스레드는 가상 스레드(spring.threads.virtual.enabled)라 기다리는 동안 OS 스레드도 잡고 있지 않습니다.
+ * 기다리는 시간은 webclient.* 의 연결/응답 타임아웃으로 제한됩니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class LiveblocksService {
 
-    private final WebClient defaultWebClient;
+    // 파서가 읽는 동안 미리 받아 둘 DataBuffer 수
+    private static final int STORAGE_PREFETCH_BUFFERS = 2;
+
+    private final LiveblocksClient liveblocksClient;
     private final MeetingRepository meetingRepository;
     private final RoomIdPolicy roomIdPolicy;
     private final MeetingJoinRepository meetingJoinRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
+    private final SummaryDocumentPreprocessor documentPreprocessor;
+    private final LiveblocksTokenCache tokenCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @Value("${LIVEBLOCKS_API_BASE}")
-    private String apiBaseUrl;
+    /**
+     * 권한은 요청마다 확인하고, 재접속이 잦으므로 같은 내용으로 발급한 토큰이 아직 유효하면 발급 요청 없이 그대로 돌려줍니다.
+     */
+    public Map<String, Object> getToken(Long meetingId, Long userId) {
+        TokenRequest tokenRequest = prepareToken(meetingId, userId);
+        Optional<Map<String, Object>> cached = tokenCache.get(tokenRequest.roomId(), tokenRequest.userId(), tokenRequest.userInfo());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-    @Value("${LIVEBLOCKS_SECRET}")
-    private String secret;
+        Map<String, Object> token = issueClientToken(tokenRequest).block();
+        if (token != null) {
+            tokenCache.put(tokenRequest.roomId(), tokenRequest.userId(), tokenRequest.userInfo(), token);
+        }
+        return token;
+    }
 
-    public Map<String, Object> getToken(Long meetingId, Long userId) {
+    /**
+     * 방 스토리지를 스트리밍으로 받아 노트 content에 넣을 트리와 요약용 본문을 한 번의 파싱으로 만듭니다.
+     * 응답은 DataBuffer 조각 단위로 읽자마자 파서에 넘기고 놓아주므로, 원본 JSON 전체를 메모리에 올리지 않고 크기 제한도 없습니다.
+     */
+    public StorageSnapshot fetchStorageSnapshot(String roomId) {
+        InputStream body = DataBufferUtils.subscriberInputStream(liveblocksClient.streamStorage(roomId), STORAGE_PREFETCH_BUFFERS);
+
+        try (TreeRecordingJsonParser parser = new TreeRecordingJsonParser(objectMapper.createParser(body), objectMapper.getNodeFactory())) {
+            String plainText = documentPreprocessor.toPlainTextFromStorage(parser);
+            JsonNode storage = parser.tree();
+            if (storage == null) {
+                throw new IllegalStateException("Liveblocks storage is empty (roomId=" + roomId + ")");
+            }
+            return new StorageSnapshot(storage, plainText);
+        } catch (IOException e) {
+            // WebClient 오류(상태 코드 등)는 스트림 읽기 오류로 감싸져 전달되므로 원래 예외로 되돌림
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to parse Liveblocks storage JSON (roomId="
+                    + roomId + "): " + e.getMessage());
+        }
+    }
+
+    private TokenRequest prepareToken(Long meetingId, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("해당 사용자를 찾을 수 없습니다."));
 
@@ -66,138 +109,26 @@ public class LiveblocksService {
             throw new ForbiddenException("해당 회의에 참여 중인 사용자가 아닙니다.");
         }
 
-        String roomId = roomIdPolicy.toRoomId(meeting);
-
         Map<String, Object> userInfo = Map.of(
                 "id", "User#" + userId,
                 "name", user.getName(),
                 "role", myMembership.getRole().name()
         );
 
-        Map<String, Object> tokenJson = this.issueClientToken(
-                roomId,
-                String.valueOf(userId),
-                userInfo
-        );
-
-        return tokenJson;
+        return new TokenRequest(meeting, roomIdPolicy.toRoomId(meeting), String.valueOf(userId), userInfo);
     }
 
-    public JsonNode fetchStorageJson(String roomId) {
-        String json = this.fetchStorageJsonRaw(roomId);
-        try {
-            return objectMapper.readTree(json);
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to parse Liveblocks storage JSON (roomId="
-                    + roomId + "): " + e.getMessage());
-        }
+    private Mono<Map<String, Object>> issueClientToken(TokenRequest tokenRequest) {
+        return liveblocksClient.authorizeUser(tokenRequest.roomId(), tokenRequest.userId(), tokenRequest.userInfo());
     }
 
-    public Map<String, Object> createRoomForMeeting(Long meetingId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new NotFoundException("해당 회의를 찾을 수 없습니다."));
-
-        String roomId = roomIdPolicy.toRoomId(meeting);
-
-        // 필요한 경우 메타데이터에 groupId/meetingId 등 넣어두면 대시보드/검색에서 편함
-        Map<String, Object> metadata = Map.of(
-                "groupId", String.valueOf(meeting.getGroup().getId()),
-                "meetingId", String.valueOf(meeting.getId())
-        );
-
-        return createRoom(roomId, metadata);
-    }
-
-    public void deleteRoomForMeeting(Long meetingId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new NotFoundException("해당 회의를 찾을 수 없습니다."));
-
-        String roomId = roomIdPolicy.toRoomId(meeting);
-        deleteRoom(roomId);
-    }
-
-    private Map<String, Object> issueClientToken(String roomId, String userId, Map<String, Object> userInfo) {
-        String url = apiBaseUrl + "/v2/authorize-user";
-
-        Map<String, Object> payload = new HashMap<>();
-        if (userId != null) payload.put("userId", userId);
-        if (userInfo != null && !userInfo.isEmpty()) payload.put("userInfo", userInfo);
-
-        Map<String, List<String>> permissions = new HashMap<>();
-        permissions.put(roomId, List.of("room:write"));
-
-        payload.put("permissions", permissions);
-
-        return defaultWebClient.post()
-                .uri(url)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + secret)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(payload)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-    }
-
-    private String fetchStorageJsonRaw(String roomId) {
-        String url = apiBaseUrl + "/v2/rooms/" + roomId + "/storage?format=json";
-        return defaultWebClient.get()
-                .uri(URI.create(url))   // String 대신 URI.create 사용 권장
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + secret)
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-    }
-
-    private Map<String, Object> createRoom(String roomId, Map<String, Object> metadata) {
-        String url = apiBaseUrl + "/v2/rooms?idempotent=true";
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("id", roomId);
-        // private room으로 두고 access token(permissions)으로만 입장 제어
-        body.put("defaultAccesses", List.of());
-
-        if (metadata != null && !metadata.isEmpty()) {
-            body.put("metadata", metadata);
-        }
-
-        return defaultWebClient.post()
-                .uri(url)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + secret)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(body)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, clientResponse ->
-                        clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> Mono.error(new IllegalStateException(
-                                        "Failed to create Liveblocks room. " +
-                                                "roomId=" + roomId +
-                                                ", status=" + clientResponse.statusCode() +
-                                                ", body=" + errorBody
-                                )))
-                )
-                .bodyToMono(Map.class)
-                .block();
+    /**
+     * @param storage   스토리지 JSON 트리 (노트 content의 data 값)
+     * @param plainText 요약용 본문, 회의록 구조를 찾지 못했으면 null
+     */
+    public record StorageSnapshot(JsonNode storage, String plainText) {
     }
 
-    private void deleteRoom(String roomId) {
-        String encodedRoomId = URLEncoder.encode(roomId, StandardCharsets.UTF_8);
-        String url = apiBaseUrl + "/v2/rooms/" + encodedRoomId;
-
-        defaultWebClient.delete()
-                .uri(URI.create(url))
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + secret)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, clientResponse ->
-                        clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> Mono.error(new IllegalStateException(
-                                        "Failed to delete Liveblocks room. " +
-                                                "roomId=" + roomId +
-                                                ", status=" + clientResponse.statusCode() +
-                                                ", body=" + errorBody
-                                )))
-                )
-                .toBodilessEntity()
-                .block();
+    private record TokenRequest(Meeting meeting, String roomId, String userId, Map<String, Object> userInfo) {
     }
 }
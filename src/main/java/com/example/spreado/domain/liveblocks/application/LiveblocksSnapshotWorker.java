@@ -0,0 +1,125 @@
+package com.example.spreado.domain.liveblocks.application;
+
+import com.example.spreado.domain.liveblocks.application.LiveblocksService.StorageSnapshot;
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksWebhookProperties;
+import com.example.spreado.domain.meeting.core.util.RoomIdPolicy;
+import com.example.spreado.domain.note.core.service.NoteDraftService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 회의 중 스토리지 변경 웹훅을 방별로 모아 두었다가 스냅샷을 받아 note_drafts에 저장합니다.
+ * 첫 변경 후 debounce 만큼 기다렸다 한 번 받고, 받는 동안 다시 변경되면 다음 스냅샷을 예약하므로
+ * 편집이 계속되어도 debounce 간격으로 초안이 갱신됩니다.
+ * 스냅샷마다 스토리지 전체를 받으므로, debounce는 초안을 읽는 중간 요약(LiveSummaryWorker) 주기보다 짧게 두지 않습니다.
+ * 회의 종료 시에는 초안과 관계없이 스토리지 전체를 다시 받습니다 (finalSnapshot).
+ */
+@Slf4j
+@Component
+public class LiveblocksSnapshotWorker {
+
+    private final LiveblocksService liveblocksService;
+    private final NoteDraftService noteDraftService;
+    private final RoomIdPolicy roomIdPolicy;
+    private final LiveblocksWebhookProperties webhookProperties;
+    private final TaskScheduler taskScheduler;
+    private final ThreadPoolTaskExecutor liveblocksSnapshotExecutor;
+    // 스냅샷이 예약되어 아직 시작하지 않은 방
+    private final Set<String> scheduledRooms = ConcurrentHashMap.newKeySet();
+
+    public LiveblocksSnapshotWorker(LiveblocksService liveblocksService,
+                                    NoteDraftService noteDraftService,
+                                    RoomIdPolicy roomIdPolicy,
+                                    LiveblocksWebhookProperties webhookProperties,
+                                    TaskScheduler taskScheduler,
+                                    @Qualifier("liveblocksSnapshotExecutor") ThreadPoolTaskExecutor liveblocksSnapshotExecutor) {
+        this.liveblocksService = liveblocksService;
+        this.noteDraftService = noteDraftService;
+        this.roomIdPolicy = roomIdPolicy;
+        this.webhookProperties = webhookProperties;
+        this.taskScheduler = taskScheduler;
+        this.liveblocksSnapshotExecutor = liveblocksSnapshotExecutor;
+    }
+
+    public void onStorageUpdated(String roomId) {
+        Long meetingId = roomIdPolicy.toMeetingId(roomId);
+        if (meetingId == null) {
+            log.debug("회의 방이 아닌 스토리지 변경 웹훅은 무시합니다. roomId={}", roomId);
+            return;
+        }
+
+        // 종료되었거나 없는 회의면 기록하지 않음
+        if (!noteDraftService.markStorageUpdated(meetingId)) {
+            return;
+        }
+
+        if (scheduledRooms.add(roomId)) {
+            taskScheduler.schedule(() -> submit(meetingId, roomId), Instant.now().plus(webhookProperties.getDebounce()));
+        }
+    }
+
+    /**
+     * 회의 종료 시 노트로 남길 스토리지를 받아 옵니다.
+     * 웹훅은 늦게 오거나 유실될 수 있어 초안이 최신인지 확신할 수 없으므로, 초안은 쓰지 않고 항상 스토리지를 받습니다.
+     * 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 호출하고, 아직 시작하지 않은 스냅샷 예약은 취소합니다.
+     */
+    public StorageSnapshot finalSnapshot(String roomId) {
+        scheduledRooms.remove(roomId);
+        return liveblocksService.fetchStorageSnapshot(roomId);
+    }
+
+    /**
+     * 최종 스토리지를 노트로 남긴 회의의 초안을 호출한 트랜잭션 안에서 지웁니다.
+     */
+    public void discardDraft(Long meetingId) {
+        noteDraftService.delete(meetingId);
+    }
+
+    /**
+     * 방이 이미 없어 스토리지를 받을 수 없을 때 회의 중 마지막으로 받아 둔 초안을 꺼냅니다. 초안은 호출한 트랜잭션 안에서 지웁니다.
+     */
+    public Optional<StorageSnapshot> lastDraft(Long meetingId, String roomId) {
+        scheduledRooms.remove(roomId);
+
+        Optional<StorageSnapshot> snapshot = noteDraftService.findLatest(meetingId)
+                .map(draft -> new StorageSnapshot(draft.getContent(), draft.getPlainText()));
+
+        noteDraftService.delete(meetingId);
+        return snapshot;
+    }
+
+    private void submit(Long meetingId, String roomId) {
+        try {
+            liveblocksSnapshotExecutor.execute(() -> takeSnapshot(meetingId, roomId));
+        } catch (RejectedExecutionException e) {
+            scheduledRooms.remove(roomId);
+            log.warn("스냅샷 대기열이 가득 차 다음 변경 때 다시 시도합니다. roomId={}", roomId);
+        }
+    }
+
+    private void takeSnapshot(Long meetingId, String roomId) {
+        // 여기부터 들어오는 변경은 이번 스냅샷에 없을 수 있으므로 다음 스냅샷으로 예약되도록 먼저 해제
+        // (이미 해제되어 있으면 회의가 종료된 것)
+        if (!scheduledRooms.remove(roomId)) {
+            return;
+        }
+        OffsetDateTime startedAt = OffsetDateTime.now();
+
+        try {
+            StorageSnapshot snapshot = liveblocksService.fetchStorageSnapshot(roomId);
+            noteDraftService.saveSnapshot(meetingId, snapshot.storage(), snapshot.plainText(), startedAt);
+        } catch (RuntimeException e) {
+            log.warn("회의록 스냅샷을 받지 못했습니다. roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.spreado.domain.liveblocks.application;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksTokenCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 발급한 Liveblocks 접근 토큰(authorize-user 응답)을 잠시 보관해 재접속 시 발급 요청 없이 돌려줍니다.
+ * 권한 확인은 캐시와 관계없이 요청마다 하고, 여기에는 토큰에 들어가는 값(방 ID, 사용자 ID, userInfo)을 키로 응답만 둡니다.
+ * 이름이나 역할이 바뀌면 키가 달라져 새로 발급하므로 인스턴스 간 무효화가 필요 없습니다.
+ * 항목은 토큰 자체의 exp에서 refreshMargin을 뺀 시각까지만 사용합니다.
+ */
+@Component
+public class LiveblocksTokenCache {
+
+    private static final String METRIC_NAME = "liveblocks.token.cache";
+
+    private final LiveblocksTokenCacheProperties properties;
+    private final Map<TokenKey, CachedToken> tokens;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public LiveblocksTokenCache(LiveblocksTokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tokens = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TokenKey, CachedToken> eldest) {
+                return size() > properties.getMaxEntries();
+            }
+        });
+
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", tokens, Map::size)
+                .register(meterRegistry);
+    }
+
+    public Optional<Map<String, Object>> get(String roomId, String userId, Map<String, Object> userInfo) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        TokenKey key = new TokenKey(roomId, userId, userInfo);
+        CachedToken cached = tokens.get(key);
+        if (cached != null && Instant.now().isBefore(cached.refreshAt())) {
+            hitCounter.increment();
+            return Optional.of(cached.response());
+        }
+        if (cached != null) {
+            tokens.remove(key, cached);
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    public void put(String roomId, String userId, Map<String, Object> userInfo, Map<String, Object> response) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Instant refreshAt = refreshAt(response);
+        if (refreshAt == null || !Instant.now().isBefore(refreshAt)) {
+            return;
+        }
+
+        tokens.put(new TokenKey(roomId, userId, Map.copyOf(userInfo)),
+                new CachedToken(Collections.unmodifiableMap(new LinkedHashMap<>(response)), refreshAt));
+    }
+
+    private Instant refreshAt(Map<String, Object> response) {
+        Object token = response.get("token");
+        if (token == null) {
+            return null;
+        }
+
+        try {
+            Instant expiresAt = JWT.decode(token.toString()).getExpiresAtAsInstant();
+            return expiresAt == null ? null : expiresAt.minus(properties.getRefreshMargin());
+        } catch (JWTDecodeException e) {
+            // 형식을 알 수 없는 토큰은 만료 시각을 모르므로 저장하지 않음
+            return null;
+        }
+    }
+
+    private record TokenKey(String roomId, String userId, Map<String, Object> userInfo) {
+    }
+
+    private record CachedToken(Map<String, Object> response, Instant refreshAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.spreado.domain.liveblocks.application;
+
+import com.example.spreado.domain.liveblocks.application.support.LiveblocksWebhookVerifier;
+import com.example.spreado.global.shared.exception.BadRequestException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+/**
+ * Liveblocks 웹훅을 검증하고 이벤트 종류별로 넘깁니다. 지금은 storageUpdated만 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveblocksWebhookService {
+
+    private static final String STORAGE_UPDATED = "storageUpdated";
+
+    private final LiveblocksWebhookVerifier webhookVerifier;
+    private final LiveblocksSnapshotWorker snapshotWorker;
+    private final ObjectMapper objectMapper;
+
+    public void handle(String webhookId, String timestamp, String signature, byte[] body) {
+        webhookVerifier.verify(webhookId, timestamp, signature, body);
+
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new BadRequestException("웹훅 본문을 읽을 수 없습니다.");
+        }
+
+        String type = event.path("type").asText("");
+        if (!STORAGE_UPDATED.equals(type)) {
+            log.debug("처리하지 않는 웹훅입니다. type={}, webhookId={}", type, webhookId);
+            return;
+        }
+
+        String roomId = event.path("data").path("roomId").asText(null);
+        if (roomId == null) {
+            throw new BadRequestException("웹훅 본문에 roomId가 없습니다.");
+        }
+        snapshotWorker.onStorageUpdated(roomId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.spreado.domain.liveblocks.application.client;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Liveblocks REST API가 오류 상태 코드로 응답한 경우.
+ */
+@Getter
+public class LiveblocksApiException extends IllegalStateException {
+
+    private final HttpStatusCode statusCode;
+
+    public LiveblocksApiException(String message, HttpStatusCode statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public boolean isNotFound() {
+        return statusCode.value() == HttpStatus.NOT_FOUND.value();
+    }
+
+    /**
+     * 서버 오류나 요청 한도 초과처럼 잠시 뒤 다시 보내면 성공할 수 있는 응답인지 여부.
+     */
+    public boolean isRetryable() {
+        return statusCode.is5xxServerError()
+                || statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || statusCode.value() == HttpStatus.REQUEST_TIMEOUT.value();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.spreado.domain.liveblocks.application.client;
+
+import com.example.spreado.domain.liveblocks.application.client.dto.LiveblocksRoom;
+import com.example.spreado.domain.liveblocks.application.client.dto.LiveblocksRoomPage;
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Liveblocks REST API 호출. 모든 메서드는 요청을 구독할 때 보내는 Mono를 반환하며 스레드를 막지 않습니다.
+ * 트랜잭션 안에서 결과가 필요한 호출부는 LiveblocksService를 통해 기다립니다.
+ */
+@Component
+public class LiveblocksClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT = new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final String apiBaseUrl;
+
+    public LiveblocksClient(WebClient defaultWebClient, LiveblocksProperties liveblocksProperties) {
+        this.apiBaseUrl = liveblocksProperties.getApiBase();
+        this.webClient = defaultWebClient.mutate()
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + liveblocksProperties.getSecret())
+                .build();
+    }
+
+    public Mono<Map<String, Object>> authorizeUser(String roomId, String userId, Map<String, Object> userInfo) {
+        Map<String, Object> payload = new HashMap<>();
+        if (userId != null) payload.put("userId", userId);
+        if (userInfo != null && !userInfo.isEmpty()) payload.put("userInfo", userInfo);
+        payload.put("permissions", Map.of(roomId, List.of("room:write")));
+
+        return webClient.post()
+                .uri(apiBaseUrl + "/v2/authorize-user")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(payload)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, failure("issue Liveblocks token", roomId))
+                .bodyToMono(JSON_OBJECT);
+    }
+
+    /**
+     * 스토리지 본문을 받는 대로 DataBuffer 조각으로 흘려보냅니다. 메모리에 모으지 않으므로 maxInMemorySize 제한을 받지 않습니다.
+     * 구독자가 조각을 다 쓴 뒤 release 해야 합니다.
+     */
+    public Flux<DataBuffer> streamStorage(String roomId) {
+        return webClient.get()
+                .uri(URI.create(apiBaseUrl + "/v2/rooms/" + roomId + "/storage?format=json"))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, failure("fetch Liveblocks storage", roomId))
+                .bodyToFlux(DataBuffer.class);
+    }
+
+    /**
+     * 방 목록을 생성 순서대로 한 페이지씩 가져옵니다. startingAfter가 null이면 첫 페이지입니다.
+     */
+    public Mono<LiveblocksRoomPage> listRooms(String startingAfter, int limit) {
+        StringBuilder uri = new StringBuilder(apiBaseUrl).append("/v2/rooms?limit=").append(limit);
+        if (startingAfter != null) {
+            uri.append("&startingAfter=").append(URLEncoder.encode(startingAfter, StandardCharsets.UTF_8));
+        }
+
+        return webClient.get()
+                .uri(URI.create(uri.toString()))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, failure("list Liveblocks rooms", null))
+                .bodyToMono(JsonNode.class)
+                .map(this::toRoomPage);
+    }
+
+    public Mono<Integer> countActiveUsers(String roomId) {
+        String encodedRoomId = URLEncoder.encode(roomId, StandardCharsets.UTF_8);
+
+        return webClient.get()
+                .uri(URI.create(apiBaseUrl + "/v2/rooms/" + encodedRoomId + "/active_users"))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, failure("fetch Liveblocks active users", roomId))
+                .bodyToMono(JsonNode.class)
+                .map(body -> body.path("data").size());
+    }
+
+    public Mono<Map<String, Object>> createRoom(String roomId, Map<String, Object> metadata) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("id", roomId);
+        // private room으로 두고 access token(permissions)으로만 입장 제어
+        body.put("defaultAccesses", List.of());
+
+        if (metadata != null && !metadata.isEmpty()) {
+            body.put("metadata", metadata);
+        }
+
+        return webClient.post()
+                .uri(apiBaseUrl + "/v2/rooms?idempotent=true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, failure("create Liveblocks room", roomId))
+                .bodyToMono(JSON_OBJECT);
+    }
+
+    /**
+     * 이미 있는 방의 metadata와 접근 권한을 덮어씁니다.
+     */
+    public Mono<Void> updateRoom(String roomId, Map<String, Object> metadata) {
+        String encodedRoomId = URLEncoder.encode(roomId, StandardCharsets.UTF_8);
+        Map<String, Object> body = new HashMap<>();
+        body.put("defaultAccesses", List.of());
+        body.put("metadata", metadata);
+
+        return webClient.post()
+                .uri(URI.create(apiBaseUrl + "/v2/rooms/" + encodedRoomId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, failure("update Liveblocks room", roomId))
+                .toBodilessEntity()
+                .then();
+    }
+
+    public Mono<Void> deleteRoom(String roomId) {
+        String encodedRoomId = URLEncoder.encode(roomId, StandardCharsets.UTF_8);
+
+        return webClient.delete()
+                .uri(URI.create(apiBaseUrl + "/v2/rooms/" + encodedRoomId))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, failure("delete Liveblocks room", roomId))
+                .toBodilessEntity()
+                .then();
+    }
+
+    private LiveblocksRoomPage toRoomPage(JsonNode body) {
+        List<LiveblocksRoom> rooms = new ArrayList<>();
+        for (JsonNode room : body.path("data")) {
+            JsonNode metadata = room.path("metadata");
+            rooms.add(new LiveblocksRoom(
+                    room.path("id").asText(),
+                    metadataId(metadata.path("groupId")),
+                    metadataId(metadata.path("meetingId")),
+                    timestamp(room.path("createdAt")),
+                    timestamp(room.path("lastConnectionAt"))
+            ));
+        }
+
+        String nextCursor = body.path("nextCursor").asText(null);
+        return new LiveblocksRoomPage(rooms, nextCursor == null || nextCursor.isEmpty() ? null : nextCursor);
+    }
+
+    // metadata 값은 문자열 또는 문자열 배열
+    private static Long metadataId(JsonNode value) {
+        JsonNode text = value.isArray() ? value.path(0) : value;
+        try {
+            return text.isValueNode() ? Long.valueOf(text.asText()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static OffsetDateTime timestamp(JsonNode value) {
+        if (!value.isTextual()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value.asText());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private Function<ClientResponse, Mono<? extends Throwable>> failure(String action, String roomId) {
+        return clientResponse -> clientResponse.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(errorBody -> new LiveblocksApiException(
+                        "Failed to " + action + ". " +
+                                "roomId=" + roomId +
+                                ", status=" + clientResponse.statusCode() +
+                                ", body=" + errorBody,
+                        clientResponse.statusCode()
+                ));
+    }
+}
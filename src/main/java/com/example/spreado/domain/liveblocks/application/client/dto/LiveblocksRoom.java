@@ -0,0 +1,17 @@
+package com.example.spreado.domain.liveblocks.application.client.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 방 목록의 한 항목. groupId/meetingId는 방 생성 시 넣은 metadata 값이며 없으면 null입니다.
+ *
+ * @param lastConnectionAt 마지막으로 누군가 접속한 시각, 접속한 적이 없으면 null
+ */
+public record LiveblocksRoom(
+        String id,
+        Long groupId,
+        Long meetingId,
+        OffsetDateTime createdAt,
+        OffsetDateTime lastConnectionAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.spreado.domain.liveblocks.application.client.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지를 요청할 때 넘길 커서, 마지막 페이지면 null
+ */
+public record LiveblocksRoomPage(List<LiveblocksRoom> rooms, String nextCursor) {
+}
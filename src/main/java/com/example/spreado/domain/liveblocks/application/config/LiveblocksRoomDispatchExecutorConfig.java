@@ -0,0 +1,29 @@
+package com.example.spreado.domain.liveblocks.application.config;
+
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class LiveblocksRoomDispatchExecutorConfig {
+
+    private final LiveblocksOutboxProperties liveblocksOutboxProperties;
+
+    /**
+     * Liveblocks 방 생성/삭제 전용 실행기. 스레드 수만큼만 작업 묶음을 받습니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor liveblocksRoomDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(liveblocksOutboxProperties.getConcurrency());
+        executor.setMaxPoolSize(liveblocksOutboxProperties.getConcurrency());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("liveblocks-room-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.spreado.domain.liveblocks.application.config;
+
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksWebhookProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class LiveblocksSnapshotExecutorConfig {
+
+    private final LiveblocksWebhookProperties webhookProperties;
+
+    /**
+     * 회의 중 스토리지 스냅샷 전용 실행기. 스레드 수만큼만 동시에 받아 Liveblocks 호출과 메모리 사용을 제한합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor liveblocksSnapshotExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(webhookProperties.getConcurrency());
+        executor.setMaxPoolSize(webhookProperties.getConcurrency());
+        executor.setQueueCapacity(webhookProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("liveblocks-snapshot-");
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.spreado.domain.liveblocks.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "liveblocks.outbox")
+public class LiveblocksOutboxProperties {
+    // 동시에 작업 묶음을 처리하는 스레드 수
+    private int concurrency = 2;
+    // 스레드 하나가 한 번에 가져가 동시에 요청하는 최대 작업 수
+    private int batchSize = 20;
+    private int maxAttempts = 8;
+    private Duration lease = Duration.ofMinutes(2);
+    private Duration initialBackoff = Duration.ofSeconds(5);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+}
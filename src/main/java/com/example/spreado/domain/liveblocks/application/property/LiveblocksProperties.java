@@ -0,0 +1,15 @@
+package com.example.spreado.domain.liveblocks.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "liveblocks")
+public class LiveblocksProperties {
+    private String apiBase;
+    private String secret;
+}
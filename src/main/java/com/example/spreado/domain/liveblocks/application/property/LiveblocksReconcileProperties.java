@@ -0,0 +1,30 @@
+package com.example.spreado.domain.liveblocks.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "liveblocks.reconcile")
+public class LiveblocksReconcileProperties {
+    private boolean enabled = true;
+    // 정리 주기 (이전 실행이 끝난 뒤부터 계산)
+    private long pollIntervalMs = 600000;
+    // 방 목록 한 페이지 크기 (Liveblocks 최대 100)
+    private int pageSize = 100;
+    // 한 번 실행에서 읽을 최대 페이지 수 (다 읽지 못하면 방 없는 회의 정리는 건너뜀)
+    private int maxPages = 50;
+    // Liveblocks API 호출 한도 (분당)
+    private int requestsPerMinute = 60;
+    // 호출 한도로 기다릴 수 있는 최대 시간 (넘으면 이번 실행 중단)
+    private Duration maxWait = Duration.ofSeconds(10);
+    // 마지막 접속 후 이 시간이 지나고 접속자가 없으면 방치된 회의로 보고 종료
+    private Duration staleAfter = Duration.ofHours(12);
+    // 생성 직후의 방/회의는 아직 커밋 전일 수 있으므로 이 시간 동안은 정리하지 않음
+    private Duration gracePeriod = Duration.ofMinutes(10);
+}
@@ -0,0 +1,20 @@
+package com.example.spreado.domain.liveblocks.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "liveblocks.token-cache")
+public class LiveblocksTokenCacheProperties {
+    private boolean enabled = true;
+    // 메모리에 유지할 최대 토큰 수 (초과 시 가장 오래 사용되지 않은 항목 제거)
+    private int maxEntries = 10000;
+    // 토큰 만료(exp) 전 이 시간 안으로 들어오면 캐시에서 내주지 않고 새로 발급
+    private Duration refreshMargin = Duration.ofMinutes(5);
+}
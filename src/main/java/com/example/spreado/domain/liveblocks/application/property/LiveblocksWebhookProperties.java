@@ -0,0 +1,26 @@
+package com.example.spreado.domain.liveblocks.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "liveblocks.webhook")
+public class LiveblocksWebhookProperties {
+    // Liveblocks 대시보드의 웹훅 서명 키 (whsec_...). 비어 있으면 웹훅을 받지 않음
+    private String secret;
+    // 서명 시각(webhook-timestamp)과 서버 시각의 허용 차이
+    private Duration tolerance = Duration.ofMinutes(5);
+    // 첫 변경 웹훅을 받은 뒤 이만큼 모았다가 스냅샷을 한 번 받음
+    // 초안은 중간 요약(summary.live.poll-interval-ms)과 방이 사라진 회의의 노트에만 쓰이므로 그 주기에 맞춤
+    private Duration debounce = Duration.ofMinutes(5);
+    // 동시에 받을 수 있는 스냅샷 수
+    private int concurrency = 2;
+    // 실행을 기다리는 스냅샷 최대 수 (초과 시 다음 웹훅 때 다시 예약)
+    private int queueCapacity = 100;
+}
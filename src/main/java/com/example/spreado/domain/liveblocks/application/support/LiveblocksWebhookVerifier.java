@@ -0,0 +1,87 @@
+package com.example.spreado.domain.liveblocks.application.support;
+
+import com.example.spreado.domain.liveblocks.application.property.LiveblocksWebhookProperties;
+import com.example.spreado.global.shared.exception.ServiceUnavailableException;
+import com.example.spreado.global.shared.exception.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Liveblocks 웹훅 서명 검증.
+ * webhook-signature 헤더의 v1 서명은 "{webhook-id}.{webhook-timestamp}.{본문}"을 서명 키로 HMAC-SHA256 한 값(Base64)이며,
+ * 오래된 요청을 다시 보내는 경우를 막기 위해 서명 시각도 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveblocksWebhookVerifier {
+
+    private static final String SECRET_PREFIX = "whsec_";
+    private static final String SIGNATURE_VERSION = "v1,";
+
+    private final LiveblocksWebhookProperties webhookProperties;
+
+    public void verify(String webhookId, String timestamp, String signatureHeader, byte[] body) {
+        String secret = webhookProperties.getSecret();
+        if (!StringUtils.hasText(secret)) {
+            throw new ServiceUnavailableException("웹훅 서명 키가 설정되어 있지 않습니다.");
+        }
+        if (!StringUtils.hasText(webhookId) || !StringUtils.hasText(timestamp) || !StringUtils.hasText(signatureHeader)) {
+            throw new UnauthorizedException("웹훅 서명 헤더가 없습니다.");
+        }
+
+        verifyTimestamp(timestamp);
+
+        byte[] expected = sign(secret, webhookId, timestamp, body);
+        for (String candidate : signatureHeader.split(" ")) {
+            if (!candidate.startsWith(SIGNATURE_VERSION)) {
+                continue;
+            }
+            byte[] signature;
+            try {
+                signature = Base64.getDecoder().decode(candidate.substring(SIGNATURE_VERSION.length()));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (MessageDigest.isEqual(expected, signature)) {
+                return;
+            }
+        }
+        throw new UnauthorizedException("웹훅 서명이 올바르지 않습니다.");
+    }
+
+    private void verifyTimestamp(String timestamp) {
+        long signedAt;
+        try {
+            signedAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            throw new UnauthorizedException("웹훅 서명 시각이 올바르지 않습니다.");
+        }
+
+        Duration skew = Duration.between(Instant.ofEpochSecond(signedAt), Instant.now()).abs();
+        if (skew.compareTo(webhookProperties.getTolerance()) > 0) {
+            throw new UnauthorizedException("웹훅 서명 시각이 허용 범위를 벗어났습니다.");
+        }
+    }
+
+    private byte[] sign(String secret, String webhookId, String timestamp, byte[] body) {
+        String encodedKey = secret.startsWith(SECRET_PREFIX) ? secret.substring(SECRET_PREFIX.length()) : secret;
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Base64.getDecoder().decode(encodedKey), "HmacSHA256"));
+            mac.update((webhookId + "." + timestamp + ".").getBytes(StandardCharsets.UTF_8));
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("웹훅 서명 키가 올바르지 않습니다.", e);
+        }
+    }
+}
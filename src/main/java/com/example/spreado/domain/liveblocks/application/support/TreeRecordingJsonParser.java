@@ -0,0 +1,117 @@
+package com.example.spreado.domain.liveblocks.application.support;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 읽어 가는 토큰으로 JsonNode 트리를 함께 만드는 파서.
+ * 다른 코드가 이 파서로 문서를 한 번 읽는 동안 같은 문서의 트리가 만들어지므로, 원본을 따로 버퍼링하거나 다시 파싱하지 않습니다.
+ * skipChildren으로 건너뛴 값도 트리에 남도록 토큰 단위로 읽으며, 다 읽은 뒤 tree()로 결과를 가져옵니다.
+ */
+public class TreeRecordingJsonParser extends JsonParserDelegate {
+
+    private final JsonNodeFactory nodeFactory;
+    private final Deque<ContainerNode<?>> containers = new ArrayDeque<>();
+    private String fieldName;
+    private JsonNode root;
+
+    public TreeRecordingJsonParser(JsonParser delegate, JsonNodeFactory nodeFactory) {
+        super(delegate);
+        this.nodeFactory = nodeFactory;
+    }
+
+    /**
+     * 최상위 값을 끝까지 읽었을 때의 트리. 아직 다 읽지 않았으면 null입니다.
+     */
+    public JsonNode tree() {
+        return containers.isEmpty() ? root : null;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken token = delegate.nextToken();
+        if (token != null) {
+            record(token);
+        }
+        return token;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+    }
+
+    @Override
+    public JsonParser skipChildren() throws IOException {
+        JsonToken current = currentToken();
+        if (current != JsonToken.START_OBJECT && current != JsonToken.START_ARRAY) {
+            return this;
+        }
+
+        int depth = 1;
+        while (depth > 0) {
+            JsonToken token = nextToken();
+            if (token == null) {
+                return this;
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        }
+        return this;
+    }
+
+    private void record(JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT -> {
+                ObjectNode object = nodeFactory.objectNode();
+                attach(object);
+                containers.push(object);
+            }
+            case START_ARRAY -> {
+                ArrayNode array = nodeFactory.arrayNode();
+                attach(array);
+                containers.push(array);
+            }
+            case END_OBJECT, END_ARRAY -> containers.pop();
+            case FIELD_NAME -> fieldName = delegate.currentName();
+            case VALUE_STRING -> attach(nodeFactory.textNode(delegate.getText()));
+            case VALUE_NUMBER_INT -> attach(switch (delegate.getNumberType()) {
+                case INT -> nodeFactory.numberNode(delegate.getIntValue());
+                case LONG -> nodeFactory.numberNode(delegate.getLongValue());
+                default -> nodeFactory.numberNode(delegate.getBigIntegerValue());
+            });
+            case VALUE_NUMBER_FLOAT -> attach(nodeFactory.numberNode(delegate.getDoubleValue()));
+            case VALUE_TRUE -> attach(nodeFactory.booleanNode(true));
+            case VALUE_FALSE -> attach(nodeFactory.booleanNode(false));
+            case VALUE_NULL -> attach(nodeFactory.nullNode());
+            case VALUE_EMBEDDED_OBJECT -> attach(nodeFactory.pojoNode(delegate.getEmbeddedObject()));
+            default -> {
+            }
+        }
+    }
+
+    private void attach(JsonNode node) {
+        ContainerNode<?> parent = containers.peek();
+        if (parent == null) {
+            root = node;
+        } else if (parent instanceof ObjectNode object) {
+            object.set(fieldName, node);
+        } else {
+            ((ArrayNode) parent).add(node);
+        }
+    }
+}
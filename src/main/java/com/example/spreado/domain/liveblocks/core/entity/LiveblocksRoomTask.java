@@ -0,0 +1,157 @@
+package com.example.spreado.domain.liveblocks.core.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+@Entity
+@Table(name = "liveblocks_room_tasks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LiveblocksRoomTask {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    @Column(name = "room_id", nullable = false, length = 200)
+    private String roomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LiveblocksRoomTaskType type;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "metadata", columnDefinition = "jsonb")
+    private Map<String, Object> metadata;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LiveblocksRoomTaskStatus status = LiveblocksRoomTaskStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "max_attempts", nullable = false)
+    private int maxAttempts;
+
+    @Column(name = "next_run_at", nullable = false)
+    private OffsetDateTime nextRunAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "lease_expires_at")
+    private OffsetDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private OffsetDateTime completedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        OffsetDateTime now = OffsetDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    public static LiveblocksRoomTask createRoom(Long meetingId, String roomId, Map<String, Object> metadata, int maxAttempts) {
+        LiveblocksRoomTask task = create(meetingId, roomId, LiveblocksRoomTaskType.CREATE_ROOM, maxAttempts);
+        task.metadata = metadata;
+        return task;
+    }
+
+    public static LiveblocksRoomTask deleteRoom(Long meetingId, String roomId, int maxAttempts) {
+        return create(meetingId, roomId, LiveblocksRoomTaskType.DELETE_ROOM, maxAttempts);
+    }
+
+    private static LiveblocksRoomTask create(Long meetingId, String roomId, LiveblocksRoomTaskType type, int maxAttempts) {
+        LiveblocksRoomTask task = new LiveblocksRoomTask();
+        task.meetingId = meetingId;
+        task.roomId = roomId;
+        task.type = type;
+        task.maxAttempts = maxAttempts;
+        task.nextRunAt = OffsetDateTime.now();
+        return task;
+    }
+
+    /**
+     * 워커가 작업을 점유합니다. lease가 만료되면 다른 워커가 다시 가져갈 수 있습니다.
+     */
+    public void claim(String workerId, Duration leaseDuration) {
+        this.status = LiveblocksRoomTaskStatus.RUNNING;
+        this.attempts++;
+        this.lockedBy = workerId;
+        this.leaseExpiresAt = OffsetDateTime.now().plus(leaseDuration);
+    }
+
+    /**
+     * 실행기에 제출하지 못한 작업을 시도 횟수 차감 없이 대기 상태로 되돌립니다.
+     */
+    public void release() {
+        this.status = LiveblocksRoomTaskStatus.PENDING;
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+    }
+
+    public void succeed() {
+        this.status = LiveblocksRoomTaskStatus.DONE;
+        this.completedAt = OffsetDateTime.now();
+        this.lastError = null;
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+    }
+
+    /**
+     * 실패를 기록합니다. 재시도 가능하고 시도 횟수가 남아 있으면 backoff 이후로 다시 예약합니다.
+     */
+    public void fail(String error, boolean retryable, Duration backoff) {
+        this.lastError = truncate(error);
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+
+        if (retryable && attempts < maxAttempts) {
+            this.status = LiveblocksRoomTaskStatus.PENDING;
+            this.nextRunAt = OffsetDateTime.now().plus(backoff);
+        } else {
+            this.status = LiveblocksRoomTaskStatus.FAILED;
+        }
+    }
+
+    public boolean isLockedBy(String workerId) {
+        return status == LiveblocksRoomTaskStatus.RUNNING && workerId.equals(lockedBy);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.spreado.domain.liveblocks.core.entity;
+
+public enum LiveblocksRoomTaskStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
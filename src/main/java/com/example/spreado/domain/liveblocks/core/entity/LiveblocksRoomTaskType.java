@@ -0,0 +1,6 @@
+package com.example.spreado.domain.liveblocks.core.entity;
+
+public enum LiveblocksRoomTaskType {
+    CREATE_ROOM,
+    DELETE_ROOM
+}
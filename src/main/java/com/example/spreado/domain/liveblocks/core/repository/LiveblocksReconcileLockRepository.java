@@ -0,0 +1,85 @@
+package com.example.spreado.domain.liveblocks.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 방 정리가 실행되도록 PostgreSQL 세션 advisory lock을 잡습니다.
+ * 정리는 Liveblocks 호출을 기다리며 오래 걸리므로 트랜잭션 대신 전용 커넥션 하나에 잠금을 걸고, 끝나면 풀고 반환합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveblocksReconcileLockRepository {
+
+    private static final String LOCK_NAME = "liveblocks-reconcile";
+
+    private final DataSource dataSource;
+
+    /**
+     * @return 다른 인스턴스가 이미 잡고 있으면 비어 있음
+     */
+    public Optional<ReconcileLock> tryLock() {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+            if (execute(connection, "SELECT pg_try_advisory_lock(hashtext(?))")) {
+                return Optional.of(new ReconcileLock(connection));
+            }
+            connection.close();
+            return Optional.empty();
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException("방 정리 잠금을 잡지 못했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean execute(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // 잠금을 얻지 못한 커넥션이므로 반환 실패는 무시
+        }
+    }
+
+    /**
+     * 잡은 잠금. close 하면 잠금을 풀고 커넥션을 풀에 돌려줍니다.
+     */
+    public static class ReconcileLock implements AutoCloseable {
+
+        private final Connection connection;
+
+        private ReconcileLock(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void close() {
+            try (connection) {
+                // 세션 잠금은 커넥션이 풀로 돌아가도 남으므로 반드시 직접 풂
+                execute(connection, "SELECT pg_advisory_unlock(hashtext(?))");
+            } catch (SQLException e) {
+                throw new IllegalStateException("방 정리 잠금을 풀지 못했습니다: " + e.getMessage(), e);
+            }
+        }
+    }
+}
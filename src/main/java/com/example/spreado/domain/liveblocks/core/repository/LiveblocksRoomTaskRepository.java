@@ -0,0 +1,121 @@
+package com.example.spreado.domain.liveblocks.core.repository;
+
+import com.example.spreado.domain.liveblocks.core.entity.LiveblocksRoomTask;
+import com.example.spreado.domain.liveblocks.core.entity.LiveblocksRoomTaskStatus;
+import com.example.spreado.domain.liveblocks.core.entity.LiveblocksRoomTaskType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class LiveblocksRoomTaskRepository {
+
+    private final EntityManager em;
+
+    public LiveblocksRoomTask save(LiveblocksRoomTask task) {
+        em.persist(task);
+        return task;
+    }
+
+    public Optional<LiveblocksRoomTask> findById(Long id) {
+        return em.createQuery("SELECT t FROM LiveblocksRoomTask t WHERE t.id = :id", LiveblocksRoomTask.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    public List<LiveblocksRoomTask> findAllByIds(List<Long> ids) {
+        return em.createQuery("""
+                        SELECT t FROM LiveblocksRoomTask t
+                        WHERE t.id IN :ids
+                        ORDER BY t.id
+                        """, LiveblocksRoomTask.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    /**
+     * 실행할 작업을 잠그고 가져옵니다.
+     * SKIP LOCKED로 다른 인스턴스가 이미 잠근 행은 건너뛰고, lease가 만료된 RUNNING 작업도 함께 회수합니다.
+     * 같은 방에 먼저 등록된 작업이 아직 끝나지 않았으면 건너뛰어 방 생성보다 삭제가 먼저 나가지 않게 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<LiveblocksRoomTask> lockRunnableTasks(int limit) {
+        return em.createNativeQuery("""
+                        SELECT * FROM liveblocks_room_tasks t
+                        WHERE ((t.status = 'PENDING' AND t.next_run_at <= NOW())
+                           OR (t.status = 'RUNNING' AND t.lease_expires_at < NOW()))
+                          AND NOT EXISTS (
+                              SELECT 1 FROM liveblocks_room_tasks prev
+                              WHERE prev.room_id = t.room_id
+                                AND prev.id < t.id
+                                AND prev.status IN ('PENDING', 'RUNNING')
+                          )
+                        ORDER BY t.next_run_at
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED
+                        """, LiveblocksRoomTask.class)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    /**
+     * 이 워커가 점유한 작업을 한 번에 완료 처리합니다. lease가 만료되어 다른 워커가 가져간 작업은 건드리지 않습니다.
+     */
+    public int completeAll(Collection<Long> ids, String workerId, OffsetDateTime now) {
+        return em.createQuery("""
+                        UPDATE LiveblocksRoomTask t
+                        SET t.status = :done, t.completedAt = :now, t.lastError = NULL,
+                            t.lockedBy = NULL, t.leaseExpiresAt = NULL, t.updatedAt = :now
+                        WHERE t.id IN :ids AND t.status = :running AND t.lockedBy = :workerId
+                        """)
+                .setParameter("done", LiveblocksRoomTaskStatus.DONE)
+                .setParameter("running", LiveblocksRoomTaskStatus.RUNNING)
+                .setParameter("ids", ids)
+                .setParameter("workerId", workerId)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    public int requeueExpiredLeases(OffsetDateTime now) {
+        return em.createQuery("""
+                        UPDATE LiveblocksRoomTask t
+                        SET t.status = :pending, t.lockedBy = NULL, t.leaseExpiresAt = NULL,
+                            t.nextRunAt = :now, t.updatedAt = :now
+                        WHERE t.status = :running AND t.leaseExpiresAt < :now
+                        """)
+                .setParameter("pending", LiveblocksRoomTaskStatus.PENDING)
+                .setParameter("running", LiveblocksRoomTaskStatus.RUNNING)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    /**
+     * 주어진 회의 중 type 작업이 아직 끝나지 않은(대기 중이거나 재시도 중인) 회의 ID를 반환합니다.
+     */
+    public Set<Long> findMeetingIdsWithPendingType(Collection<Long> meetingIds, LiveblocksRoomTaskType type) {
+        if (meetingIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> ids = em.createQuery("""
+                        SELECT DISTINCT t.meetingId FROM LiveblocksRoomTask t
+                        WHERE t.meetingId IN :meetingIds
+                          AND t.type = :type
+                          AND t.status IN :statuses
+                        """, Long.class)
+                .setParameter("meetingIds", meetingIds)
+                .setParameter("type", type)
+                .setParameter("statuses", List.of(LiveblocksRoomTaskStatus.PENDING, LiveblocksRoomTaskStatus.RUNNING))
+                .getResultList();
+        return new HashSet<>(ids);
+    }
+}
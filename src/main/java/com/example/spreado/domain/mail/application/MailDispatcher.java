@@ -0,0 +1,227 @@
+package com.example.spreado.domain.mail.application;
+
+import com.example.spreado.domain.mail.application.MailOutboxService.MailEnqueuedEvent;
+import com.example.spreado.domain.mail.application.MailOutboxService.PendingMail;
+import com.example.spreado.domain.mail.application.property.MailOutboxProperties;
+import com.example.spreado.domain.mail.application.support.SmtpTransportPool;
+import com.example.spreado.domain.mail.application.support.SmtpTransportPool.PooledTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * mail_deliveries 테이블을 polling 하여 메일을 발송하는 워커.
+ * 가져온 작업을 발송 스레드 수만큼 나누고, 스레드마다 SMTP 연결 하나로 이어서 보냅니다.
+ * 실패는 수신자별로 기록해 해당 수신자만 backoff 후 다시 보냅니다.
+ * 발송은 최소 한 번(at-least-once)을 보장합니다. 발송 후 결과 저장이 끝내 실패하면 lease 만료 뒤 같은 메일이 다시 발송될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    // 발송 결과 저장 재시도 횟수와 간격 (시도마다 간격만큼 더 기다림)
+    private static final int COMPLETE_ATTEMPTS = 3;
+    private static final long COMPLETE_RETRY_DELAY_MS = 200;
+
+    private final MailOutboxService mailOutboxService;
+    private final SmtpTransportPool transportPool;
+    private final JavaMailSenderImpl mailSender;
+    private final MailOutboxProperties mailOutboxProperties;
+    private final ThreadPoolTaskExecutor mailDispatchExecutor;
+    private final MeterRegistry meterRegistry;
+    private final String workerId;
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public MailDispatcher(MailOutboxService mailOutboxService,
+                          SmtpTransportPool transportPool,
+                          JavaMailSenderImpl mailSender,
+                          MailOutboxProperties mailOutboxProperties,
+                          @Qualifier("mailDispatchExecutor") ThreadPoolTaskExecutor mailDispatchExecutor,
+                          MeterRegistry meterRegistry) {
+        this.mailOutboxService = mailOutboxService;
+        this.transportPool = transportPool;
+        this.mailSender = mailSender;
+        this.mailOutboxProperties = mailOutboxProperties;
+        this.mailDispatchExecutor = mailDispatchExecutor;
+        this.meterRegistry = meterRegistry;
+        this.workerId = resolveWorkerId();
+    }
+
+    /**
+     * 이전 실행에서 발송 중 종료되어 lease가 만료된 작업을 다시 대기 상태로 돌립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverExpiredLeases() {
+        int recovered = mailOutboxService.requeueExpiredLeases();
+        if (recovered > 0) {
+            log.info("만료된 메일 발송 작업 {}건을 다시 대기열에 등록했습니다.", recovered);
+        }
+    }
+
+    /**
+     * 메일이 등록된 트랜잭션이 커밋되면 다음 polling을 기다리지 않고 바로 가져갑니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMailEnqueued(MailEnqueuedEvent event) {
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        if (!pollLock.tryLock()) {
+            return;
+        }
+        try {
+            int idleThreads = mailDispatchExecutor.getMaxPoolSize() - mailDispatchExecutor.getActiveCount();
+            if (idleThreads <= 0) {
+                return;
+            }
+
+            int batchSize = Math.max(1, mailOutboxProperties.getBatchSize());
+            List<Long> deliveryIds = mailOutboxService.claimDeliveries(workerId, idleThreads * batchSize);
+            for (int from = 0; from < deliveryIds.size(); from += batchSize) {
+                dispatch(deliveryIds.subList(from, Math.min(deliveryIds.size(), from + batchSize)));
+            }
+        } catch (Exception e) {
+            log.error("메일 발송 작업 polling 중 오류 발생 - workerId: {}, errorMessage: {}", workerId, e.getMessage(), e);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void dispatch(List<Long> deliveryIds) {
+        List<Long> slice = List.copyOf(deliveryIds);
+        try {
+            mailDispatchExecutor.execute(() -> send(slice));
+        } catch (RejectedExecutionException e) {
+            log.warn("메일 발송 실행기 포화로 작업을 반환합니다 - deliveries: {}", slice.size());
+            slice.forEach(deliveryId -> mailOutboxService.release(deliveryId, workerId));
+        }
+    }
+
+    private void send(List<Long> deliveryIds) {
+        List<PendingMail> mails = mailOutboxService.getPendingMails(deliveryIds);
+        PooledTransport pooled = null;
+
+        for (PendingMail mail : mails) {
+            boolean sent = false;
+            try {
+                if (pooled == null) {
+                    pooled = transportPool.borrow();
+                }
+                MimeMessage message = createMessage(mail);
+                pooled.transport().sendMessage(message, message.getAllRecipients());
+                sent = true;
+            } catch (SendFailedException e) {
+                // 서버가 수신자를 거부한 경우 연결은 그대로 사용
+                boolean invalidRecipient = e.getInvalidAddresses() != null && e.getInvalidAddresses().length > 0;
+                failed(mail, e, !invalidRecipient);
+            } catch (AddressException e) {
+                failed(mail, e, false);
+            } catch (MessagingException | RuntimeException e) {
+                // 연결 문제일 수 있으므로 다음 메일은 새 연결로 보냄
+                if (pooled != null) {
+                    transportPool.release(pooled, true);
+                    pooled = null;
+                }
+                failed(mail, e, true);
+            }
+
+            // 결과 저장 오류를 발송 오류로 기록하면 backoff 후 바로 다시 보내므로 발송 오류와 분리
+            if (sent) {
+                record("sent");
+                complete(mail);
+            }
+        }
+
+        if (pooled != null) {
+            transportPool.release(pooled, false);
+        }
+    }
+
+    /**
+     * 발송 결과를 저장합니다. 일시적인 DB 오류로 다시 발송되지 않도록 몇 번 더 시도하고,
+     * 끝내 실패하면 lease 만료 뒤 다시 발송됩니다.
+     */
+    private void complete(PendingMail mail) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                mailOutboxService.complete(mail.deliveryId(), workerId);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= COMPLETE_ATTEMPTS) {
+                    log.error("메일 발송 결과 저장 실패, lease 만료 후 다시 발송될 수 있습니다 - deliveryId: {}, errorMessage: {}",
+                            mail.deliveryId(), e.getMessage(), e);
+                    record("complete_failed");
+                    return;
+                }
+                log.warn("메일 발송 결과 저장 재시도 - deliveryId: {}, attempt: {}, errorMessage: {}",
+                        mail.deliveryId(), attempt, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(COMPLETE_RETRY_DELAY_MS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("메일 발송 결과 저장 중단, lease 만료 후 다시 발송될 수 있습니다 - deliveryId: {}", mail.deliveryId());
+                return;
+            }
+        }
+    }
+
+    private MimeMessage createMessage(PendingMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        if (StringUtils.hasText(mailSender.getUsername())) {
+            helper.setFrom(mailSender.getUsername());
+        }
+        helper.setTo(mail.recipient());
+        helper.setSubject(mail.subject());
+        helper.setText(mail.htmlBody(), true);
+        helper.setSentDate(new Date());
+        message.saveChanges();
+        return message;
+    }
+
+    private void failed(PendingMail mail, Exception e, boolean retryable) {
+        log.warn("메일 발송 오류 - deliveryId: {}, retryable: {}, errorType: {}, errorMessage: {}",
+                mail.deliveryId(), retryable, e.getClass().getSimpleName(), e.getMessage());
+        mailOutboxService.fail(mail.deliveryId(), workerId, e.getMessage(), retryable);
+        record(retryable ? "retry" : "rejected");
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("mail.deliveries", "result", result).increment();
+    }
+
+    private static String resolveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.spreado.domain.mail.application;
+
+import com.example.spreado.domain.mail.application.property.MailOutboxProperties;
+import com.example.spreado.domain.mail.core.entity.MailDelivery;
+import com.example.spreado.domain.mail.core.entity.MailMessage;
+import com.example.spreado.domain.mail.core.repository.MailDeliveryRepository;
+import com.example.spreado.domain.mail.core.repository.MailMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * mail_messages / mail_deliveries 테이블 기반의 메일 발송 대기열.
+ * 요청 스레드는 메일을 저장만 하고 바로 반환하며, 실제 발송은 MailDispatcher가 수신자별로 처리합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailMessageRepository mailMessageRepository;
+    private final MailDeliveryRepository mailDeliveryRepository;
+    private final MailOutboxProperties mailOutboxProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 메일을 수신자별 발송 작업으로 등록합니다.
+     * dedupKey가 있으면 dedup-window 안에 같은 키로 등록된 메일이 있을 때 다시 등록하지 않습니다.
+     * 호출한 트랜잭션이 커밋된 뒤 발송 워커를 깨웁니다.
+     */
+    @Transactional
+    public MailEnqueueResult enqueue(String dedupKey, String subject, String htmlBody, List<String> recipients) {
+        Set<String> normalized = normalize(recipients);
+        if (normalized.isEmpty()) {
+            return new MailEnqueueResult(null, List.of(), false);
+        }
+
+        if (dedupKey != null) {
+            mailMessageRepository.lockDedupKey(dedupKey);
+            OffsetDateTime since = OffsetDateTime.now().minus(mailOutboxProperties.getDedupWindow());
+            if (mailMessageRepository.existsByDedupKeySince(dedupKey, since)) {
+                log.info("중복 메일 요청 무시 - dedupKey: {}", dedupKey);
+                return new MailEnqueueResult(null, List.copyOf(normalized), true);
+            }
+        }
+
+        MailMessage message = mailMessageRepository.save(MailMessage.create(dedupKey, subject, htmlBody));
+        for (String recipient : normalized) {
+            mailDeliveryRepository.save(MailDelivery.create(message, recipient, mailOutboxProperties.getMaxAttempts()));
+        }
+
+        eventPublisher.publishEvent(new MailEnqueuedEvent(message.getId()));
+        return new MailEnqueueResult(message.getId(), List.copyOf(normalized), false);
+    }
+
+    /**
+     * 발송할 작업을 최대 limit개 점유합니다.
+     * 커밋 이후 이벤트 리스너에서도 호출되므로 항상 새 트랜잭션으로 실행합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> claimDeliveries(String workerId, int limit) {
+        List<MailDelivery> deliveries = mailDeliveryRepository.lockSendableDeliveries(limit);
+        deliveries.forEach(delivery -> delivery.claim(workerId, mailOutboxProperties.getLease()));
+        return deliveries.stream()
+                .map(MailDelivery::getId)
+                .toList();
+    }
+
+    public List<PendingMail> getPendingMails(List<Long> deliveryIds) {
+        return mailDeliveryRepository.findAllWithMessageByIds(deliveryIds).stream()
+                .map(delivery -> new PendingMail(
+                        delivery.getId(),
+                        delivery.getRecipient(),
+                        delivery.getMessage().getSubject(),
+                        delivery.getMessage().getHtmlBody()
+                ))
+                .toList();
+    }
+
+    @Transactional
+    public void complete(Long deliveryId, String workerId) {
+        findOwnedDelivery(deliveryId, workerId).ifPresent(MailDelivery::succeed);
+    }
+
+    @Transactional
+    public void fail(Long deliveryId, String workerId, String error, boolean retryable) {
+        findOwnedDelivery(deliveryId, workerId).ifPresent(delivery -> {
+            delivery.fail(error, retryable, backoff(delivery.getAttempts()));
+            log.warn("메일 발송 실패 - deliveryId: {}, attempts: {}/{}, status: {}, nextRunAt: {}",
+                    deliveryId, delivery.getAttempts(), delivery.getMaxAttempts(), delivery.getStatus(), delivery.getNextRunAt());
+        });
+    }
+
+    @Transactional
+    public void release(Long deliveryId, String workerId) {
+        findOwnedDelivery(deliveryId, workerId).ifPresent(MailDelivery::release);
+    }
+
+    /**
+     * 발송 도중 종료된 인스턴스가 남긴 SENDING 작업을 다시 대기 상태로 돌립니다.
+     */
+    @Transactional
+    public int requeueExpiredLeases() {
+        return mailDeliveryRepository.requeueExpiredLeases(OffsetDateTime.now());
+    }
+
+    private Optional<MailDelivery> findOwnedDelivery(Long deliveryId, String workerId) {
+        return mailDeliveryRepository.findById(deliveryId)
+                .filter(delivery -> {
+                    if (delivery.isLockedBy(workerId)) {
+                        return true;
+                    }
+                    // lease가 만료되어 다른 워커가 가져간 작업이면 결과를 덮어쓰지 않음
+                    log.warn("점유하지 않은 메일 발송 결과 무시 - deliveryId: {}, workerId: {}, lockedBy: {}",
+                            deliveryId, workerId, delivery.getLockedBy());
+                    return false;
+                });
+    }
+
+    private Set<String> normalize(List<String> recipients) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String recipient : recipients) {
+            if (StringUtils.hasText(recipient)) {
+                normalized.add(recipient.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * 지수 backoff (initial * 2^(attempts-1), 최대 maxBackoff)에 ±20% jitter를 적용합니다.
+     */
+    private Duration backoff(int attempts) {
+        long initialMillis = mailOutboxProperties.getInitialBackoff().toMillis();
+        long maxMillis = mailOutboxProperties.getMaxBackoff().toMillis();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(initialMillis << exponent, maxMillis);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+
+    /**
+     * @param messageId  등록된 메일 ID (중복이거나 수신자가 없으면 null)
+     * @param duplicate  dedup-window 안에 같은 메일이 이미 등록되어 있어 무시했는지 여부
+     */
+    public record MailEnqueueResult(Long messageId, List<String> recipients, boolean duplicate) {
+    }
+
+    public record PendingMail(Long deliveryId, String recipient, String subject, String htmlBody) {
+    }
+
+    public record MailEnqueuedEvent(Long messageId) {
+    }
+}
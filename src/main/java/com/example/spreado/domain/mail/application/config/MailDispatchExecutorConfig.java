@@ -0,0 +1,29 @@
+package com.example.spreado.domain.mail.application.config;
+
+import com.example.spreado.domain.mail.application.property.MailOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class MailDispatchExecutorConfig {
+
+    private final MailOutboxProperties mailOutboxProperties;
+
+    /**
+     * 메일 발송 전용 실행기. 스레드 수만큼만 작업을 받아 SMTP 연결 수를 제한합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mailDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailOutboxProperties.getConcurrency());
+        executor.setMaxPoolSize(mailOutboxProperties.getConcurrency());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("mail-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.spreado.domain.mail.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mail.outbox")
+public class MailOutboxProperties {
+    // 동시에 발송하는 스레드 수 (스레드마다 SMTP 연결 하나를 유지)
+    private int concurrency = 2;
+    // 스레드 하나가 같은 연결로 이어서 보내는 최대 메일 수
+    private int batchSize = 20;
+    private int maxAttempts = 5;
+    private Duration lease = Duration.ofMinutes(2);
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+    // 같은 요약 메일 반복 요청을 무시하는 기간
+    private Duration dedupWindow = Duration.ofMinutes(10);
+    // 이 시간 넘게 쓰지 않은 SMTP 연결은 닫고 새로 연결
+    private Duration transportMaxIdle = Duration.ofSeconds(60);
+}
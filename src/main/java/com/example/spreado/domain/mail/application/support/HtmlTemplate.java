@@ -0,0 +1,92 @@
+package com.example.spreado.domain.mail.application.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 한 번 파싱해 둔 메일 HTML 템플릿.
+ * 템플릿을 고정 조각과 {{이름}} 자리로 나누고 고정 조각은 미리 잘라 둡니다.
+ * 렌더링할 때는 고정 조각을 복사하고 자리 값만 HtmlWriter로 이스케이프해 기록합니다.
+ * 자리 값은 이름이 아니라 템플릿에 나온 순서대로 전달합니다.
+ */
+public final class HtmlTemplate {
+
+    private static final String SLOT_OPEN = "{{";
+    private static final String SLOT_CLOSE = "}}";
+
+    private final String name;
+    // fragments.length == slotNames.length + 1, 값 i는 fragments[i]와 fragments[i + 1] 사이에 들어감
+    private final String[] fragments;
+    private final String[] slotNames;
+    private final int fragmentLength;
+
+    private HtmlTemplate(String name, String[] fragments, String[] slotNames) {
+        this.name = name;
+        this.fragments = fragments;
+        this.slotNames = slotNames;
+
+        int length = 0;
+        for (String fragment : fragments) {
+            length += fragment.length();
+        }
+        this.fragmentLength = length;
+    }
+
+    public static HtmlTemplate compile(String name, String source) {
+        List<String> fragments = new ArrayList<>();
+        List<String> slotNames = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(SLOT_OPEN, position)) >= 0) {
+            int close = source.indexOf(SLOT_CLOSE, open + SLOT_OPEN.length());
+            if (close < 0) {
+                throw new IllegalStateException("메일 템플릿 " + name + "에 닫히지 않은 자리가 있습니다. (위치: " + open + ")");
+            }
+            fragments.add(source.substring(position, open));
+            slotNames.add(source.substring(open + SLOT_OPEN.length(), close).strip());
+            position = close + SLOT_CLOSE.length();
+        }
+        fragments.add(source.substring(position));
+
+        return new HtmlTemplate(name, fragments.toArray(String[]::new), slotNames.toArray(String[]::new));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int slotCount() {
+        return slotNames.length;
+    }
+
+    /**
+     * 고정 조각의 문자 수. 버퍼 크기를 잡을 때 씁니다.
+     */
+    public int fragmentLength() {
+        return fragmentLength;
+    }
+
+    public void renderTo(HtmlWriter out, String... values) {
+        if (values.length != slotNames.length) {
+            throw new IllegalArgumentException("메일 템플릿 " + name + "의 값 수가 맞지 않습니다. (필요: "
+                    + String.join(", ", slotNames) + ", 전달: " + values.length + ")");
+        }
+
+        out.write(fragments[0]);
+        for (int i = 0; i < values.length; i++) {
+            out.writeEscaped(values[i]).write(fragments[i + 1]);
+        }
+    }
+
+    public String render(String... values) {
+        int estimated = fragmentLength;
+        for (String value : values) {
+            estimated += value == null ? 0 : value.length();
+        }
+
+        HtmlWriter out = new HtmlWriter(estimated);
+        renderTo(out, values);
+        return out.toString();
+    }
+}
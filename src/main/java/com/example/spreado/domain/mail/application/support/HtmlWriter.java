@@ -0,0 +1,56 @@
+package com.example.spreado.domain.mail.application.support;
+
+/**
+ * 메일 본문 HTML을 기록하는 버퍼.
+ * 고정 조각은 그대로 복사하고, 값은 이스케이프가 필요 없는 구간을 한 번에 복사하면서 한 번의 순회로 이스케이프합니다.
+ * 스레드 안전하지 않으므로 렌더링마다 새로 만들어 씁니다.
+ */
+public final class HtmlWriter {
+
+    private final StringBuilder buffer;
+
+    public HtmlWriter(int initialCapacity) {
+        this.buffer = new StringBuilder(Math.max(64, initialCapacity));
+    }
+
+    public HtmlWriter write(String fragment) {
+        buffer.append(fragment);
+        return this;
+    }
+
+    /**
+     * &, <, >, ", ' 를 엔티티로 바꿔 기록합니다. null은 빈 문자열로 취급합니다.
+     */
+    public HtmlWriter writeEscaped(String value) {
+        if (value == null) {
+            return this;
+        }
+
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String entity = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (entity != null) {
+                buffer.append(value, start, i).append(entity);
+                start = i + 1;
+            }
+        }
+        buffer.append(value, start, value.length());
+        return this;
+    }
+
+    public int length() {
+        return buffer.length();
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+}
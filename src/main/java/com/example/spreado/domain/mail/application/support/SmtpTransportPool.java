@@ -0,0 +1,90 @@
+package com.example.spreado.domain.mail.application.support;
+
+import com.example.spreado.domain.mail.application.property.MailOutboxProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 연결해 둔 SMTP Transport를 재사용합니다.
+ * JavaMailSender.send는 호출마다 연결과 TLS/인증을 새로 하므로, 발송 스레드가 연결을 빌려 여러 메일을 보낸 뒤 반납합니다.
+ * 오래 쉬었거나 서버가 끊은 연결은 빌려줄 때 확인해 새로 연결합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final MailOutboxProperties mailOutboxProperties;
+    private final ConcurrentLinkedDeque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+
+    public PooledTransport borrow() throws MessagingException {
+        long maxIdleNanos = mailOutboxProperties.getTransportMaxIdle().toNanos();
+
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            // isConnected는 NOOP으로 연결 상태를 확인
+            if (System.nanoTime() - pooled.releasedAt < maxIdleNanos && pooled.transport.isConnected()) {
+                return pooled;
+            }
+            close(pooled);
+        }
+        return connect();
+    }
+
+    /**
+     * 발송 중 연결 오류가 있었으면 broken으로 반납해 닫습니다.
+     */
+    public void release(PooledTransport pooled, boolean broken) {
+        if (broken) {
+            close(pooled);
+            return;
+        }
+        pooled.releasedAt = System.nanoTime();
+        idle.offerFirst(pooled);
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(
+                mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp");
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        return new PooledTransport(transport);
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패 - errorMessage: {}", e.getMessage());
+        }
+    }
+
+    public static final class PooledTransport {
+
+        private final Transport transport;
+        private long releasedAt;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        public Transport transport() {
+            return transport;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.spreado.domain.mail.core.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "mail_deliveries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailDelivery {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "message_id", nullable = false)
+    private MailMessage message;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailDeliveryStatus status = MailDeliveryStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "max_attempts", nullable = false)
+    private int maxAttempts;
+
+    @Column(name = "next_run_at", nullable = false)
+    private OffsetDateTime nextRunAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "lease_expires_at")
+    private OffsetDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private OffsetDateTime sentAt;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        OffsetDateTime now = OffsetDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    public static MailDelivery create(MailMessage message, String recipient, int maxAttempts) {
+        MailDelivery delivery = new MailDelivery();
+        delivery.message = message;
+        delivery.recipient = recipient;
+        delivery.maxAttempts = maxAttempts;
+        delivery.nextRunAt = OffsetDateTime.now();
+        return delivery;
+    }
+
+    /**
+     * 워커가 발송 작업을 점유합니다. lease가 만료되면 다른 워커가 다시 가져갈 수 있습니다.
+     */
+    public void claim(String workerId, Duration leaseDuration) {
+        this.status = MailDeliveryStatus.SENDING;
+        this.attempts++;
+        this.lockedBy = workerId;
+        this.leaseExpiresAt = OffsetDateTime.now().plus(leaseDuration);
+    }
+
+    /**
+     * 실행기에 제출하지 못한 작업을 시도 횟수 차감 없이 대기 상태로 되돌립니다.
+     */
+    public void release() {
+        this.status = MailDeliveryStatus.PENDING;
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+    }
+
+    public void succeed() {
+        this.status = MailDeliveryStatus.SENT;
+        this.sentAt = OffsetDateTime.now();
+        this.lastError = null;
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+    }
+
+    /**
+     * 실패를 기록합니다. 재시도 가능하고 시도 횟수가 남아 있으면 backoff 이후로 다시 예약합니다.
+     */
+    public void fail(String error, boolean retryable, Duration backoff) {
+        this.lastError = truncate(error);
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+
+        if (retryable && attempts < maxAttempts) {
+            this.status = MailDeliveryStatus.PENDING;
+            this.nextRunAt = OffsetDateTime.now().plus(backoff);
+        } else {
+            this.status = MailDeliveryStatus.FAILED;
+        }
+    }
+
+    public boolean isLockedBy(String workerId) {
+        return status == MailDeliveryStatus.SENDING && workerId.equals(lockedBy);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.spreado.domain.mail.core.entity;
+
+public enum MailDeliveryStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,45 @@
+package com.example.spreado.domain.mail.core.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "mail_messages")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 같은 메일의 반복 요청을 묶는 키 (중복 확인이 필요 없으면 null)
+    @Column(name = "dedup_key", length = 200)
+    private String dedupKey;
+
+    @Column(nullable = false, length = 500)
+    private String subject;
+
+    @Column(name = "html_body", columnDefinition = "text", nullable = false)
+    private String htmlBody;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public static MailMessage create(String dedupKey, String subject, String htmlBody) {
+        MailMessage message = new MailMessage();
+        message.dedupKey = dedupKey;
+        message.subject = subject;
+        message.htmlBody = htmlBody;
+        return message;
+    }
+}
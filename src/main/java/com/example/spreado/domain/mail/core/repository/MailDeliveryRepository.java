@@ -0,0 +1,72 @@
+package com.example.spreado.domain.mail.core.repository;
+
+import com.example.spreado.domain.mail.core.entity.MailDelivery;
+import com.example.spreado.domain.mail.core.entity.MailDeliveryStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class MailDeliveryRepository {
+
+    private final EntityManager em;
+
+    public MailDelivery save(MailDelivery delivery) {
+        em.persist(delivery);
+        return delivery;
+    }
+
+    public Optional<MailDelivery> findById(Long id) {
+        return em.createQuery("SELECT d FROM MailDelivery d WHERE d.id = :id", MailDelivery.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    public List<MailDelivery> findAllWithMessageByIds(List<Long> ids) {
+        return em.createQuery("""
+                        SELECT d FROM MailDelivery d
+                        JOIN FETCH d.message
+                        WHERE d.id IN :ids
+                        ORDER BY d.id
+                        """, MailDelivery.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    /**
+     * 발송할 작업을 잠그고 가져옵니다.
+     * SKIP LOCKED로 다른 인스턴스가 이미 잠근 행은 건너뛰고, lease가 만료된 SENDING 작업도 함께 회수합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<MailDelivery> lockSendableDeliveries(int limit) {
+        return em.createNativeQuery("""
+                        SELECT * FROM mail_deliveries
+                        WHERE (status = 'PENDING' AND next_run_at <= NOW())
+                           OR (status = 'SENDING' AND lease_expires_at < NOW())
+                        ORDER BY next_run_at
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED
+                        """, MailDelivery.class)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    public int requeueExpiredLeases(OffsetDateTime now) {
+        return em.createQuery("""
+                        UPDATE MailDelivery d
+                        SET d.status = :pending, d.lockedBy = NULL, d.leaseExpiresAt = NULL,
+                            d.nextRunAt = :now, d.updatedAt = :now
+                        WHERE d.status = :sending AND d.leaseExpiresAt < :now
+                        """)
+                .setParameter("pending", MailDeliveryStatus.PENDING)
+                .setParameter("sending", MailDeliveryStatus.SENDING)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
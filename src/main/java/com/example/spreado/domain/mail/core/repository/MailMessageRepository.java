@@ -0,0 +1,41 @@
+package com.example.spreado.domain.mail.core.repository;
+
+import com.example.spreado.domain.mail.core.entity.MailMessage;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class MailMessageRepository {
+
+    private final EntityManager em;
+
+    public MailMessage save(MailMessage message) {
+        em.persist(message);
+        return message;
+    }
+
+    /**
+     * 같은 dedup_key로 동시에 들어온 요청이 하나씩 처리되도록 트랜잭션이 끝날 때까지 advisory lock을 잡습니다.
+     */
+    public void lockDedupKey(String dedupKey) {
+        em.createNativeQuery("SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext(:dedupKey))) AS dedup_lock")
+                .setParameter("dedupKey", dedupKey)
+                .getSingleResult();
+    }
+
+    public boolean existsByDedupKeySince(String dedupKey, OffsetDateTime since) {
+        return !em.createQuery("""
+                        SELECT m.id FROM MailMessage m
+                        WHERE m.dedupKey = :dedupKey AND m.createdAt >= :since
+                        """, Long.class)
+                .setParameter("dedupKey", dedupKey)
+                .setParameter("since", since)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+}
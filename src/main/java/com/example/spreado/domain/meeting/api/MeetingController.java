@@ -1,12 +1,14 @@
 package com.example.spreado.domain.meeting.api;
 
 import com.example.spreado.domain.group.api.dto.response.GroupJoinResponse;
+import com.example.spreado.domain.liveblocks.application.LiveblocksService;
 import com.example.spreado.domain.meeting.api.dto.request.MeetingCreateRequest;
 import com.example.spreado.domain.meeting.api.dto.response.*;
+import com.example.spreado.domain.meeting.application.MeetingEndService;
 import com.example.spreado.domain.meeting.application.MeetingService;
-import com.example.spreado.domain.note.api.dto.response.NoteResponse;
-import com.example.spreado.domain.summary.api.dto.response.SummaryResponse;
+import com.example.spreado.domain.meeting.core.entity.MeetingStatus;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,12 +17,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.Map;
 
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 
 @Tag(name = "Meeting API", description = "회의 생성 및 참여 API")
@@ -29,20 +34,34 @@ import static org.springframework.http.HttpStatus.NO_CONTENT;
 @RequestMapping("/meeting")
 public class MeetingController {
 
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final MeetingService meetingService;
+    private final MeetingEndService meetingEndService;
+    private final LiveblocksService liveblocksService;
 
     @GetMapping(params = "groupId")
     @Operation(
             summary = "그룹의 회의 목록 조회",
-            description = "특정 그룹에 속한 회의 목록을 조회합니다."
+            description = """
+                    특정 그룹에 속한 회의 목록을 최신순으로 조회합니다.
+                    다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+                    """
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = MeetingSummaryResponse.class))),
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = MeetingPageResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
             @ApiResponse(responseCode = "404", description = "리소스를 찾을 수 없음", content = @Content)
     })
-    public List<MeetingSummaryResponse> getMeetingsByGroup(@RequestParam Long groupId) {
-        return meetingService.getMeetingsByGroup(groupId);
+    public MeetingPageResponse getMeetingsByGroup(
+            @RequestParam Long groupId,
+            @Parameter(description = "회의 상태 (없으면 전체)") @RequestParam(required = false) MeetingStatus status,
+            @Parameter(description = "생성일 시작 (yyyy-MM-dd, 포함)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "생성일 끝 (yyyy-MM-dd, 포함)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size
+    ) {
+        return meetingService.getMeetingsByGroup(groupId, status, from, to, cursor, size);
     }
 
     @GetMapping("/{meetingId}")
@@ -72,7 +91,11 @@ public class MeetingController {
     })
     public MeetingCreateResponse createMeeting(@Valid @RequestBody MeetingCreateRequest request, Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
-        return meetingService.createMeeting(request, userId);
+        Long meetingId = meetingService.createMeeting(request, userId);
+
+        // 토큰은 회의가 커밋된 뒤 트랜잭션 밖에서 발급 (Liveblocks 응답을 기다리는 동안 DB 연결을 잡지 않음)
+        Map<String, Object> tokenJson = liveblocksService.getToken(meetingId, userId);
+        return new MeetingCreateResponse(meetingId, tokenJson.get("token").toString());
     }
 
     @PostMapping("/{meetingId}/join")
@@ -89,7 +112,11 @@ public class MeetingController {
     })
     public MeetingJoinResponse joinMeeting(@PathVariable Long meetingId, Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
-        return meetingService.joinMeeting(meetingId, userId);
+        meetingService.joinMeeting(meetingId, userId);
+
+        // 참여 여부와 관계없이 토큰 발급
+        Map<String, Object> tokenJson = liveblocksService.getToken(meetingId, userId);
+        return new MeetingJoinResponse(meetingId, userId, tokenJson.get("token").toString());
     }
 
     @PostMapping("/{meetingId}/leave")
@@ -111,47 +138,70 @@ public class MeetingController {
 
     @PostMapping("/{meetingId}/end")
     @PreAuthorize("isAuthenticated()")
+    @ResponseStatus(ACCEPTED)
     @Operation(
             summary = "회의 종료",
-            description = "회의를 종료합니다.",
+            description = """
+                    회의를 종료하고 회의록을 저장합니다.
+                    요약은 백그라운드에서 생성되며, 응답의 jobId로 `GET /summaries/jobs/{jobId}`를 조회해 진행 상태를 확인합니다.
+                    """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "회의 종료 성공", content = @Content(schema = @Schema(implementation = NoteResponse.class))),
+            @ApiResponse(responseCode = "202", description = "회의 종료 성공, 요약 작업 등록", content = @Content(schema = @Schema(implementation = MeetingEndResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
             @ApiResponse(responseCode = "404", description = "리소스를 찾을 수 없음", content = @Content)
     })
-    public SummaryResponse endMeeting(@PathVariable Long meetingId, Authentication authentication) {
+    public MeetingEndResponse endMeeting(@PathVariable Long meetingId, Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
-        return meetingService.endMeeting(meetingId, userId);
+        return meetingEndService.endMeeting(meetingId, userId);
     }
 
     @GetMapping("/my")
     @PreAuthorize("isAuthenticated()")
     @Operation(
             summary = "내 회의 목록 조회",
-            description = "현재 참여 중인 회의 목록을 조회합니다.",
+            description = """
+                    현재 참여 중인 회의 목록을 최신순으로 조회합니다.
+                    다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+                    """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = MeetingMemberResponse.class))),
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = MeetingPageResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
     })
-    public List<MeetingSummaryResponse> getMyMeetings(Authentication authentication) {
+    public MeetingPageResponse getMyMeetings(
+            Authentication authentication,
+            @Parameter(description = "회의 상태 (없으면 전체)") @RequestParam(required = false) MeetingStatus status,
+            @Parameter(description = "생성일 시작 (yyyy-MM-dd, 포함)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "생성일 끝 (yyyy-MM-dd, 포함)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size
+    ) {
         Long userId = (Long) authentication.getPrincipal();
-        return meetingService.getMyMeetings(userId);
+        return meetingService.getMyMeetings(userId, status, from, to, cursor, size);
     }
 
     @GetMapping("/{groupId}/ongoing")
     @Operation(
             summary = "진행 중인 회의 목록 조회",
-            description = "현재 진행 중인 모든 회의 목록을 조회합니다.",
+            description = """
+                    현재 진행 중인 회의 목록을 최신순으로 조회합니다.
+                    다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+                    """,
             responses = {
-                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = MeetingSummaryResponse.class))),
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = MeetingPageResponse.class))),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
             }
     )
-    public List<MeetingSummaryResponse> getOngoingMeetings(@PathVariable Long groupId) {
-        return meetingService.getOngoingMeetings(groupId);
+    public MeetingPageResponse getOngoingMeetings(
+            @PathVariable Long groupId,
+            @Parameter(description = "생성일 시작 (yyyy-MM-dd, 포함)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "생성일 끝 (yyyy-MM-dd, 포함)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size
+    ) {
+        return meetingService.getOngoingMeetings(groupId, from, to, cursor, size);
     }
 }
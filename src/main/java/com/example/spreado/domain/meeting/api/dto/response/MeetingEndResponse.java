@@ -0,0 +1,11 @@
+package com.example.spreado.domain.meeting.api.dto.response;
+
+import com.example.spreado.domain.summary.core.entity.SummaryJobStatus;
+
+public record MeetingEndResponse(
+        Long meetingId,
+        Long noteId,
+        Long summaryJobId,
+        SummaryJobStatus summaryJobStatus
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.spreado.domain.meeting.api.dto.response;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지를 요청할 때 cursor로 넘길 값 (마지막 페이지면 null)
+ */
+public record MeetingPageResponse(
+        List<MeetingSummaryResponse> meetings,
+        String nextCursor,
+        boolean hasNext
+) {
+}
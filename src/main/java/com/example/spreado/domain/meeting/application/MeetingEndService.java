@@ -0,0 +1,33 @@
+package com.example.spreado.domain.meeting.application;
+
+import com.example.spreado.domain.liveblocks.application.LiveblocksService.StorageSnapshot;
+import com.example.spreado.domain.liveblocks.application.LiveblocksSnapshotWorker;
+import com.example.spreado.domain.meeting.api.dto.response.MeetingEndResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회의 종료 흐름. 최종 스토리지는 트랜잭션 밖에서 받고, 회의 잠금은 받아 둔 스토리지를 저장할 때만 잡습니다.
+ * 스토리지 응답을 기다리는 동안 DB 커넥션과 회의 행 잠금을 잡고 있지 않으며, 그 사이 바뀐 회의 상태는 MeetingService가 잠근 뒤 다시 확인합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingEndService {
+
+    private final MeetingService meetingService;
+    private final LiveblocksSnapshotWorker liveblocksSnapshotWorker;
+
+    public MeetingEndResponse endMeeting(Long meetingId, Long userId) {
+        String roomId = meetingService.getEndableRoomId(meetingId, userId);
+        StorageSnapshot snapshot = liveblocksSnapshotWorker.finalSnapshot(roomId);
+        return meetingService.endMeeting(meetingId, userId, snapshot);
+    }
+
+    /**
+     * 방이 남아 있는 방치된 회의를 endMeeting과 같이 스토리지를 노트로 남기고 종료합니다 (LiveblocksReconciler).
+     */
+    public void closeStaleMeeting(Long meetingId, String roomId) {
+        StorageSnapshot snapshot = liveblocksSnapshotWorker.finalSnapshot(roomId);
+        meetingService.closeStaleMeeting(meetingId, snapshot);
+    }
+}
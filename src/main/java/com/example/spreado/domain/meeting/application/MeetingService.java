@@ -3,12 +3,16 @@ package com.example.spreado.domain.meeting.application;
 import com.example.spreado.domain.group.core.entity.Group;
 import com.example.spreado.domain.group.core.repository.GroupMemberRepository;
 import com.example.spreado.domain.group.core.repository.GroupRepository;
-import com.example.spreado.domain.liveblocks.application.LiveblocksService;
+import com.example.spreado.domain.liveblocks.application.LiveblocksRoomOutboxService;
+import com.example.spreado.domain.liveblocks.application.LiveblocksService.StorageSnapshot;
+import com.example.spreado.domain.liveblocks.application.LiveblocksSnapshotWorker;
 import com.example.spreado.domain.meeting.api.dto.request.MeetingCreateRequest;
 import com.example.spreado.domain.meeting.api.dto.response.*;
 import com.example.spreado.domain.meeting.core.entity.Meeting;
 import com.example.spreado.domain.meeting.core.entity.MeetingJoin;
 import com.example.spreado.domain.meeting.core.entity.MeetingStatus;
+import com.example.spreado.domain.meeting.core.repository.MeetingPageQuery;
+import com.example.spreado.domain.meeting.core.util.MeetingCursor;
 import com.example.spreado.domain.meeting.core.util.RoomIdPolicy;
 import com.example.spreado.domain.note.core.entity.Note;
 import com.example.spreado.domain.meeting.core.repository.MeetingJoinRepository;
@@ -16,8 +20,9 @@ import com.example.spreado.domain.meeting.core.repository.MeetingRepository;
 import com.example.spreado.domain.note.core.service.NoteService;
 import com.example.spreado.domain.note.core.repository.NoteRepository;
 import com.example.spreado.domain.note.api.dto.response.NoteResponse;
-import com.example.spreado.domain.summary.api.dto.response.SummaryResponse;
-import com.example.spreado.domain.summary.application.SummaryService;
+import com.example.spreado.domain.summary.api.dto.response.SummaryJobResponse;
+import com.example.spreado.domain.summary.application.LiveSummaryService;
+import com.example.spreado.domain.summary.application.SummaryJobService;
 import com.example.spreado.domain.user.core.entity.User;
 import com.example.spreado.domain.user.core.repository.UserRepository;
 import com.example.spreado.global.shared.exception.BadRequestException;
@@ -26,12 +31,14 @@ import com.example.spreado.global.shared.exception.NotFoundException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -40,20 +47,27 @@ import java.util.Map;
 @Transactional
 public class MeetingService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MeetingRepository meetingRepository;
     private final MeetingJoinRepository meetingJoinRepository;
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final LiveblocksService liveblocksService;
+    private final LiveblocksRoomOutboxService liveblocksRoomOutboxService;
+    private final LiveblocksSnapshotWorker liveblocksSnapshotWorker;
     private final NoteService noteService;
     private final NoteRepository noteRepository;
     private final RoomIdPolicy roomIdPolicy;
     private final ObjectMapper objectMapper;
-    private final EntityManager em;
-    private final SummaryService summaryService;
-
-    public MeetingCreateResponse createMeeting(@Valid MeetingCreateRequest request, Long userId) {
+    private final SummaryJobService summaryJobService;
+    private final LiveSummaryService liveSummaryService;
+
+    /**
+     * 회의와 호스트 참여를 저장하고 같은 트랜잭션에서 방 생성을 예약합니다.
+     * 방 생성은 커밋 이후 LiveblocksRoomDispatcher가 보내므로, 롤백되면 방도 만들어지지 않습니다.
+     */
+    public Long createMeeting(@Valid MeetingCreateRequest request, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("해당 사용자를 찾을 수 없습니다."));
 
@@ -65,16 +79,13 @@ public class MeetingService {
 
         MeetingJoin hostJoin = MeetingJoin.create(meeting, user);
         meetingJoinRepository.save(hostJoin);
-        em.flush();
 
-        liveblocksService.createRoomForMeeting(meeting.getId());
+        liveblocksRoomOutboxService.enqueueCreateRoom(meeting);
 
-        Map<String, Object> tokenJson = liveblocksService.getToken(meeting.getId(), userId);
-
-        return new MeetingCreateResponse(meeting.getId(), tokenJson.get("token").toString());
+        return meeting.getId();
     }
 
-    public MeetingJoinResponse joinMeeting(Long meetingId, Long userId) {
+    public void joinMeeting(Long meetingId, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("해당 사용자를 찾을 수 없습니다."));
 
@@ -91,13 +102,7 @@ public class MeetingService {
         if (!meetingJoinRepository.existsByMeetingIdAndUserId(meeting.getId(), userId)) {
             MeetingJoin meetingJoin = MeetingJoin.create(meeting, user);
             meetingJoinRepository.save(meetingJoin);
-            em.flush();
         }
-
-        // 참여 여부와 관계없이 토큰 발급
-        Map<String, Object> tokenJson = liveblocksService.getToken(meeting.getId(), userId);
-
-        return new MeetingJoinResponse(meeting.getId(), userId, tokenJson.get("token").toString());
     }
 
     public void leaveMeeting(Long meetingId, Long userId) {
@@ -114,21 +119,14 @@ public class MeetingService {
         meetingJoinRepository.deleteByMeetingIdAndUserId(meetingId, userId);
     }
 
-    public List<MeetingSummaryResponse> getMeetingsByGroup(Long groupId) {
+    @Transactional(readOnly = true)
+    public MeetingPageResponse getMeetingsByGroup(Long groupId, MeetingStatus status, LocalDate from, LocalDate to,
+                                                  String cursor, int size) {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new NotFoundException("해당 그룹을 찾을 수 없습니다."));
 
-        List<Meeting> meetings = meetingRepository.findAllByGroupId(group.getId());
-
-        return meetings.stream()
-                .map(meeting -> new MeetingSummaryResponse(
-                        meeting.getId(),
-                        group.getId(),
-                        meeting.getTitle(),
-                        meeting.getCreatedAt(),
-                        meeting.getStatus()
-                ))
-                .toList();
+        MeetingPageQuery query = pageQuery(status, from, to, cursor, size);
+        return toPage(meetingRepository.findPageByGroupId(group.getId(), query), query);
     }
 
     public MeetingDetailResponse getMeetingDetail(Long meetingId) {
@@ -157,10 +155,88 @@ public class MeetingService {
         );
     }
 
-    public SummaryResponse endMeeting(Long meetingId, Long userId) {
+    /**
+     * 회의를 종료할 수 있는지 확인하고 방 ID를 반환합니다. 스토리지는 이 트랜잭션 밖에서 받습니다 (MeetingEndService).
+     */
+    @Transactional(readOnly = true)
+    public String getEndableRoomId(Long meetingId, Long userId) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new NotFoundException("해당 회의를 찾을 수 없습니다."));
 
+        checkEndable(meeting, userId);
+        return roomIdPolicy.toRoomId(meeting);
+    }
+
+    /**
+     * 미리 받아 둔 최종 스토리지로 회의를 종료합니다.
+     * 스토리지를 받는 동안 상태가 바뀌었을 수 있으므로 잠근 뒤 다시 확인합니다.
+     */
+    public MeetingEndResponse endMeeting(Long meetingId, Long userId, StorageSnapshot snapshot) {
+        // 방치된 회의 정리(closeStaleMeeting)와 동시에 종료되지 않도록 잠금
+        Meeting meeting = meetingRepository.findByIdForUpdate(meetingId)
+                .orElseThrow(() -> new NotFoundException("해당 회의를 찾을 수 없습니다."));
+
+        checkEndable(meeting, userId);
+        return finishMeeting(meeting, snapshot);
+    }
+
+    /**
+     * 오래 접속이 없는 회의를 미리 받아 둔 스토리지로 종료합니다 (LiveblocksReconciler). 이미 종료되었으면 아무것도 하지 않습니다.
+     */
+    public void closeStaleMeeting(Long meetingId, StorageSnapshot snapshot) {
+        Meeting meeting = meetingRepository.findByIdForUpdate(meetingId).orElse(null);
+        if (meeting == null || meeting.getStatus() == MeetingStatus.ENDED) {
+            return;
+        }
+
+        finishMeeting(meeting, snapshot);
+    }
+
+    /**
+     * 방이 없는 진행 중 회의를 종료합니다 (LiveblocksReconciler). 이미 종료되었으면 아무것도 하지 않습니다.
+     * 스토리지를 받을 수 없으므로 회의 중 받아 둔 초안이 있을 때만 노트를 남깁니다.
+     */
+    public void closeRoomlessMeeting(Long meetingId) {
+        Meeting meeting = meetingRepository.findByIdForUpdate(meetingId).orElse(null);
+        if (meeting == null || meeting.getStatus() == MeetingStatus.ENDED) {
+            return;
+        }
+
+        meeting.endMeeting();
+        liveblocksSnapshotWorker.lastDraft(meeting.getId(), roomIdPolicy.toRoomId(meeting))
+                .ifPresentOrElse(
+                        snapshot -> summaryJobService.enqueue(saveNote(meeting, snapshot).getId()),
+                        // 노트가 없어 옮길 곳이 없는 중간 요약은 지움
+                        () -> liveSummaryService.discard(meeting.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, MeetingStatus> getMeetingStatuses(Collection<Long> meetingIds) {
+        return meetingRepository.findStatusesByIds(meetingIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getOngoingMeetingIdsCreatedBefore(LocalDateTime createdBefore) {
+        return meetingRepository.findIdsByStatusAndCreatedAtBefore(MeetingStatus.ONGOING, createdBefore);
+    }
+
+    @Transactional(readOnly = true)
+    public MeetingPageResponse getMyMeetings(Long userId, MeetingStatus status, LocalDate from, LocalDate to,
+                                             String cursor, int size) {
+        MeetingPageQuery query = pageQuery(status, from, to, cursor, size);
+        return toPage(meetingRepository.findPageByParticipantId(userId, query), query);
+    }
+
+    @Transactional(readOnly = true)
+    public MeetingPageResponse getOngoingMeetings(Long groupId, LocalDate from, LocalDate to, String cursor, int size) {
+        Group group = groupRepository.findById(groupId)
+                .orElseThrow(() -> new NotFoundException("해당 그룹을 찾을 수 없습니다."));
+
+        MeetingPageQuery query = pageQuery(MeetingStatus.ONGOING, from, to, cursor, size);
+        return toPage(meetingRepository.findPageByGroupId(group.getId(), query), query);
+    }
+
+    private void checkEndable(Meeting meeting, Long userId) {
         if (!meeting.getCreator().getId().equals(userId)) {
             throw new ForbiddenException("호스트만 회의를 종료할 수 있습니다.");
         }
@@ -168,54 +244,69 @@ public class MeetingService {
         if (meeting.getStatus() == MeetingStatus.ENDED) {
             throw new BadRequestException("이미 종료된 회의입니다.");
         }
+    }
 
+    private MeetingEndResponse finishMeeting(Meeting meeting, StorageSnapshot snapshot) {
         meeting.endMeeting();
 
-        String roomId = roomIdPolicy.toRoomId(meeting);
+        // 회의 중 받아 둔 초안은 방이 없을 때(closeRoomlessMeeting)만 쓰고, 종료 시에는 최종 스토리지를 노트로 남김
+        liveblocksSnapshotWorker.discardDraft(meeting.getId());
 
-        JsonNode noteContent = liveblocksService.fetchStorageJson(roomId);
-        JsonNode wrappedContent = wrap(noteContent);
+        // 방 삭제는 커밋 이후 LiveblocksRoomDispatcher가 보냄
+        liveblocksRoomOutboxService.enqueueDeleteRoom(meeting);
 
-        liveblocksService.deleteRoomForMeeting(meeting.getId());
+        Note note = saveNote(meeting, snapshot);
 
-        Note note = Note.create(meeting, wrappedContent);
-        noteService.save(note);
+        // 요약은 커밋 이후 백그라운드에서 생성하고, 클라이언트는 작업 ID로 진행 상태를 조회
+        SummaryJobResponse summaryJob = summaryJobService.enqueue(note.getId());
 
-        return summaryService.generateSummary(note.getId());
+        return new MeetingEndResponse(meeting.getId(), note.getId(), summaryJob.jobId(), summaryJob.status());
     }
 
-    public List<MeetingSummaryResponse> getMyMeetings(Long userId) {
-        List<MeetingJoin> memberships = meetingJoinRepository.findAllByUserId(userId);
-
-        return memberships.stream()
-                .map(member -> {
-                    Meeting meeting = member.getMeeting();
-                    return new MeetingSummaryResponse(
-                            meeting.getId(),
-                            meeting.getGroup().getId(),
-                            meeting.getTitle(),
-                            meeting.getCreatedAt(),
-                            meeting.getStatus()
-                    );
-                })
-                .toList();
+    private Note saveNote(Meeting meeting, StorageSnapshot snapshot) {
+        Note note = Note.create(meeting, wrap(snapshot.storage()), snapshot.plainText());
+        noteService.save(note);
+        // 회의 중 만들어 둔 중간 요약이 있으면 이어서 갱신하도록 노트 요약으로 옮김
+        liveSummaryService.promote(meeting, note);
+        return note;
     }
 
-    public List<MeetingSummaryResponse> getOngoingMeetings(Long groupId) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new NotFoundException("해당 그룹을 찾을 수 없습니다."));
+    /**
+     * 다음 페이지가 있는지 알기 위해 요청한 크기보다 한 건 더 가져오도록 조건을 만듭니다.
+     * 날짜 범위는 from 00:00부터 to 다음 날 00:00 전까지입니다.
+     */
+    private MeetingPageQuery pageQuery(MeetingStatus status, LocalDate from, LocalDate to, String cursor, int size) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return new MeetingPageQuery(
+                status,
+                from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay(),
+                MeetingCursor.decode(cursor),
+                pageSize + 1
+        );
+    }
 
-        List<Meeting> meetings = meetingRepository.findAllByGroupIdAndStatus(group.getId(), MeetingStatus.ONGOING);
+    private MeetingPageResponse toPage(List<Meeting> meetings, MeetingPageQuery query) {
+        int pageSize = query.limit() - 1;
+        boolean hasNext = meetings.size() > pageSize;
+        List<Meeting> page = hasNext ? meetings.subList(0, pageSize) : meetings;
 
-        return meetings.stream()
+        List<MeetingSummaryResponse> items = page.stream()
                 .map(meeting -> new MeetingSummaryResponse(
                         meeting.getId(),
-                        group.getId(),
+                        meeting.getGroup().getId(),
                         meeting.getTitle(),
                         meeting.getCreatedAt(),
                         meeting.getStatus()
                 ))
                 .toList();
+
+        String nextCursor = hasNext ? MeetingCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new MeetingPageResponse(items, nextCursor, hasNext);
     }
 
     private JsonNode wrap(JsonNode content) {
@@ -57,16 +57,6 @@ public class MeetingJoinRepository {
                 .getResultList();
     }
 
-    public List<MeetingJoin> findAllByUserId(Long userId) {
-        return em.createQuery("""
-                        SELECT mj FROM MeetingJoin mj
-                        JOIN FETCH mj.meeting m
-                        WHERE mj.user.id = :userId
-                        """, MeetingJoin.class)
-                .setParameter("userId", userId)
-                .getResultList();
-    }
-
     public void deleteByMeetingIdAndUserId(Long meetingId, Long userId) {
         em.createQuery("""
                         DELETE FROM MeetingJoin mj
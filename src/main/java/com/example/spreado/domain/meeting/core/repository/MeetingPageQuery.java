@@ -0,0 +1,23 @@
+package com.example.spreado.domain.meeting.core.repository;
+
+import com.example.spreado.domain.meeting.core.entity.MeetingStatus;
+import com.example.spreado.domain.meeting.core.util.MeetingCursor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의 목록 한 페이지 조회 조건. null인 조건은 적용하지 않습니다.
+ *
+ * @param createdFrom   이 시각 이후(포함) 생성된 회의만
+ * @param createdBefore 이 시각 이전(미포함) 생성된 회의만
+ * @param after         이 위치 다음부터 (null이면 첫 페이지)
+ * @param limit         가져올 최대 건수
+ */
+public record MeetingPageQuery(
+        MeetingStatus status,
+        LocalDateTime createdFrom,
+        LocalDateTime createdBefore,
+        MeetingCursor after,
+        int limit
+) {
+}
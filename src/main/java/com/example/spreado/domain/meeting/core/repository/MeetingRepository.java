@@ -3,11 +3,17 @@ package com.example.spreado.domain.meeting.core.repository;
 import com.example.spreado.domain.meeting.core.entity.Meeting;
 import com.example.spreado.domain.meeting.core.entity.MeetingStatus;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -27,9 +33,22 @@ public class MeetingRepository {
                 .findFirst();
     }
 
-    public List<Meeting> findAllByGroupId(Long id) {
-        return em.createQuery("SELECT m FROM Meeting m WHERE m.group.id = :id", Meeting.class)
-                .setParameter("id", id)
+    /**
+     * 그룹의 회의를 최신순(createdAt, id 내림차순)으로 한 페이지 가져옵니다.
+     * 다음 페이지는 OFFSET 없이 마지막 (createdAt, id) 뒤부터 읽으므로 쌓인 회의 수와 관계없이 인덱스 범위만 읽습니다.
+     */
+    public List<Meeting> findPageByGroupId(Long groupId, MeetingPageQuery query) {
+        return findPage("SELECT m FROM Meeting m WHERE m.group.id = :groupId", query)
+                .setParameter("groupId", groupId)
+                .getResultList();
+    }
+
+    /**
+     * 사용자가 참여한 회의를 최신순(createdAt, id 내림차순)으로 한 페이지 가져옵니다.
+     */
+    public List<Meeting> findPageByParticipantId(Long userId, MeetingPageQuery query) {
+        return findPage("SELECT m FROM Meeting m JOIN MeetingJoin mj ON mj.meeting = m WHERE mj.user.id = :userId", query)
+                .setParameter("userId", userId)
                 .getResultList();
     }
 
@@ -48,10 +67,65 @@ public class MeetingRepository {
                 .getResultList();
     }
 
-    public List<Meeting> findAllByGroupIdAndStatus(Long id, MeetingStatus meetingStatus) {
-        return em.createQuery("SELECT m FROM Meeting m WHERE m.group.id = :id AND m.status = :status", Meeting.class)
-                .setParameter("id", id)
+    public List<Meeting> findAllByStatus(MeetingStatus meetingStatus) {
+        return em.createQuery("SELECT m FROM Meeting m JOIN FETCH m.group WHERE m.status = :status", Meeting.class)
+                .setParameter("status", meetingStatus)
+                .getResultList();
+    }
+
+    public Optional<Meeting> findByIdForUpdate(Long id) {
+        return Optional.ofNullable(em.find(Meeting.class, id, LockModeType.PESSIMISTIC_WRITE));
+    }
+
+    public Map<Long, MeetingStatus> findStatusesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return em.createQuery("SELECT m.id, m.status FROM Meeting m WHERE m.id IN :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (MeetingStatus) row[1]));
+    }
+
+    public List<Long> findIdsByStatusAndCreatedAtBefore(MeetingStatus meetingStatus, LocalDateTime createdBefore) {
+        return em.createQuery("SELECT m.id FROM Meeting m WHERE m.status = :status AND m.createdAt < :createdBefore", Long.class)
                 .setParameter("status", meetingStatus)
+                .setParameter("createdBefore", createdBefore)
                 .getResultList();
     }
+
+    private TypedQuery<Meeting> findPage(String baseQuery, MeetingPageQuery query) {
+        StringBuilder jpql = new StringBuilder(baseQuery);
+        if (query.status() != null) {
+            jpql.append(" AND m.status = :status");
+        }
+        if (query.createdFrom() != null) {
+            jpql.append(" AND m.createdAt >= :createdFrom");
+        }
+        if (query.createdBefore() != null) {
+            jpql.append(" AND m.createdAt < :createdBefore");
+        }
+        if (query.after() != null) {
+            jpql.append(" AND (m.createdAt < :afterCreatedAt OR (m.createdAt = :afterCreatedAt AND m.id < :afterId))");
+        }
+        jpql.append(" ORDER BY m.createdAt DESC, m.id DESC");
+
+        TypedQuery<Meeting> typedQuery = em.createQuery(jpql.toString(), Meeting.class)
+                .setMaxResults(query.limit());
+        if (query.status() != null) {
+            typedQuery.setParameter("status", query.status());
+        }
+        if (query.createdFrom() != null) {
+            typedQuery.setParameter("createdFrom", query.createdFrom());
+        }
+        if (query.createdBefore() != null) {
+            typedQuery.setParameter("createdBefore", query.createdBefore());
+        }
+        if (query.after() != null) {
+            typedQuery.setParameter("afterCreatedAt", query.after().createdAt());
+            typedQuery.setParameter("afterId", query.after().id());
+        }
+        return typedQuery;
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.spreado.domain.meeting.core.util;
+
+import com.example.spreado.domain.meeting.core.entity.Meeting;
+import com.example.spreado.global.shared.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 회의 목록의 다음 페이지 위치. 마지막으로 받은 회의의 (createdAt, id)이며,
+ * 클라이언트에는 내용을 알 수 없는 문자열(base64url)로 내려 줍니다.
+ */
+public record MeetingCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "_";
+
+    public static MeetingCursor of(Meeting meeting) {
+        return new MeetingCursor(meeting.getCreatedAt(), meeting.getId());
+    }
+
+    /**
+     * @return cursor가 비어 있으면 null (첫 페이지)
+     */
+    public static MeetingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new MeetingCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("잘못된 페이지 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,9 +5,29 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class RoomIdPolicy {
+    private static final String MEETING_SEPARATOR = ":meeting:";
+
     public String toRoomId(Meeting meeting) {
         Long groupId = meeting.getGroup().getId();
         Long meetingId = meeting.getId();
         return "group:" + groupId + ":meeting:" + meetingId;
     }
-}
\ No newline at end of file
+
+    /**
+     * 방 ID에서 회의 ID를 꺼냅니다. 이 정책으로 만든 방 ID가 아니면 null을 반환합니다.
+     */
+    public Long toMeetingId(String roomId) {
+        if (roomId == null || !roomId.startsWith("group:")) {
+            return null;
+        }
+        int separator = roomId.lastIndexOf(MEETING_SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return Long.valueOf(roomId.substring(separator + MEETING_SEPARATOR.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
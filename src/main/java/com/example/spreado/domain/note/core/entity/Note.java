@@ -30,6 +30,10 @@ public class Note {
     @Column(name = "content", columnDefinition = "jsonb", nullable = false)
     private JsonNode content;
 
+    // 요약용 본문. 회의 종료 시 content와 함께 만들어 두며, 없으면 요약할 때 content에서 변환
+    @Column(name = "plain_text", columnDefinition = "text")
+    private String plainText;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -38,10 +42,11 @@ public class Note {
         this.createdAt = LocalDateTime.now();
     }
 
-    public static Note create(Meeting meeting, JsonNode content) {
+    public static Note create(Meeting meeting, JsonNode content, String plainText) {
         Note note = new Note();
         note.meeting = meeting;
         note.content = content;
+        note.plainText = plainText;
         return note;
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.example.spreado.domain.note.core.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * 진행 중인 회의의 회의록 스냅샷. 웹훅으로 스토리지 변경을 알게 된 시각과 마지막으로 받아 둔 스토리지를 함께 둡니다.
+ */
+@Entity
+@Table(name = "note_drafts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NoteDraft {
+
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    // Liveblocks 스토리지 JSON (노트 content의 data 값)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "content", columnDefinition = "jsonb")
+    private JsonNode content;
+
+    @Column(name = "plain_text", columnDefinition = "text")
+    private String plainText;
+
+    // 스냅샷 요청을 보낸 시각. 이 시각 이후의 변경은 content에 없을 수 있음
+    @Column(name = "snapshot_at")
+    private OffsetDateTime snapshotAt;
+
+    // 마지막으로 storageUpdated 웹훅을 받은 시각
+    @Column(name = "storage_updated_at", nullable = false)
+    private OffsetDateTime storageUpdatedAt;
+
+    /**
+     * 먼저 시작한 스냅샷이 나중에 끝나도 더 최근 스냅샷을 덮어쓰지 않습니다.
+     */
+    public boolean recordSnapshot(JsonNode content, String plainText, OffsetDateTime snapshotAt) {
+        if (this.snapshotAt != null && !snapshotAt.isAfter(this.snapshotAt)) {
+            return false;
+        }
+        this.content = content;
+        this.plainText = plainText;
+        this.snapshotAt = snapshotAt;
+        return true;
+    }
+
+    /**
+     * 스냅샷 이후 변경 웹훅이 없었고, 스냅샷 뒤로 quietPeriod가 지나 늦게 오는 웹훅도 없다고 볼 수 있으면 최신입니다.
+     */
+    public boolean isCurrent(OffsetDateTime now, Duration quietPeriod) {
+        return content != null
+                && snapshotAt != null
+                && !snapshotAt.isBefore(storageUpdatedAt)
+                && !snapshotAt.plus(quietPeriod).isAfter(now);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.spreado.domain.note.core.repository;
+
+import com.example.spreado.domain.note.core.entity.NoteDraft;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class NoteDraftRepository {
+
+    private final EntityManager em;
+
+    public Optional<NoteDraft> findByMeetingId(Long meetingId) {
+        return Optional.ofNullable(em.find(NoteDraft.class, meetingId));
+    }
+
+    public Optional<NoteDraft> findByMeetingIdForUpdate(Long meetingId) {
+        return Optional.ofNullable(em.find(NoteDraft.class, meetingId, LockModeType.PESSIMISTIC_WRITE));
+    }
+
+    /**
+     * 진행 중인 회의에만 스토리지 변경 시각을 기록합니다. 기록했으면 true를 반환합니다.
+     */
+    public boolean markStorageUpdated(Long meetingId, OffsetDateTime now) {
+        int updated = em.createNativeQuery("""
+                        INSERT INTO note_drafts (meeting_id, storage_updated_at)
+                        SELECT m.id, :now FROM meetings m
+                        WHERE m.id = :meetingId AND m.status = 'ONGOING'
+                        ON CONFLICT (meeting_id) DO UPDATE
+                        SET storage_updated_at = GREATEST(note_drafts.storage_updated_at, EXCLUDED.storage_updated_at)
+                        """)
+                .setParameter("meetingId", meetingId)
+                .setParameter("now", now)
+                .executeUpdate();
+        return updated > 0;
+    }
+
+    public void deleteByMeetingId(Long meetingId) {
+        em.createQuery("DELETE FROM NoteDraft d WHERE d.meetingId = :meetingId")
+                .setParameter("meetingId", meetingId)
+                .executeUpdate();
+    }
+}
@@ -25,6 +25,13 @@ public class NoteRepository {
                 .findFirst();
     }
 
+    /**
+     * 노트를 조회하지 않고 참조만 만듭니다 (연관관계 저장용).
+     */
+    public Note getReference(Long noteId) {
+        return em.getReference(Note.class, noteId);
+    }
+
     public Optional<Note> findByMeetingId(Long meetingId) {
         return em.createQuery("SELECT n FROM Note n WHERE n.meeting.id = :meetingId", Note.class)
                 .setParameter("meetingId", meetingId)
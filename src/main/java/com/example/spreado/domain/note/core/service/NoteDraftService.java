@@ -0,0 +1,52 @@
+package com.example.spreado.domain.note.core.service;
+
+import com.example.spreado.domain.note.core.entity.NoteDraft;
+import com.example.spreado.domain.note.core.repository.NoteDraftRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NoteDraftService {
+
+    private final NoteDraftRepository noteDraftRepository;
+
+    public boolean markStorageUpdated(Long meetingId) {
+        return noteDraftRepository.markStorageUpdated(meetingId, OffsetDateTime.now());
+    }
+
+    /**
+     * 회의가 끝나 초안이 지워졌으면 저장하지 않습니다.
+     */
+    public boolean saveSnapshot(Long meetingId, JsonNode content, String plainText, OffsetDateTime snapshotAt) {
+        return noteDraftRepository.findByMeetingIdForUpdate(meetingId)
+                .map(draft -> draft.recordSnapshot(content, plainText, snapshotAt))
+                .orElse(false);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<NoteDraft> findCurrent(Long meetingId, Duration quietPeriod) {
+        return noteDraftRepository.findByMeetingId(meetingId)
+                .filter(draft -> draft.isCurrent(OffsetDateTime.now(), quietPeriod));
+    }
+
+    /**
+     * 최신 여부와 관계없이 스토리지를 받아 둔 초안을 찾습니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<NoteDraft> findLatest(Long meetingId) {
+        return noteDraftRepository.findByMeetingId(meetingId)
+                .filter(draft -> draft.getContent() != null);
+    }
+
+    public void delete(Long meetingId) {
+        noteDraftRepository.deleteByMeetingId(meetingId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.spreado.domain.summary.api.dto;
+
+import com.example.spreado.domain.summary.api.dto.request.SummaryBatchRequest;
+import com.example.spreado.domain.summary.api.dto.response.SummaryBatchResponse;
+import com.example.spreado.domain.summary.application.SummaryBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Summary Batch API", description = "과거 회의록 일괄 요약 API (관리자)")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/summaries/batches")
+public class SummaryBatchController {
+
+    private final SummaryBatchService summaryBatchService;
+
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+            summary = "회의록 일괄 요약 요청",
+            description = """
+                    그룹 ID 또는 기간(노트 생성일 기준, from/to 포함)에 해당하면서 요약이 없는 노트를 요약 작업 큐에 등록합니다.
+                    작업은 분당 요청 수 제한에 맞춰 나누어 시작되며, 회의 종료로 등록된 작업이 우선 처리됩니다.
+                    """,
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "등록 성공", content = @Content(schema = @Schema(implementation = SummaryBatchResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "관리자가 아님", content = @Content)
+            }
+    )
+    public SummaryBatchResponse createBatch(@RequestBody SummaryBatchRequest request, Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return summaryBatchService.createBatch(userId, request);
+    }
+
+    @GetMapping("/{batchId}")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(
+            summary = "회의록 일괄 요약 진행 상황 조회",
+            description = "상태별 작업 수와 분당 처리량을 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = SummaryBatchResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "관리자가 아님", content = @Content),
+                    @ApiResponse(responseCode = "404", description = "일괄 요약 요청을 찾을 수 없음", content = @Content)
+            }
+    )
+    public SummaryBatchResponse getBatch(@PathVariable Long batchId, Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return summaryBatchService.getBatch(userId, batchId);
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.spreado.domain.summary.api.dto;
 
 import com.example.spreado.domain.summary.api.dto.request.SummaryUpdateRequest;
+import com.example.spreado.domain.summary.api.dto.response.SummaryJobResponse;
 import com.example.spreado.domain.summary.api.dto.response.SummaryResponse;
+import com.example.spreado.domain.summary.application.SummaryJobService;
 import com.example.spreado.domain.summary.application.SummaryService;
+import com.example.spreado.domain.summary.application.SummaryStreamService;
 import com.example.spreado.domain.summary.core.service.MailService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,7 +16,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Summary API", description = "회의록 요약 API")
 @RestController
@@ -31,6 +37,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class SummaryController {
 
     private final SummaryService summaryService;
+    private final SummaryJobService summaryJobService;
+    private final SummaryStreamService summaryStreamService;
     private final MailService mailService;
 
     @PostMapping("/{noteId}")
@@ -50,6 +58,39 @@ public class SummaryController {
         return summaryService.generateSummary(noteId);
     }
 
+    @PostMapping(value = "/{noteId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @Operation(
+            summary = "회의록 요약 스트리밍 생성",
+            description = """
+                    요약을 생성하면서 진행 상황을 SSE로 전달합니다.
+                    summary 이벤트로 요약 본문 조각을, milestone/actionItem 이벤트로 완성된 항목을 도착하는 대로 보냅니다.
+                    저장이 끝나면 done 이벤트로 저장된 요약을, 실패하면 error 이벤트(status, message)를 보내고 스트림을 닫습니다.
+                    """,
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = @ApiResponse(responseCode = "200", description = "스트림 시작", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE))
+    )
+    public SseEmitter streamSummary(@PathVariable Long noteId) {
+        return summaryStreamService.streamSummary(noteId);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(
+            summary = "회의록 요약 작업 상태 조회",
+            description = "회의 종료 시 발급된 요약 작업의 진행 상태를 조회합니다. 완료되면 summaryId가 함께 반환됩니다. 회의 참여자만 조회할 수 있습니다.",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = SummaryJobResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "회의 참여자가 아님", content = @Content),
+                    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content)
+            }
+    )
+    public SummaryJobResponse getSummaryJob(@PathVariable Long jobId, Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return summaryJobService.getJob(jobId, userId);
+    }
+
     @GetMapping("/{noteId}")
     @Operation(
             summary = "회의록 요약 조회",
@@ -96,10 +137,12 @@ public class SummaryController {
                     저장된 요약을 이메일로 전송합니다.
                     회의에 참여한 참여자 모두에게 전송됩니다.
                     회의 주최자 한 명만 사용하면 됩니다.
+                    발송 대기열에 등록한 뒤 바로 응답하며, 실제 발송은 백그라운드에서 수신자별로 처리됩니다.
+                    같은 요약을 짧은 시간 안에 다시 요청하면 한 번만 발송됩니다.
                     """,
             security = @SecurityRequirement(name = "bearerAuth"),
             responses = {
-                    @ApiResponse(responseCode = "204", description = "이메일 전송 성공"),
+                    @ApiResponse(responseCode = "204", description = "이메일 발송 등록 성공"),
                     @ApiResponse(responseCode = "404", description = "요약을 찾을 수 없음", content = @Content)
             }
     )
@@ -0,0 +1,10 @@
+package com.example.spreado.domain.summary.api.dto.request;
+
+import java.time.LocalDate;
+
+public record SummaryBatchRequest(
+        Long groupId,
+        LocalDate from,
+        LocalDate to
+) {
+}
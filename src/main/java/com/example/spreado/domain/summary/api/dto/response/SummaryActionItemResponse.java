@@ -0,0 +1,7 @@
+package com.example.spreado.domain.summary.api.dto.response;
+
+public record SummaryActionItemResponse(
+        String role,
+        String item
+) {
+}
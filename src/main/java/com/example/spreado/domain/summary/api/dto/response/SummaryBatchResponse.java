@@ -0,0 +1,19 @@
+package com.example.spreado.domain.summary.api.dto.response;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+public record SummaryBatchResponse(
+        Long batchId,
+        Long groupId,
+        LocalDate from,
+        LocalDate to,
+        int totalNotes,
+        long pending,
+        long running,
+        long succeeded,
+        long failed,
+        double throughputPerMinute,
+        OffsetDateTime createdAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.spreado.domain.summary.api.dto.response;
+
+import com.example.spreado.domain.summary.core.entity.SummaryJobStatus;
+
+public record SummaryJobResponse(
+        Long jobId,
+        Long noteId,
+        SummaryJobStatus status,
+        int attempts,
+        Long summaryId,
+        String errorMessage
+) {
+}
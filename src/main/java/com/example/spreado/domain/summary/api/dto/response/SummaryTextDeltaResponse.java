@@ -0,0 +1,6 @@
+package com.example.spreado.domain.summary.api.dto.response;
+
+public record SummaryTextDeltaResponse(
+        String delta
+) {
+}
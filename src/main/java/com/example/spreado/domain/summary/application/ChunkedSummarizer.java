@@ -0,0 +1,181 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.summary.application.client.SummaryModelRouter;
+import com.example.spreado.domain.summary.application.client.dto.ActionItemsByRoleDto;
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
+import com.example.spreado.domain.summary.application.client.dto.MilestoneDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * 긴 회의록을 청크별로 나누어 병렬로 요약한 뒤 하나의 요약으로 합칩니다 (map-reduce).
+ * 전체 소요 시간은 회의록 길이가 아니라 가장 느린 청크 요청에 따라 결정됩니다.
+ */
+@Slf4j
+@Component
+public class ChunkedSummarizer {
+
+    private final PromptService promptService;
+    private final SummaryModelRouter summaryModelRouter;
+    private final SummaryPromptBudget summaryPromptBudget;
+    private final SummaryCacheService summaryCacheService;
+    private final ObjectMapper objectMapper;
+    private final Executor summaryChunkExecutor;
+
+    public ChunkedSummarizer(PromptService promptService,
+                             SummaryModelRouter summaryModelRouter,
+                             SummaryPromptBudget summaryPromptBudget,
+                             SummaryCacheService summaryCacheService,
+                             ObjectMapper objectMapper,
+                             @Qualifier("summaryChunkExecutor") Executor summaryChunkExecutor) {
+        this.promptService = promptService;
+        this.summaryModelRouter = summaryModelRouter;
+        this.summaryPromptBudget = summaryPromptBudget;
+        this.summaryCacheService = summaryCacheService;
+        this.objectMapper = objectMapper;
+        this.summaryChunkExecutor = summaryChunkExecutor;
+    }
+
+    /**
+     * 청크별 요약 결과를 합쳐 반환합니다.
+     * 캐시 조회/저장은 호출한 스레드(트랜잭션)에서 하고, AI 요청만 청크 실행기에서 병렬로 처리합니다.
+     */
+    public MeetingSummaryDto summarize(List<String> chunks) {
+        int total = chunks.size();
+
+        List<MeetingSummaryDto> partials = new ArrayList<>(total);
+        List<String> models = new ArrayList<>(total);
+        List<String> cacheKeys = new ArrayList<>(total);
+        List<CompletableFuture<MeetingSummaryDto>> requests = new ArrayList<>(total);
+
+        // 한 청크라도 토큰 예산을 넘으면 어떤 요청도 보내기 전에 실패
+        List<String> prompts = chunks.stream()
+                .map(promptService::buildChunkPrompt)
+                .toList();
+        prompts.forEach(summaryPromptBudget::check);
+
+        for (String prompt : prompts) {
+            String model = summaryModelRouter.route(prompt);
+            String cacheKey = summaryCacheService.buildKey(model, prompt);
+            models.add(model);
+            cacheKeys.add(cacheKey);
+
+            MeetingSummaryDto cached = summaryCacheService.get(cacheKey)
+                    .map(this::parse)
+                    .orElse(null);
+            partials.add(cached);
+            requests.add(cached == null
+                    ? CompletableFuture.supplyAsync(() -> summaryModelRouter.requestSummary(prompt), summaryChunkExecutor)
+                    : null);
+        }
+
+        log.info("청크 요약 요청 - chunks: {}, requested: {}", total, requests.stream().filter(Objects::nonNull).count());
+
+        RuntimeException failure = null;
+        for (int i = 0; i < total; i++) {
+            CompletableFuture<MeetingSummaryDto> request = requests.get(i);
+            if (request == null) {
+                continue;
+            }
+
+            try {
+                MeetingSummaryDto partial = request.join();
+                partials.set(i, partial);
+                // 일부 청크가 실패해도 성공한 청크는 캐싱해 재시도 시 다시 요청하지 않음
+                summaryCacheService.put(cacheKeys.get(i), models.get(i), toJson(partial));
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = unwrap(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return merge(partials);
+    }
+
+    private MeetingSummaryDto merge(List<MeetingSummaryDto> partials) {
+        String summary = partials.stream()
+                .map(MeetingSummaryDto::getSummary)
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .reduce((left, right) -> left + " " + right)
+                .orElse("");
+
+        Set<String> milestoneKeys = new LinkedHashSet<>();
+        List<MilestoneDto> milestones = new ArrayList<>();
+        for (MeetingSummaryDto partial : partials) {
+            if (partial.getMilestones() == null) {
+                continue;
+            }
+            for (MilestoneDto milestone : partial.getMilestones()) {
+                if (milestoneKeys.add(milestone.getTask() + "\u0000" + milestone.getDeadline())) {
+                    milestones.add(milestone);
+                }
+            }
+        }
+
+        ActionItemsByRoleDto actionItems = new ActionItemsByRoleDto(
+                mergeRole(partials, ActionItemsByRoleDto::getPm),
+                mergeRole(partials, ActionItemsByRoleDto::getPd),
+                mergeRole(partials, ActionItemsByRoleDto::getFe),
+                mergeRole(partials, ActionItemsByRoleDto::getBe),
+                mergeRole(partials, ActionItemsByRoleDto::getAi),
+                mergeRole(partials, ActionItemsByRoleDto::getAll)
+        );
+
+        return new MeetingSummaryDto(summary, milestones, actionItems);
+    }
+
+    private List<String> mergeRole(List<MeetingSummaryDto> partials, Function<ActionItemsByRoleDto, List<String>> role) {
+        Set<String> items = new LinkedHashSet<>();
+        for (MeetingSummaryDto partial : partials) {
+            ActionItemsByRoleDto actionItems = partial.getActionItemsByRole();
+            List<String> roleItems = actionItems == null ? null : role.apply(actionItems);
+            if (roleItems != null) {
+                items.addAll(roleItems);
+            }
+        }
+        return new ArrayList<>(items);
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new IllegalStateException("청크 요약 중 오류가 발생했습니다.", e.getCause());
+    }
+
+    private MeetingSummaryDto parse(String summaryJson) {
+        try {
+            return objectMapper.readValue(summaryJson, MeetingSummaryDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시된 요약을 파싱하는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private String toJson(MeetingSummaryDto summaryDto) {
+        try {
+            return objectMapper.writeValueAsString(summaryDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요약 데이터를 JSON으로 변환하는 중 오류가 발생했습니다.", e);
+        }
+    }
+}
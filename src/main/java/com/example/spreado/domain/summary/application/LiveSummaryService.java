@@ -0,0 +1,78 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.meeting.core.entity.Meeting;
+import com.example.spreado.domain.meeting.core.entity.MeetingStatus;
+import com.example.spreado.domain.meeting.core.repository.MeetingRepository;
+import com.example.spreado.domain.meeting.core.util.RoomIdPolicy;
+import com.example.spreado.domain.note.core.entity.Note;
+import com.example.spreado.domain.summary.core.entity.LiveSummary;
+import com.example.spreado.domain.summary.core.entity.Summary;
+import com.example.spreado.domain.summary.core.repository.LiveSummaryRepository;
+import com.example.spreado.domain.summary.core.repository.SummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 진행 중인 회의의 중간 요약 저장소.
+ * 회의가 끝나면 중간 요약을 노트 요약으로 옮겨, 요약 작업이 회의 끝부분의 변경분만 반영하면 되도록 합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class LiveSummaryService {
+
+    private final MeetingRepository meetingRepository;
+    private final LiveSummaryRepository liveSummaryRepository;
+    private final SummaryRepository summaryRepository;
+    private final RoomIdPolicy roomIdPolicy;
+
+    public List<OngoingMeeting> findOngoingMeetings() {
+        return meetingRepository.findAllByStatus(MeetingStatus.ONGOING).stream()
+                .map(meeting -> new OngoingMeeting(meeting.getId(), roomIdPolicy.toRoomId(meeting)))
+                .toList();
+    }
+
+    public Optional<String> findSourceHash(Long meetingId) {
+        return liveSummaryRepository.findSourceHashByMeetingId(meetingId);
+    }
+
+    public Optional<LiveSummary> find(Long meetingId) {
+        return liveSummaryRepository.findByMeetingId(meetingId);
+    }
+
+    @Transactional
+    public boolean save(Long meetingId, String summaryJson, String sourceText, String sourceHash) {
+        return liveSummaryRepository.upsertIfOngoing(meetingId, summaryJson, sourceText, sourceHash);
+    }
+
+    /**
+     * 회의 종료 시 중간 요약을 새 노트의 요약으로 옮깁니다. 이후 요약 작업은 이 요약을 이전 요약으로 보고 갱신합니다.
+     */
+    @Transactional
+    public void promote(Meeting meeting, Note note) {
+        liveSummaryRepository.findByMeetingId(meeting.getId()).ifPresent(liveSummary -> {
+            if (summaryRepository.findByNoteId(note.getId()).isEmpty()) {
+                summaryRepository.save(Summary.create(note, liveSummary.getSummaryJson(), liveSummary.getSourceText()));
+                log.info("중간 요약을 노트 요약으로 옮김 - meetingId: {}, noteId: {}", meeting.getId(), note.getId());
+            }
+            liveSummaryRepository.deleteByMeetingId(meeting.getId());
+        });
+    }
+
+    /**
+     * 노트를 남기지 않고 종료된 회의의 중간 요약을 지웁니다.
+     */
+    @Transactional
+    public void discard(Long meetingId) {
+        liveSummaryRepository.deleteByMeetingId(meetingId);
+    }
+
+    public record OngoingMeeting(Long meetingId, String roomId) {
+    }
+}
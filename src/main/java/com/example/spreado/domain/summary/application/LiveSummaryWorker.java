@@ -0,0 +1,153 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.liveblocks.application.LiveblocksService;
+import com.example.spreado.domain.note.core.entity.NoteDraft;
+import com.example.spreado.domain.note.core.service.NoteDraftService;
+import com.example.spreado.domain.summary.application.LiveSummaryService.OngoingMeeting;
+import com.example.spreado.domain.summary.application.property.SummaryLiveProperties;
+import com.example.spreado.domain.summary.core.entity.LiveSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 진행 중인 회의를 주기적으로 돌며 중간 요약을 갱신하는 워커.
+ * 회의록 본문의 해시가 지난 요약 때와 같으면 AI를 호출하지 않고, 바뀌었으면 이전 중간 요약에 변경분만 반영합니다.
+ */
+@Slf4j
+@Component
+public class LiveSummaryWorker {
+
+    private static final String METRIC_NAME = "summary.live";
+
+    private final LiveSummaryService liveSummaryService;
+    private final SummaryService summaryService;
+    private final LiveblocksService liveblocksService;
+    private final NoteDraftService noteDraftService;
+    private final SummaryLiveProperties summaryLiveProperties;
+    private final ThreadPoolTaskExecutor summaryLiveExecutor;
+    private final MeterRegistry meterRegistry;
+    // 중간 요약 중인 회의 (이전 주기 작업이 아직 안 끝났으면 건너뜀)
+    private final Set<Long> runningMeetings = ConcurrentHashMap.newKeySet();
+
+    public LiveSummaryWorker(LiveSummaryService liveSummaryService,
+                             SummaryService summaryService,
+                             LiveblocksService liveblocksService,
+                             NoteDraftService noteDraftService,
+                             SummaryLiveProperties summaryLiveProperties,
+                             @Qualifier("summaryLiveExecutor") ThreadPoolTaskExecutor summaryLiveExecutor,
+                             MeterRegistry meterRegistry) {
+        this.liveSummaryService = liveSummaryService;
+        this.summaryService = summaryService;
+        this.liveblocksService = liveblocksService;
+        this.noteDraftService = noteDraftService;
+        this.summaryLiveProperties = summaryLiveProperties;
+        this.summaryLiveExecutor = summaryLiveExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${summary.live.poll-interval-ms:300000}",
+            initialDelayString = "${summary.live.poll-interval-ms:300000}")
+    public void poll() {
+        if (!summaryLiveProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            for (OngoingMeeting meeting : liveSummaryService.findOngoingMeetings()) {
+                if (!dispatch(meeting)) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("중간 요약 polling 중 오류 발생 - errorMessage: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean dispatch(OngoingMeeting meeting) {
+        if (!runningMeetings.add(meeting.meetingId())) {
+            return true;
+        }
+
+        try {
+            summaryLiveExecutor.execute(() -> run(meeting));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 나머지 회의는 다음 주기에 처리
+            runningMeetings.remove(meeting.meetingId());
+            return false;
+        }
+    }
+
+    private void run(OngoingMeeting meeting) {
+        try {
+            refresh(meeting);
+        } catch (Exception e) {
+            record("failed");
+            log.warn("중간 요약 실패 - meetingId: {}, errorType: {}, errorMessage: {}",
+                    meeting.meetingId(), e.getClass().getName(), e.getMessage());
+        } finally {
+            runningMeetings.remove(meeting.meetingId());
+        }
+    }
+
+    private void refresh(OngoingMeeting meeting) {
+        String plainText = currentPlainText(meeting);
+        if (!StringUtils.hasText(plainText) || plainText.length() < summaryLiveProperties.getMinChars()) {
+            record("skipped");
+            return;
+        }
+
+        String sourceHash = hash(plainText);
+        if (liveSummaryService.findSourceHash(meeting.meetingId()).filter(sourceHash::equals).isPresent()) {
+            record("unchanged");
+            return;
+        }
+
+        Optional<LiveSummary> previous = liveSummaryService.find(meeting.meetingId());
+        String summaryJson = summaryService.summarizeText(
+                previous.map(LiveSummary::getSummaryJson).orElse(null),
+                previous.map(LiveSummary::getSourceText).orElse(null),
+                plainText,
+                "meetingId: " + meeting.meetingId());
+
+        boolean saved = liveSummaryService.save(meeting.meetingId(), summaryJson, plainText, sourceHash);
+        record(saved ? "refreshed" : "ended");
+    }
+
+    /**
+     * 웹훅으로 받아 둔 초안이 마지막 변경 이후의 것이면 그대로 쓰고, 아니면 스토리지를 받아 옵니다.
+     */
+    private String currentPlainText(OngoingMeeting meeting) {
+        return noteDraftService.findCurrent(meeting.meetingId(), Duration.ZERO)
+                .map(NoteDraft::getPlainText)
+                .orElseGet(() -> liveblocksService.fetchStorageSnapshot(meeting.roomId()).plainText());
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+    }
+
+    private static String hash(String plainText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(plainText.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
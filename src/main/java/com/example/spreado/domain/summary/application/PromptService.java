@@ -1,22 +1,63 @@
 package com.example.spreado.domain.summary.application;
 
+import com.example.spreado.domain.summary.application.support.PromptTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+/**
+ * templates/prompts.yml의 템플릿을 시작 시 PromptTemplate으로 파싱해 두고 요청마다 렌더링만 합니다.
+ */
 @Service
 public class PromptService {
 
-    private final String summaryTemplate;
+    private static final String CHUNK_NOTICE = "(긴 회의록을 나눈 일부입니다. 이 부분에 명시된 내용만 요약하세요.)\n";
 
-    public PromptService(@Value("${summary.prompt.template:}") String summaryTemplate) {
-        this.summaryTemplate = summaryTemplate;
+    private final PromptTemplate summaryTemplate;
+    private final PromptTemplate chunkTemplate;
+    private final PromptTemplate updateTemplate;
+
+    public PromptService(@Value("${summary.prompt.template:}") String summaryTemplate,
+                         @Value("${summary.prompt.update-template:}") String updateTemplate) {
+        this.summaryTemplate = compile("summary.prompt.template", summaryTemplate, 1);
+        this.chunkTemplate = this.summaryTemplate == null
+                ? null
+                : this.summaryTemplate.withSlotPrefix("summary.prompt.template(chunk)", CHUNK_NOTICE);
+        this.updateTemplate = compile("summary.prompt.update-template", updateTemplate, 2);
     }
 
     public String buildSummaryPrompt(String meetingBody) {
-        if (!StringUtils.hasText(summaryTemplate)) {
-            throw new IllegalStateException("summary.prompt.template 설정이 필요합니다.");
+        return require(summaryTemplate, "summary.prompt.template").render(meetingBody);
+    }
+
+    public String buildChunkPrompt(String chunk) {
+        return require(chunkTemplate, "summary.prompt.template").render(chunk);
+    }
+
+    /**
+     * 기존 요약과 회의록 변경 내용만으로 요약을 고치는 프롬프트.
+     */
+    public String buildUpdatePrompt(String previousSummaryJson, String changes) {
+        return require(updateTemplate, "summary.prompt.update-template").render(previousSummaryJson, changes);
+    }
+
+    // 설정되지 않은 템플릿은 사용할 때 오류를 내고, 형식이 잘못된 템플릿은 시작 시 바로 실패시킴
+    private static PromptTemplate compile(String name, String source, int expectedSlots) {
+        if (!StringUtils.hasText(source)) {
+            return null;
+        }
+
+        PromptTemplate template = PromptTemplate.compile(name, source);
+        if (template.slotCount() != expectedSlots) {
+            throw new IllegalStateException(name + "에는 %s가 " + expectedSlots + "개 필요합니다. (현재: " + template.slotCount() + ")");
+        }
+        return template;
+    }
+
+    private static PromptTemplate require(PromptTemplate template, String name) {
+        if (template == null) {
+            throw new IllegalStateException(name + " 설정이 필요합니다.");
         }
-        return summaryTemplate.formatted(meetingBody);
+        return template;
     }
 }
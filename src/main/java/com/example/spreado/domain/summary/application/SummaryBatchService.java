@@ -0,0 +1,143 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.note.core.repository.NoteRepository;
+import com.example.spreado.domain.summary.api.dto.request.SummaryBatchRequest;
+import com.example.spreado.domain.summary.api.dto.response.SummaryBatchResponse;
+import com.example.spreado.domain.summary.application.SummaryJobService.SummaryJobEnqueuedEvent;
+import com.example.spreado.domain.summary.application.property.SummaryBatchProperties;
+import com.example.spreado.domain.summary.application.property.SummaryJobProperties;
+import com.example.spreado.domain.summary.core.entity.SummaryBatch;
+import com.example.spreado.domain.summary.core.entity.SummaryJob;
+import com.example.spreado.domain.summary.core.entity.SummaryJobStatus;
+import com.example.spreado.domain.summary.core.repository.SummaryBatchRepository;
+import com.example.spreado.domain.summary.core.repository.SummaryJobRepository;
+import com.example.spreado.global.shared.exception.BadRequestException;
+import com.example.spreado.global.shared.exception.ForbiddenException;
+import com.example.spreado.global.shared.exception.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요약이 없는 과거 회의록을 일괄 요약합니다.
+ * 대상 노트를 summary_jobs 큐에 등록하면 기존 워커가 실행기 크기만큼만 동시에 처리하고,
+ * 작업 시작 시각(next_run_at)을 분당 요청 수에 맞춰 나누어 두어 AI 호출 속도를 제한합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SummaryBatchService {
+
+    private final SummaryBatchRepository summaryBatchRepository;
+    private final NoteRepository noteRepository;
+    private final SummaryJobRepository summaryJobRepository;
+    private final SummaryBatchProperties summaryBatchProperties;
+    private final SummaryJobProperties summaryJobProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional
+    public SummaryBatchResponse createBatch(Long userId, SummaryBatchRequest request) {
+        checkAdmin(userId);
+        validate(request);
+
+        LocalDateTime from = request.from() == null ? null : request.from().atStartOfDay();
+        LocalDateTime to = request.to() == null ? null : request.to().plusDays(1).atStartOfDay();
+        List<Long> noteIds = summaryBatchRepository.findNoteIdsWithoutSummary(
+                request.groupId(), from, to, summaryBatchProperties.getMaxNotes());
+
+        SummaryBatch batch = summaryBatchRepository.save(
+                SummaryBatch.create(request.groupId(), request.from(), request.to(), userId, noteIds.size()));
+
+        Duration interval = Duration.ofMinutes(1).dividedBy(Math.max(1, summaryBatchProperties.getRatePerMinute()));
+        OffsetDateTime startAt = OffsetDateTime.now();
+        Long firstJobId = null;
+        for (int i = 0; i < noteIds.size(); i++) {
+            SummaryJob job = summaryJobRepository.save(SummaryJob.createForBatch(
+                    noteRepository.getReference(noteIds.get(i)), summaryJobProperties.getMaxAttempts(),
+                    batch, startAt.plus(interval.multipliedBy(i))));
+            if (firstJobId == null) {
+                firstJobId = job.getId();
+            }
+        }
+
+        meterRegistry.counter("summary.batch.notes.enqueued").increment(noteIds.size());
+        log.info("일괄 요약 등록 - batchId: {}, groupId: {}, from: {}, to: {}, notes: {}, interval: {}",
+                batch.getId(), request.groupId(), request.from(), request.to(), noteIds.size(), interval);
+
+        if (firstJobId != null) {
+            eventPublisher.publishEvent(new SummaryJobEnqueuedEvent(firstJobId));
+        }
+        return toResponse(batch);
+    }
+
+    public SummaryBatchResponse getBatch(Long userId, Long batchId) {
+        checkAdmin(userId);
+
+        SummaryBatch batch = summaryBatchRepository.findById(batchId)
+                .orElseThrow(() -> new NotFoundException("해당 일괄 요약 요청을 찾을 수 없습니다."));
+        return toResponse(batch);
+    }
+
+    private void checkAdmin(Long userId) {
+        if (!summaryBatchProperties.getAdminUserIds().contains(userId)) {
+            throw new ForbiddenException("관리자만 일괄 요약을 사용할 수 있습니다.");
+        }
+    }
+
+    private void validate(SummaryBatchRequest request) {
+        if (request.groupId() == null && request.from() == null && request.to() == null) {
+            throw new BadRequestException("groupId 또는 기간(from, to) 중 하나는 지정해야 합니다.");
+        }
+        if (request.from() != null && request.to() != null && request.from().isAfter(request.to())) {
+            throw new BadRequestException("from은 to보다 늦을 수 없습니다.");
+        }
+    }
+
+    private SummaryBatchResponse toResponse(SummaryBatch batch) {
+        Map<SummaryJobStatus, Long> counts = summaryBatchRepository.countJobsByStatus(batch.getId());
+        long pending = counts.getOrDefault(SummaryJobStatus.PENDING, 0L);
+        long running = counts.getOrDefault(SummaryJobStatus.RUNNING, 0L);
+        long succeeded = counts.getOrDefault(SummaryJobStatus.SUCCEEDED, 0L);
+        long failed = counts.getOrDefault(SummaryJobStatus.FAILED, 0L);
+
+        return new SummaryBatchResponse(
+                batch.getId(),
+                batch.getGroupId(),
+                batch.getFromDate(),
+                batch.getToDate(),
+                batch.getTotalNotes(),
+                pending,
+                running,
+                succeeded,
+                failed,
+                throughputPerMinute(batch, succeeded, pending + running == 0),
+                batch.getCreatedAt()
+        );
+    }
+
+    /**
+     * 요청 이후 분당 완료된 요약 수. 모두 끝난 요청은 마지막 작업이 끝난 시각까지로 계산합니다.
+     */
+    private double throughputPerMinute(SummaryBatch batch, long succeeded, boolean finished) {
+        if (succeeded == 0) {
+            return 0;
+        }
+
+        OffsetDateTime end = finished
+                ? summaryBatchRepository.findLastUpdatedAt(batch.getId()).orElseGet(OffsetDateTime::now)
+                : OffsetDateTime.now();
+        long elapsedMillis = Math.max(1, Duration.between(batch.getCreatedAt(), end).toMillis());
+        return succeeded * 60_000.0 / elapsedMillis;
+    }
+}
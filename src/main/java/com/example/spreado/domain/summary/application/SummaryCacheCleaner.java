@@ -0,0 +1,47 @@
+package com.example.spreado.domain.summary.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * summary_cache 테이블에서 ttl 동안 사용되지 않은 요약을 주기적으로 지우고, 메모리 캐시 적중을 테이블에 반영합니다.
+ * 묶음 단위로 나누어 지우므로 한 번에 많이 쌓여 있어도 긴 트랜잭션과 잠금을 만들지 않습니다.
+ * 여러 인스턴스가 동시에 실행되어도 같은 조건으로 지우기만 하므로 결과가 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SummaryCacheCleaner {
+
+    private final SummaryCacheService summaryCacheService;
+
+    @Scheduled(fixedDelayString = "${summary.cache.hit-flush-interval-ms:600000}")
+    public void flushHits() {
+        try {
+            summaryCacheService.flushHits();
+        } catch (Exception e) {
+            log.error("요약 캐시 적중 기록 중 오류 발생 - errorMessage: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${summary.cache.cleanup-interval-ms:3600000}",
+            initialDelayString = "${summary.cache.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        try {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = summaryCacheService.evictUnused();
+                total += deleted;
+            } while (deleted > 0);
+
+            if (total > 0) {
+                log.info("오래 사용되지 않은 요약 캐시 {}건을 삭제했습니다.", total);
+            }
+        } catch (Exception e) {
+            log.error("요약 캐시 정리 중 오류 발생 - errorMessage: {}", e.getMessage(), e);
+        }
+    }
+}
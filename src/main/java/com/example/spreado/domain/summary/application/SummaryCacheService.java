@@ -0,0 +1,151 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.summary.application.property.SummaryCacheProperties;
+import com.example.spreado.domain.summary.core.entity.SummaryCacheEntry;
+import com.example.spreado.domain.summary.core.repository.SummaryCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 회의록 내용에 대해 AI를 다시 호출하지 않도록 요약 결과를 캐싱합니다.
+ * 키는 모델명과 프롬프트(템플릿 + 전처리된 본문)의 SHA-256 해시이며,
+ * 크기가 제한된 메모리 캐시 뒤에 summary_cache 테이블을 두는 2단 구조입니다.
+ * 요약 생성은 트랜잭션 없이 실행되므로 테이블 조회/저장은 각각 짧은 트랜잭션으로 실행합니다.
+ * 메모리 캐시 적중은 키별로 모아 두었다가 SummaryCacheCleaner가 주기적으로 테이블의 hit_count/last_hit_at에 반영합니다.
+ */
+@Service
+public class SummaryCacheService {
+
+    private static final String METRIC_NAME = "summary.cache";
+
+    private final SummaryCacheRepository summaryCacheRepository;
+    private final SummaryCacheProperties summaryCacheProperties;
+    private final Map<String, String> memoryCache;
+    // 아직 테이블에 반영하지 않은 메모리 캐시 적중 수
+    private final Map<String, Long> pendingHits = new ConcurrentHashMap<>();
+
+    private final Counter memoryHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter missCounter;
+
+    public SummaryCacheService(SummaryCacheRepository summaryCacheRepository,
+                               SummaryCacheProperties summaryCacheProperties,
+                               MeterRegistry meterRegistry) {
+        this.summaryCacheRepository = summaryCacheRepository;
+        this.summaryCacheProperties = summaryCacheProperties;
+        this.memoryCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > summaryCacheProperties.getMaxEntries();
+            }
+        });
+
+        this.memoryHitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .tag("tier", "memory")
+                .register(meterRegistry);
+        this.databaseHitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .tag("tier", "database")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .tag("tier", "none")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".memory.size", memoryCache, Map::size)
+                .register(meterRegistry);
+    }
+
+    public String buildKey(String model, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(model).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시된 요약 JSON을 조회합니다. DB에서 찾은 항목은 메모리 캐시에도 올려 둡니다.
+     */
+    @Transactional
+    public Optional<String> get(String cacheKey) {
+        if (!summaryCacheProperties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        String cached = memoryCache.get(cacheKey);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            pendingHits.merge(cacheKey, 1L, Long::sum);
+            return Optional.of(cached);
+        }
+
+        Optional<String> stored = summaryCacheRepository.findByKey(cacheKey)
+                .map(SummaryCacheEntry::getSummaryJson);
+        if (stored.isPresent()) {
+            databaseHitCounter.increment();
+            summaryCacheRepository.recordHits(cacheKey, 1, OffsetDateTime.now());
+            memoryCache.put(cacheKey, stored.get());
+            return stored;
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    @Transactional
+    public void put(String cacheKey, String model, String summaryJson) {
+        if (!summaryCacheProperties.isEnabled()) {
+            return;
+        }
+
+        summaryCacheRepository.insertIfAbsent(cacheKey, model, summaryJson);
+        memoryCache.put(cacheKey, summaryJson);
+    }
+
+    /**
+     * 모아 둔 메모리 캐시 적중을 테이블에 반영하고 반영한 키 수를 반환합니다.
+     * 자주 쓰이는 요약이 메모리에서만 적중해 last_hit_at이 멈춘 채 ttl 정리로 지워지지 않도록 합니다.
+     */
+    @Transactional
+    public int flushHits() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int flushed = 0;
+        for (String cacheKey : pendingHits.keySet()) {
+            Long hits = pendingHits.remove(cacheKey);
+            if (hits != null) {
+                summaryCacheRepository.recordHits(cacheKey, hits, now);
+                flushed++;
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * ttl 동안 사용되지 않은 캐시를 한 묶음(cleanupBatchSize) 지우고 지운 수를 반환합니다.
+     * 메모리 캐시는 크기가 제한되어 있으므로 그대로 둡니다.
+     */
+    @Transactional
+    public int evictUnused() {
+        OffsetDateTime threshold = OffsetDateTime.now().minus(summaryCacheProperties.getTtl());
+        return summaryCacheRepository.deleteUnusedBefore(threshold, summaryCacheProperties.getCleanupBatchSize());
+    }
+}
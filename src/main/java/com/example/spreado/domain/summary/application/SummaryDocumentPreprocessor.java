@@ -1,18 +1,41 @@
 package com.example.spreado.domain.summary.application;
 
 import com.example.spreado.global.shared.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.MissingNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * tiptap 문서를 요약 프롬프트용 마크다운 형태의 텍스트로 변환합니다.
+ * 문서 트리를 새로 만들지 않고 JsonParser로 한 번만 순회하며 하나의 버퍼에 바로 기록합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class SummaryDocumentPreprocessor {
 
+    // 문서 위치 우선순위 (값이 클수록 우선)
+    private static final int UNRESOLVED = -1;
+    private static final int ROOT_CONTENT = 0;
+    private static final int ROOT_DOC = 1;
+    private static final int DATA_DOC = 2;
+    private static final int DATA_CONTENT = 3;
+
+    // 블록 단위 텍스트처럼 감싸는 인라인 배열이 없는 경우
+    private static final int NO_INLINE_RANGE = -1;
+
+    private static final String UNCHECKED_MARKER = "[ ] ";
+    private static final String CHECKED_MARKER = "[x] ";
+
     private final ObjectMapper objectMapper;
 
     public String toPlainText(JsonNode docsNode) {
@@ -20,230 +43,709 @@ public class SummaryDocumentPreprocessor {
             return "";
         }
 
-        JsonNode root = normalizeRootNode(docsNode);
-        if (root.isMissingNode() || root.isNull()) {
+        if (docsNode.isMissingNode()) {
             throw new BadRequestException("회의록 문서가 비어 있습니다.");
         }
 
-        if (root.isTextual()) {
-            throw new BadRequestException("회의록은 tiptap JSON 형식으로 저장되어야 합니다.");
+        try (JsonParser parser = createRootParser(docsNode)) {
+            return convert(parser);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("노트 문서를 파싱하는 중 오류가 발생했습니다.");
+        } catch (IOException e) {
+            throw new IllegalStateException("회의록 문서를 읽는 중 오류가 발생했습니다.", e);
         }
+    }
 
-        JsonNode docNode = resolveDocNode(root);
-        if (docNode.isMissingNode()) {
-            throw new BadRequestException("회의록 문서에서 doc.content 구조를 찾을 수 없습니다.");
+    /**
+     * Liveblocks 스토리지 JSON(노트 content의 data 값)을 파서에서 바로 읽어 변환합니다.
+     * 결과는 스토리지를 {"data": 스토리지}로 감싼 노트 content에 toPlainText를 호출한 것과 같습니다.
+     * 회의록 구조를 찾지 못해도 스토리지 값은 끝까지 읽으며, 이때는 null을 반환합니다.
+     */
+    public String toPlainTextFromStorage(JsonParser storageParser) throws IOException {
+        if (storageParser.nextToken() != JsonToken.START_OBJECT) {
+            storageParser.skipChildren();
+            return null;
         }
 
         StringBuilder builder = new StringBuilder();
-        appendContent(docNode.path("content"), builder, 0);
+        int resolved = appendDataObject(storageParser, builder, UNRESOLVED);
+        return resolved == UNRESOLVED ? null : cleanup(builder);
+    }
+
+    /**
+     * toPlainText 결과에서 요약에 도움이 되지 않는 줄을 덜어냅니다.
+     * 내용 없는 목록/할 일 항목과 앞에서 이미 나온 제목(대소문자, 단계 무시)을 지우고 빈 줄이 이어지지 않도록 정리합니다.
+     */
+    public String compact(String plainText) {
+        StringBuilder builder = new StringBuilder(plainText.length());
+        Set<String> headings = new HashSet<>();
+
+        int from = 0;
+        while (from <= plainText.length()) {
+            int to = plainText.indexOf('\n', from);
+            if (to < 0) {
+                to = plainText.length();
+            }
+            String line = plainText.substring(from, to);
+            from = to + 1;
+
+            String stripped = line.strip();
+            if (stripped.isEmpty()) {
+                appendLineBreak(builder);
+                continue;
+            }
+            if (isEmptyListItem(stripped)) {
+                continue;
+            }
+            String heading = headingText(stripped);
+            if (heading != null && !headings.add(heading.toLowerCase(Locale.ROOT))) {
+                continue;
+            }
 
-        return cleanup(builder.toString());
+            builder.append(line);
+            appendLineBreak(builder);
+        }
+        return cleanup(builder);
+    }
+
+    private boolean isEmptyListItem(String line) {
+        if (line.equals("-") || line.equals(UNCHECKED_MARKER.trim()) || line.equals(CHECKED_MARKER.trim())) {
+            return true;
+        }
+
+        // 번호 목록 "1."
+        int digits = 0;
+        while (digits < line.length() && Character.isDigit(line.charAt(digits))) {
+            digits++;
+        }
+        return digits > 0 && digits == line.length() - 1 && line.charAt(digits) == '.';
     }
 
-    private JsonNode normalizeRootNode(JsonNode docsNode) {
+    // "# 제목" 형태면 제목 텍스트, 아니면 null
+    private String headingText(String line) {
+        int level = 0;
+        while (level < line.length() && line.charAt(level) == '#') {
+            level++;
+        }
+        if (level == 0 || level >= line.length() || line.charAt(level) != ' ') {
+            return null;
+        }
+        return line.substring(level + 1).strip();
+    }
+
+    private JsonParser createRootParser(JsonNode docsNode) throws IOException {
         if (!docsNode.isTextual()) {
-            return docsNode;
+            return docsNode.traverse(objectMapper);
         }
 
         String raw = docsNode.asText("");
         if (!StringUtils.hasText(raw)) {
-            return MissingNode.getInstance();
+            throw new BadRequestException("회의록 문서가 비어 있습니다.");
         }
+        return objectMapper.createParser(raw);
+    }
 
-        try {
-            return objectMapper.readTree(raw);
-        } catch (JsonProcessingException e) {
-            throw new BadRequestException("노트 문서를 파싱하는 중 오류가 발생했습니다.");
+    private String convert(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            throw new BadRequestException("회의록 문서가 비어 있습니다.");
         }
-    }
 
-    private JsonNode resolveDocNode(JsonNode root) {
-        // 1. data.content가 문자열이면 파싱 (Liveblocks 저장 형식)
-        JsonNode dataContent = root.path("data").path("content");
-        if (dataContent.isTextual()) {
-            try {
-                JsonNode parsed = objectMapper.readTree(dataContent.asText());
-                if (hasDocContent(parsed)) {
-                    return parsed;
+        if (token == JsonToken.VALUE_STRING) {
+            // 문자열 토큰이 올바른지 먼저 확인 (잘못된 경우 파싱 오류로 처리)
+            parser.getText();
+            throw new BadRequestException("회의록은 tiptap JSON 형식으로 저장되어야 합니다.");
+        }
+
+        StringBuilder builder = new StringBuilder();
+        int resolved = UNRESOLVED;
+
+        if (token == JsonToken.START_OBJECT) {
+            // 여러 경로에 문서가 있으면 우선순위가 높은 쪽의 결과만 남김
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                int mark = builder.length();
+
+                switch (field) {
+                    case "data" -> {
+                        if (value == JsonToken.START_OBJECT) {
+                            resolved = appendDataObject(parser, builder, resolved);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "doc" -> {
+                        boolean found = value == JsonToken.START_OBJECT && appendDocObject(parser, builder);
+                        resolved = select(builder, mark, found, ROOT_DOC, resolved);
+                    }
+                    case "content" -> {
+                        boolean found = value == JsonToken.START_ARRAY;
+                        if (found) {
+                            appendContent(parser, builder, 0);
+                        } else {
+                            parser.skipChildren();
+                        }
+                        resolved = select(builder, mark, found, ROOT_CONTENT, resolved);
+                    }
+                    default -> parser.skipChildren();
                 }
-            } catch (JsonProcessingException e) {
-                // 파싱 실패 시 다음 경로 시도
             }
+        } else {
+            parser.skipChildren();
         }
 
-        // 2. data.doc 경로
-        JsonNode docNode = root.path("data").path("doc");
-        if (hasDocContent(docNode)) {
-            return docNode;
+        if (resolved == UNRESOLVED) {
+            throw new BadRequestException("회의록 문서에서 doc.content 구조를 찾을 수 없습니다.");
         }
 
-        docNode = root.path("doc");
-        if (hasDocContent(docNode)) {
-            return docNode;
+        return cleanup(builder);
+    }
+
+    private int appendDataObject(JsonParser parser, StringBuilder builder, int resolved) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            int mark = builder.length();
+
+            switch (field) {
+                // 1. data.content가 문자열이면 파싱 (Liveblocks 저장 형식)
+                case "content" -> {
+                    boolean found = value == JsonToken.VALUE_STRING && appendEmbeddedDocument(parser, builder);
+                    if (value != JsonToken.VALUE_STRING) {
+                        parser.skipChildren();
+                    }
+                    resolved = select(builder, mark, found, DATA_CONTENT, resolved);
+                }
+                // 2. data.doc 경로
+                case "doc" -> {
+                    boolean found = value == JsonToken.START_OBJECT && appendDocObject(parser, builder);
+                    resolved = select(builder, mark, found, DATA_DOC, resolved);
+                }
+                default -> parser.skipChildren();
+            }
         }
+        return resolved;
+    }
 
-        if (hasDocContent(root)) {
-            return root;
+    private boolean appendEmbeddedDocument(JsonParser parser, StringBuilder builder) throws IOException {
+        try (JsonParser embedded = parser.hasTextCharacters()
+                ? objectMapper.createParser(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                : objectMapper.createParser(parser.getText())) {
+            if (embedded.nextToken() != JsonToken.START_OBJECT) {
+                embedded.skipChildren();
+                return false;
+            }
+            return appendDocObject(embedded, builder);
+        } catch (JsonProcessingException e) {
+            // 파싱 실패 시 다음 경로 시도
+            return false;
         }
+    }
+
+    private boolean appendDocObject(JsonParser parser, StringBuilder builder) throws IOException {
+        int start = builder.length();
+        boolean found = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (!"content".equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
 
-        return MissingNode.getInstance();
+            builder.setLength(start);
+            found = value == JsonToken.START_ARRAY;
+            if (found) {
+                appendContent(parser, builder, 0);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return found;
     }
 
-    private boolean hasDocContent(JsonNode node) {
-        return node != null
-                && !node.isMissingNode()
-                && !node.isNull()
-                && node.path("content").isArray();
+    private int select(StringBuilder builder, int mark, boolean found, int priority, int resolved) {
+        if (found && priority >= resolved) {
+            builder.delete(0, mark);
+            return priority;
+        }
+        builder.setLength(mark);
+        return resolved;
     }
 
-    private void appendContent(JsonNode contentNode, StringBuilder builder, int indentLevel) {
-        if (contentNode == null || !contentNode.isArray()) {
+    private void appendContent(JsonParser parser, StringBuilder builder, int indentLevel) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
             return;
         }
 
-        for (JsonNode node : contentNode) {
-            String type = node.path("type").asText("");
-            switch (type) {
-                case "heading" -> appendHeading(node, builder);
-                case "paragraph" -> appendParagraph(node, builder);
-                case "bulletList" -> appendList(node, builder, indentLevel, false);
-                case "orderedList" -> appendList(node, builder, indentLevel, true);
-                case "blockquote" -> appendBlockquote(node, builder);
-                case "taskList" -> appendTaskList(node, builder, indentLevel);
-                default -> appendContent(node.path("content"), builder, indentLevel);
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                appendNode(parser, builder, indentLevel, null);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 블록 노드 하나를 기록합니다. bullet이 있으면 목록 항목의 자식으로 처리하며,
+     * 문단이 기록되었는지(항목의 대표 텍스트가 있는지)를 반환합니다.
+     */
+    private boolean appendNode(JsonParser parser, StringBuilder builder, int indentLevel, String bullet) throws IOException {
+        int start = builder.length();
+        String type = null;
+        JsonNode level = null;
+        JsonNode pendingContent = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "type" -> type = readType(parser);
+                case "attrs" -> level = readAttribute(parser, "level");
+                case "content" -> {
+                    // type보다 content가 먼저 오면 처리 방법을 알 수 없으므로 type을 읽은 뒤에 처리
+                    if (type == null) {
+                        pendingContent = parser.readValueAsTree();
+                    } else {
+                        appendNodeContent(parser, builder, type, indentLevel, bullet);
+                    }
+                }
+                default -> parser.skipChildren();
             }
         }
+
+        if (type == null) {
+            type = "";
+        }
+
+        if (pendingContent != null) {
+            try (JsonParser buffered = pendingContent.traverse(objectMapper)) {
+                buffered.nextToken();
+                appendNodeContent(buffered, builder, type, indentLevel, bullet);
+            }
+        }
+
+        if (bullet != null) {
+            return finishListChild(builder, start, type, indentLevel, bullet);
+        }
+
+        switch (type) {
+            case "heading" -> finishHeading(builder, start, level);
+            case "paragraph" -> finishParagraph(builder, start);
+            case "blockquote" -> finishBlockquote(builder, start);
+            default -> {
+            }
+        }
+        return false;
     }
 
-    private void appendHeading(JsonNode node, StringBuilder builder) {
-        int level = node.path("attrs").path("level").asInt(1);
-        String headingText = collectInlineText(node.path("content"));
+    private void appendNodeContent(JsonParser parser, StringBuilder builder, String type, int indentLevel, String bullet) throws IOException {
+        if (bullet != null) {
+            switch (type) {
+                case "paragraph" -> appendInlineText(parser, builder, NO_INLINE_RANGE);
+                case "bulletList" -> appendList(parser, builder, indentLevel + 1, false);
+                case "orderedList" -> appendList(parser, builder, indentLevel + 1, true);
+                case "taskList" -> appendTaskList(parser, builder, indentLevel + 1);
+                default -> appendContent(parser, builder, indentLevel + 1);
+            }
+            return;
+        }
+
+        switch (type) {
+            case "heading", "paragraph", "blockquote" -> appendInlineText(parser, builder, NO_INLINE_RANGE);
+            case "bulletList" -> appendList(parser, builder, indentLevel, false);
+            case "orderedList" -> appendList(parser, builder, indentLevel, true);
+            case "taskList" -> appendTaskList(parser, builder, indentLevel);
+            default -> appendContent(parser, builder, indentLevel);
+        }
+    }
 
-        if (headingText.isEmpty()) {
+    private void finishHeading(StringBuilder builder, int start, JsonNode levelNode) {
+        if (builder.length() == start) {
             return;
         }
 
-        builder.append("#".repeat(Math.max(1, level)))
-                .append(" ")
-                .append(headingText.trim())
-                .append("\n\n");
+        int level = levelNode == null ? 1 : levelNode.asInt(1);
+        trim(builder, start);
+        builder.insert(start, "#".repeat(Math.max(1, level)) + " ");
+        appendBlockEnd(builder);
     }
 
-    private void appendParagraph(JsonNode node, StringBuilder builder) {
-        String paragraphText = collectInlineText(node.path("content"));
-        if (paragraphText.isEmpty()) {
+    private void finishParagraph(StringBuilder builder, int start) {
+        if (builder.length() == start) {
             return;
         }
 
-        builder.append(paragraphText.trim())
-                .append("\n\n");
+        trim(builder, start);
+        appendBlockEnd(builder);
     }
 
-    private void appendBlockquote(JsonNode node, StringBuilder builder) {
-        String text = collectInlineText(node.path("content"));
-        if (text.isEmpty()) {
+    private void finishBlockquote(StringBuilder builder, int start) {
+        if (builder.length() == start) {
             return;
         }
 
-        builder.append("> ")
-                .append(text.trim().replaceAll("\\s*\\n\\s*", "\n> "))
-                .append("\n\n");
+        trim(builder, start);
+
+        // 줄바꿈이 포함된 공백 구간을 "\n> "로 바꾼 결과를 뒤에 기록한 뒤 원래 구간을 지움
+        int end = builder.length();
+        builder.append("> ");
+        int index = start;
+        while (index < end) {
+            char c = builder.charAt(index);
+            if (!isWhitespace(c)) {
+                builder.append(c);
+                index++;
+                continue;
+            }
+
+            int runEnd = index;
+            boolean hasNewline = false;
+            while (runEnd < end && isWhitespace(builder.charAt(runEnd))) {
+                hasNewline |= builder.charAt(runEnd) == '\n';
+                runEnd++;
+            }
+
+            if (hasNewline) {
+                builder.append("\n> ");
+            } else {
+                for (int i = index; i < runEnd; i++) {
+                    builder.append(builder.charAt(i));
+                }
+            }
+            index = runEnd;
+        }
+        builder.delete(start, end);
+        appendBlockEnd(builder);
+    }
+
+    private boolean finishListChild(StringBuilder builder, int start, String type, int indentLevel, String bullet) {
+        if (!"paragraph".equals(type) || builder.length() == start) {
+            return false;
+        }
+
+        trim(builder, start);
+        builder.insert(start, "  ".repeat(indentLevel) + bullet);
+        appendLineBreak(builder);
+        return true;
     }
 
-    private void appendList(JsonNode node, StringBuilder builder, int indentLevel, boolean ordered) {
-        JsonNode items = node.path("content");
-        if (items == null || !items.isArray()) {
+    private void appendList(JsonParser parser, StringBuilder builder, int indentLevel, boolean ordered) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
             return;
         }
 
         int index = 1;
-        for (JsonNode item : items) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
             String bullet = ordered ? index++ + ". " : "- ";
-            appendListItem(item, builder, indentLevel, bullet);
+            appendListItem(parser, builder, indentLevel, bullet);
         }
-        builder.append("\n");
+        appendLineBreak(builder);
     }
 
-    private void appendTaskList(JsonNode node, StringBuilder builder, int indentLevel) {
-        JsonNode items = node.path("content");
-        if (items == null || !items.isArray()) {
+    private void appendTaskList(JsonParser parser, StringBuilder builder, int indentLevel) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
             return;
         }
 
-        for (JsonNode item : items) {
-            boolean checked = item.path("attrs").path("checked").asBoolean(false);
-            String marker = checked ? "[x] " : "[ ] ";
-            appendListItem(item, builder, indentLevel, marker);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            appendListItem(parser, builder, indentLevel, null);
         }
-        builder.append("\n");
+        appendLineBreak(builder);
     }
 
-    private void appendListItem(JsonNode item, StringBuilder builder, int indentLevel, String bullet) {
-        String indent = "  ".repeat(Math.max(0, indentLevel));
+    /**
+     * 목록 항목을 기록합니다. bullet이 null이면 체크 여부(attrs.checked)로 할 일 표시를 정합니다.
+     */
+    private void appendListItem(JsonParser parser, StringBuilder builder, int indentLevel, String bullet) throws IOException {
+        boolean task = bullet == null;
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            appendListLine(builder, indentLevel, task ? UNCHECKED_MARKER : bullet);
+            return;
+        }
+
+        String marker = bullet;
+        JsonNode pendingContent = null;
+        boolean hasContent = false;
         boolean hasPrimaryText = false;
 
-        JsonNode content = item.path("content");
-        if (content == null || !content.isArray()) {
-            builder.append(indent)
-                    .append(bullet)
-                    .append("\n");
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("attrs".equals(field) && task) {
+                JsonNode checked = readAttribute(parser, "checked");
+                marker = checked != null && checked.asBoolean(false) ? CHECKED_MARKER : UNCHECKED_MARKER;
+            } else if ("content".equals(field)) {
+                // 체크 여부를 아직 모르면 attrs를 읽은 뒤에 처리
+                if (marker == null) {
+                    pendingContent = parser.readValueAsTree();
+                } else if (value == JsonToken.START_ARRAY) {
+                    hasContent = true;
+                    hasPrimaryText = appendListItemContent(parser, builder, indentLevel, marker);
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (marker == null) {
+            marker = UNCHECKED_MARKER;
+        }
+
+        if (pendingContent != null && pendingContent.isArray()) {
+            try (JsonParser buffered = pendingContent.traverse(objectMapper)) {
+                buffered.nextToken();
+                hasContent = true;
+                hasPrimaryText = appendListItemContent(buffered, builder, indentLevel, marker);
+            }
+        }
+
+        if (!hasContent) {
+            appendListLine(builder, indentLevel, marker);
+        } else if (!hasPrimaryText) {
+            appendListLine(builder, indentLevel, marker.trim());
+        }
+    }
+
+    private boolean appendListItemContent(JsonParser parser, StringBuilder builder, int indentLevel, String bullet) throws IOException {
+        boolean hasPrimaryText = false;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                hasPrimaryText |= appendNode(parser, builder, indentLevel, bullet);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return hasPrimaryText;
+    }
+
+    private void appendListLine(StringBuilder builder, int indentLevel, String bullet) {
+        builder.append("  ".repeat(indentLevel))
+                .append(bullet);
+        appendLineBreak(builder);
+    }
+
+    /**
+     * 인라인 노드들의 텍스트를 이어 붙입니다. 배열이면 공백을 정리하고 앞뒤 공백을 제거합니다.
+     * rangeStart는 감싸고 있는 인라인 배열 구간의 시작 위치입니다.
+     */
+    private void appendInlineText(JsonParser parser, StringBuilder builder, int rangeStart) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            if (rangeStart == NO_INLINE_RANGE) {
+                appendValueText(parser, builder, builder.length(), false);
+            } else {
+                appendValueText(parser, builder, rangeStart, true);
+            }
             return;
         }
 
-        for (JsonNode child : content) {
-            String type = child.path("type").asText("");
-            switch (type) {
-                case "paragraph" -> {
-                    String text = collectInlineText(child.path("content"));
-                    if (!text.isEmpty()) {
-                        builder.append(indent)
-                                .append(bullet)
-                                .append(text.trim())
-                                .append("\n");
-                        hasPrimaryText = true;
+        int start = builder.length();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                appendInlineNode(parser, builder, start);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        trim(builder, start);
+    }
+
+    private void appendInlineNode(JsonParser parser, StringBuilder builder, int rangeStart) throws IOException {
+        String type = null;
+        JsonNode pendingText = null;
+        JsonNode pendingContent = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "type" -> type = readType(parser);
+                case "text" -> {
+                    if (type == null) {
+                        pendingText = parser.readValueAsTree();
+                    } else if ("text".equals(type)) {
+                        appendValueText(parser, builder, rangeStart, true);
+                    } else {
+                        parser.skipChildren();
                     }
                 }
-                case "bulletList" -> appendList(child, builder, indentLevel + 1, false);
-                case "orderedList" -> appendList(child, builder, indentLevel + 1, true);
-                case "taskList" -> appendTaskList(child, builder, indentLevel + 1);
-                default -> appendContent(child.path("content"), builder, indentLevel + 1);
+                case "content" -> {
+                    if (type == null) {
+                        pendingContent = parser.readValueAsTree();
+                    } else if (!"text".equals(type) && !"hardBreak".equals(type)) {
+                        appendInlineText(parser, builder, rangeStart);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
             }
         }
 
-        if (!hasPrimaryText) {
-            builder.append(indent)
-                    .append(bullet.trim())
-                    .append("\n");
+        if (type == null) {
+            type = "";
+        }
+
+        switch (type) {
+            case "text" -> {
+                if (pendingText != null) {
+                    String text = pendingText.asText("");
+                    for (int i = 0; i < text.length(); i++) {
+                        appendInlineChar(builder, text.charAt(i), rangeStart, true);
+                    }
+                }
+            }
+            case "hardBreak" -> appendInlineChar(builder, '\n', rangeStart, true);
+            default -> {
+                if (pendingContent != null) {
+                    try (JsonParser buffered = pendingContent.traverse(objectMapper)) {
+                        buffered.nextToken();
+                        appendInlineText(buffered, builder, rangeStart);
+                    }
+                }
+            }
         }
     }
 
-    private String collectInlineText(JsonNode nodes) {
-        if (nodes == null) {
-            return "";
+    /**
+     * 현재 값을 JsonNode.asText("")와 같은 규칙으로 기록합니다.
+     */
+    private void appendValueText(JsonParser parser, StringBuilder builder, int rangeStart, boolean collapse) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING && parser.hasTextCharacters()) {
+            char[] chars = parser.getTextCharacters();
+            int end = parser.getTextOffset() + parser.getTextLength();
+            for (int i = parser.getTextOffset(); i < end; i++) {
+                appendInlineChar(builder, chars[i], rangeStart, collapse);
+            }
+            return;
         }
 
-        if (!nodes.isArray()) {
-            return nodes.asText("");
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
         }
 
-        StringBuilder text = new StringBuilder();
-        for (JsonNode node : nodes) {
-            String type = node.path("type").asText("");
-            switch (type) {
-                case "text" -> text.append(node.path("text").asText(""));
-                case "hardBreak" -> text.append("\n");
-                default -> text.append(collectInlineText(node.path("content")));
+        String text = token == JsonToken.VALUE_STRING
+                ? parser.getText()
+                : parser.<JsonNode>readValueAsTree().asText("");
+        for (int i = 0; i < text.length(); i++) {
+            appendInlineChar(builder, text.charAt(i), rangeStart, collapse);
+        }
+    }
+
+    /**
+     * 인라인 문자를 기록하면서 rangeStart 이후 구간의 연속된 공백/탭은 한 칸으로 줄이고(collapse),
+     * 세 번 이상 이어지는 줄바꿈은 두 번으로 줄입니다.
+     */
+    private void appendInlineChar(StringBuilder builder, char c, int rangeStart, boolean collapse) {
+        int length = builder.length();
+
+        if (collapse && isSpaceOrTab(c) && length > rangeStart && isSpaceOrTab(builder.charAt(length - 1))) {
+            builder.setCharAt(length - 1, ' ');
+            return;
+        }
+
+        if (c == '\n' && length - 2 >= rangeStart
+                && builder.charAt(length - 1) == '\n'
+                && builder.charAt(length - 2) == '\n') {
+            return;
+        }
+
+        builder.append(c);
+    }
+
+    private void appendBlockEnd(StringBuilder builder) {
+        appendLineBreak(builder);
+        appendLineBreak(builder);
+    }
+
+    // 빈 줄이 두 줄 이상 이어지지 않도록 줄바꿈을 기록
+    private void appendLineBreak(StringBuilder builder) {
+        int length = builder.length();
+        if (length >= 2 && builder.charAt(length - 1) == '\n' && builder.charAt(length - 2) == '\n') {
+            return;
+        }
+        builder.append('\n');
+    }
+
+    private boolean isSpaceOrTab(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    // 정규식 \s와 같은 공백 문자 집합
+    private boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private String readType(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+
+        parser.skipChildren();
+        return "";
+    }
+
+    private JsonNode readAttribute(JsonParser parser, String name) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        JsonNode attribute = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                attribute = parser.readValueAsTree();
+            } else {
+                parser.skipChildren();
             }
         }
+        return attribute;
+    }
 
-        return text.toString().replaceAll("[ \\t]{2,}", " ").trim();
+    // String.trim()과 같은 기준으로 start 이후 구간의 앞뒤 공백을 제거
+    private void trim(StringBuilder builder, int start) {
+        int end = builder.length();
+        while (end > start && builder.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        builder.setLength(end);
+
+        int from = start;
+        while (from < end && builder.charAt(from) <= ' ') {
+            from++;
+        }
+        builder.delete(start, from);
     }
 
-    private String cleanup(String text) {
-        if (!StringUtils.hasText(text)) {
+    private String cleanup(StringBuilder builder) {
+        if (!StringUtils.hasText(builder)) {
             return "";
         }
 
-        return text.replaceAll("(\\n){3,}", "\n\n").trim();
+        trim(builder, 0);
+        return builder.toString();
     }
 }
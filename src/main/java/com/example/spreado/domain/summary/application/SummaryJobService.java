@@ -0,0 +1,186 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.meeting.core.repository.MeetingJoinRepository;
+import com.example.spreado.domain.note.core.entity.Note;
+import com.example.spreado.domain.note.core.repository.NoteRepository;
+import com.example.spreado.domain.summary.api.dto.response.SummaryJobResponse;
+import com.example.spreado.domain.summary.application.property.SummaryJobProperties;
+import com.example.spreado.domain.summary.core.entity.SummaryJob;
+import com.example.spreado.domain.summary.core.entity.SummaryJobStatus;
+import com.example.spreado.domain.summary.core.repository.SummaryJobRepository;
+import com.example.spreado.global.shared.exception.ForbiddenException;
+import com.example.spreado.global.shared.exception.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * summary_jobs 테이블 기반의 요약 작업 큐.
+ * 작업 등록/조회와 워커의 점유·완료·실패 처리를 각각 짧은 트랜잭션으로 수행합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SummaryJobService {
+
+    private final SummaryJobRepository summaryJobRepository;
+    private final NoteRepository noteRepository;
+    private final MeetingJoinRepository meetingJoinRepository;
+    private final SummaryJobProperties summaryJobProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 요약 작업을 등록합니다. 같은 노트에 대기/실행 중인 작업이 있으면 그 작업을 반환합니다.
+     * 호출한 트랜잭션이 커밋된 뒤 워커를 깨워 바로 처리되도록 합니다.
+     */
+    @Transactional
+    public SummaryJobResponse enqueue(Long noteId) {
+        SummaryJob job = summaryJobRepository.findActiveByNoteId(noteId)
+                .orElseGet(() -> {
+                    Note note = noteRepository.findById(noteId)
+                            .orElseThrow(() -> new NotFoundException("해당 노트를 찾을 수 없습니다."));
+                    return summaryJobRepository.save(SummaryJob.create(note, summaryJobProperties.getMaxAttempts()));
+                });
+
+        eventPublisher.publishEvent(new SummaryJobEnqueuedEvent(job.getId()));
+        return toResponse(job);
+    }
+
+    /**
+     * 요약 작업 상태를 조회합니다. 작업 대상 노트의 회의에 참여한 사용자만 조회할 수 있습니다.
+     */
+    public SummaryJobResponse getJob(Long jobId, Long userId) {
+        SummaryJob job = summaryJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException("해당 요약 작업을 찾을 수 없습니다."));
+
+        if (!meetingJoinRepository.existsByMeetingIdAndUserId(job.getNote().getMeeting().getId(), userId)) {
+            throw new ForbiddenException("해당 회의에 참여 중인 사용자가 아닙니다.");
+        }
+
+        return toResponse(job);
+    }
+
+    /**
+     * 실행 가능한 작업을 최대 limit개 점유합니다.
+     * 커밋 이후 이벤트 리스너에서도 호출되므로 항상 새 트랜잭션으로 실행합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> claimJobs(String workerId, int limit) {
+        List<SummaryJob> jobs = summaryJobRepository.lockRunnableJobs(limit);
+        jobs.forEach(job -> job.claim(workerId, summaryJobProperties.getLease()));
+        return jobs.stream()
+                .map(SummaryJob::getId)
+                .toList();
+    }
+
+    public Long getNoteId(Long jobId) {
+        return summaryJobRepository.findById(jobId)
+                .map(job -> job.getNote().getId())
+                .orElseThrow(() -> new NotFoundException("해당 요약 작업을 찾을 수 없습니다."));
+    }
+
+    @Transactional
+    public void complete(Long jobId, String workerId, Long summaryId) {
+        findOwnedJob(jobId, workerId).ifPresent(job -> {
+            job.succeed(summaryId);
+            recordBatchResult(job);
+        });
+    }
+
+    @Transactional
+    public void fail(Long jobId, String workerId, String error, boolean retryable) {
+        findOwnedJob(jobId, workerId).ifPresent(job -> {
+            job.fail(error, retryable, backoff(job.getAttempts()));
+            log.warn("요약 작업 실패 - jobId: {}, attempts: {}/{}, status: {}, nextRunAt: {}",
+                    jobId, job.getAttempts(), job.getMaxAttempts(), job.getStatus(), job.getNextRunAt());
+            if (job.getStatus() == SummaryJobStatus.FAILED) {
+                recordBatchResult(job);
+            }
+        });
+    }
+
+    @Transactional
+    public void release(Long jobId, String workerId) {
+        findOwnedJob(jobId, workerId).ifPresent(SummaryJob::release);
+    }
+
+    /**
+     * 실행 중인 작업의 lease를 연장해 처리 시간이 lease보다 길어져도 다른 워커가 가져가지 않도록 합니다.
+     */
+    @Transactional
+    public int renewLeases(Collection<Long> jobIds, String workerId) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        return summaryJobRepository.renewLeases(jobIds, workerId, OffsetDateTime.now().plus(summaryJobProperties.getLease()));
+    }
+
+    /**
+     * 처리 도중 종료된 인스턴스가 남긴 RUNNING 작업을 다시 대기 상태로 돌립니다.
+     */
+    @Transactional
+    public int requeueExpiredLeases() {
+        return summaryJobRepository.requeueExpiredLeases(OffsetDateTime.now());
+    }
+
+    private Optional<SummaryJob> findOwnedJob(Long jobId, String workerId) {
+        return summaryJobRepository.findById(jobId)
+                .filter(job -> {
+                    if (job.isLockedBy(workerId)) {
+                        return true;
+                    }
+                    // lease가 만료되어 다른 워커가 가져간 작업이면 결과를 덮어쓰지 않음
+                    log.warn("점유하지 않은 요약 작업 결과 무시 - jobId: {}, workerId: {}, lockedBy: {}",
+                            jobId, workerId, job.getLockedBy());
+                    return false;
+                });
+    }
+
+    /**
+     * 일괄 요약 작업의 최종 결과를 집계합니다. (/actuator/metrics/summary.batch.jobs)
+     */
+    private void recordBatchResult(SummaryJob job) {
+        if (job.isBatchJob()) {
+            meterRegistry.counter("summary.batch.jobs", "result", job.getStatus().name().toLowerCase()).increment();
+        }
+    }
+
+    /**
+     * 지수 backoff (initial * 2^(attempts-1), 최대 maxBackoff)에 ±20% jitter를 적용합니다.
+     */
+    private Duration backoff(int attempts) {
+        long initialMillis = summaryJobProperties.getInitialBackoff().toMillis();
+        long maxMillis = summaryJobProperties.getMaxBackoff().toMillis();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(initialMillis << exponent, maxMillis);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+
+    private SummaryJobResponse toResponse(SummaryJob job) {
+        return new SummaryJobResponse(
+                job.getId(),
+                job.getNote().getId(),
+                job.getStatus(),
+                job.getAttempts(),
+                job.getSummaryId(),
+                job.getLastError()
+        );
+    }
+
+    public record SummaryJobEnqueuedEvent(Long jobId) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.summary.api.dto.response.SummaryResponse;
+import com.example.spreado.domain.summary.application.SummaryJobService.SummaryJobEnqueuedEvent;
+import com.example.spreado.domain.summary.application.property.SummaryJobProperties;
+import com.example.spreado.global.shared.exception.BadRequestException;
+import com.example.spreado.global.shared.exception.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * summary_jobs 테이블을 polling 하여 요약 작업을 실행하는 워커.
+ * 여러 인스턴스가 동시에 실행되어도 SKIP LOCKED 점유로 같은 작업을 중복 처리하지 않습니다.
+ * 점유한 작업은 실행기 큐에서 기다리는 동안에도 lease를 주기적으로 연장하므로, lease는 워커가 종료된 경우에만 만료되어 다른 워커가 가져갑니다.
+ * 실행기 큐에 오래 쌓아 두지 않도록 한 번에 실행기 스레드 수만큼만 점유합니다.
+ */
+@Slf4j
+@Component
+public class SummaryJobWorker {
+
+    private final SummaryJobService summaryJobService;
+    private final SummaryService summaryService;
+    private final SummaryJobProperties summaryJobProperties;
+    private final ThreadPoolTaskExecutor summaryJobExecutor;
+    private final String workerId;
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private final Set<Long> claimedJobs = ConcurrentHashMap.newKeySet();
+    private final Map<Long, RunningJob> runningJobs = new ConcurrentHashMap<>();
+
+    public SummaryJobWorker(SummaryJobService summaryJobService,
+                            SummaryService summaryService,
+                            SummaryJobProperties summaryJobProperties,
+                            @Qualifier("summaryJobExecutor") ThreadPoolTaskExecutor summaryJobExecutor) {
+        this.summaryJobService = summaryJobService;
+        this.summaryService = summaryService;
+        this.summaryJobProperties = summaryJobProperties;
+        this.summaryJobExecutor = summaryJobExecutor;
+        this.workerId = resolveWorkerId();
+    }
+
+    /**
+     * 이전 실행에서 처리 중 종료되어 lease가 만료된 작업을 다시 대기 상태로 돌립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverExpiredLeases() {
+        int recovered = summaryJobService.requeueExpiredLeases();
+        if (recovered > 0) {
+            log.info("만료된 요약 작업 {}건을 다시 대기열에 등록했습니다.", recovered);
+        }
+    }
+
+    /**
+     * 작업이 등록된 트랜잭션이 커밋되면 다음 polling을 기다리지 않고 바로 가져갑니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobEnqueued(SummaryJobEnqueuedEvent event) {
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${summary.job.poll-interval-ms:2000}")
+    public void poll() {
+        if (!pollLock.tryLock()) {
+            return;
+        }
+        try {
+            int capacity = availableCapacity();
+            if (capacity <= 0) {
+                return;
+            }
+
+            List<Long> jobIds = summaryJobService.claimJobs(workerId, Math.min(capacity, summaryJobProperties.getBatchSize()));
+            for (Long jobId : jobIds) {
+                // lease 연장이 늦어 이 워커가 다시 가져온 작업이면 이미 실행 중이거나 실행을 기다리는 중이므로 한 번 더 실행하지 않음
+                if (claimedJobs.add(jobId)) {
+                    dispatch(jobId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("요약 작업 polling 중 오류 발생 - workerId: {}, errorMessage: {}", workerId, e.getMessage(), e);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * 점유한 작업(실행 중이거나 실행기 큐에서 기다리는 작업)의 lease를 연장합니다.
+     * 최대 실행 시간을 넘긴 작업은 실행 스레드를 중단하고 더 이상 연장하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${summary.job.lease-renew-interval-ms:60000}")
+    public void renewLeases() {
+        if (claimedJobs.isEmpty()) {
+            return;
+        }
+
+        Instant deadline = Instant.now().minus(summaryJobProperties.getMaxRunTime());
+        List<Long> renewing = new ArrayList<>();
+        for (Long jobId : claimedJobs) {
+            RunningJob runningJob = runningJobs.get(jobId);
+            if (runningJob != null && runningJob.startedAt().isBefore(deadline)) {
+                log.warn("요약 작업 최대 실행 시간 초과로 중단합니다 - jobId: {}, startedAt: {}", jobId, runningJob.startedAt());
+                runningJob.thread().interrupt();
+            } else {
+                renewing.add(jobId);
+            }
+        }
+
+        try {
+            summaryJobService.renewLeases(renewing, workerId);
+        } catch (Exception e) {
+            log.error("요약 작업 lease 연장 실패 - workerId: {}, jobs: {}, errorMessage: {}", workerId, renewing.size(), e.getMessage(), e);
+        }
+    }
+
+    private void dispatch(Long jobId) {
+        try {
+            summaryJobExecutor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException e) {
+            log.warn("요약 작업 실행기 포화로 작업을 반환합니다 - jobId: {}", jobId);
+            claimedJobs.remove(jobId);
+            summaryJobService.release(jobId, workerId);
+        }
+    }
+
+    private void run(Long jobId) {
+        runningJobs.put(jobId, new RunningJob(Thread.currentThread(), Instant.now()));
+        try {
+            Long noteId = summaryJobService.getNoteId(jobId);
+            SummaryResponse summary = summaryService.generateSummary(noteId);
+            summaryJobService.complete(jobId, workerId, summary.summaryId());
+        } catch (Exception e) {
+            // 최대 실행 시간 초과로 중단된 경우 실패 기록 전에 인터럽트 상태를 지움
+            Thread.interrupted();
+            summaryJobService.fail(jobId, workerId, e.getMessage(), isRetryable(e));
+        } finally {
+            runningJobs.remove(jobId);
+            claimedJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * 노트가 없거나 내용이 비어 있는 경우처럼 다시 시도해도 결과가 같은 오류는 재시도하지 않습니다.
+     */
+    private boolean isRetryable(Exception e) {
+        return !(e instanceof BadRequestException || e instanceof NotFoundException);
+    }
+
+    /**
+     * 아직 끝나지 않은 점유 작업(실행 중 + 큐 대기)을 뺀 실행기 스레드 수.
+     * 큐 여유분까지 점유하면 lease를 잡은 채 큐에서 오래 기다리게 되므로 스레드 수만 기준으로 합니다.
+     */
+    private int availableCapacity() {
+        return summaryJobExecutor.getMaxPoolSize() - claimedJobs.size();
+    }
+
+    private static String resolveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private record RunningJob(Thread thread, Instant startedAt) {
+    }
+}
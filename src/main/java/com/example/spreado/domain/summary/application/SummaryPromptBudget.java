@@ -0,0 +1,88 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.summary.application.property.SummaryBudgetProperties;
+import com.example.spreado.domain.summary.application.support.PromptTokenCounter;
+import com.example.spreado.global.shared.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약 프롬프트의 토큰 예산을 관리합니다.
+ * 예산을 넘는 회의록은 먼저 빈 할 일 항목, 중복 제목 같은 정보가 적은 줄을 덜어내고,
+ * 그래도 넘는 프롬프트는 AI를 호출하지 않고 바로 실패시킵니다.
+ * 예상 토큰 수는 summary.prompt.tokens 로 기록하며, 실제 사용량(ai.request.tokens)과 비교해 예산을 조정합니다.
+ */
+@Slf4j
+@Component
+public class SummaryPromptBudget {
+
+    private final PromptService promptService;
+    private final SummaryDocumentPreprocessor documentPreprocessor;
+    private final PromptTokenCounter tokenCounter;
+    private final SummaryBudgetProperties summaryBudgetProperties;
+
+    private final DistributionSummary promptTokens;
+    private final Counter compactedCounter;
+    private final Counter rejectedCounter;
+
+    public SummaryPromptBudget(PromptService promptService,
+                               SummaryDocumentPreprocessor documentPreprocessor,
+                               PromptTokenCounter tokenCounter,
+                               SummaryBudgetProperties summaryBudgetProperties,
+                               MeterRegistry meterRegistry) {
+        this.promptService = promptService;
+        this.documentPreprocessor = documentPreprocessor;
+        this.tokenCounter = tokenCounter;
+        this.summaryBudgetProperties = summaryBudgetProperties;
+
+        this.promptTokens = DistributionSummary.builder("summary.prompt.tokens")
+                .baseUnit("tokens")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.compactedCounter = Counter.builder("summary.prompt.compacted").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("summary.prompt.rejected").register(meterRegistry);
+    }
+
+    /**
+     * 회의록 전체를 한 번에 요약할 때 예산을 넘으면 정보가 적은 줄을 덜어낸 본문을 반환합니다.
+     * 덜어낸 뒤에도 넘는 경우는 청크로 나누어 요약하므로 여기서는 실패시키지 않습니다.
+     */
+    public String fit(String plainText) {
+        int tokens = tokenCounter.count(promptService.buildSummaryPrompt(plainText));
+        if (tokens <= summaryBudgetProperties.getMaxPromptTokens()) {
+            return plainText;
+        }
+
+        String compacted = documentPreprocessor.compact(plainText);
+        if (compacted.length() != plainText.length()) {
+            compactedCounter.increment();
+            log.info("요약 프롬프트 예산 초과로 본문 정리 - tokens: {}, chars: {} -> {}",
+                    tokens, plainText.length(), compacted.length());
+        }
+        return compacted;
+    }
+
+    /**
+     * 프롬프트가 예산 안에 드는지 확인만 합니다. 넘는 경우 다른 방식(전체 다시 요약)으로 바꿀 때 사용합니다.
+     */
+    public boolean fits(String prompt) {
+        return tokenCounter.count(prompt) <= summaryBudgetProperties.getMaxPromptTokens();
+    }
+
+    /**
+     * AI 요청 직전에 프롬프트 토큰 수를 확인합니다.
+     */
+    public void check(String prompt) {
+        int tokens = tokenCounter.count(prompt);
+        promptTokens.record(tokens);
+
+        int maxPromptTokens = summaryBudgetProperties.getMaxPromptTokens();
+        if (tokens > maxPromptTokens) {
+            rejectedCounter.increment();
+            throw new BadRequestException("회의록이 너무 길어 요약할 수 없습니다. (토큰: " + tokens + ", 한도: " + maxPromptTokens + ")");
+        }
+    }
+}
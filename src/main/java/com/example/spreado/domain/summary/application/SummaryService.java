@@ -1,22 +1,29 @@
 package com.example.spreado.domain.summary.application;
 
 import com.example.spreado.domain.meeting.core.repository.MeetingJoinRepository;
-import com.example.spreado.domain.note.core.entity.Note;
-import com.example.spreado.domain.note.core.repository.NoteRepository;
-import com.example.spreado.domain.summary.application.client.AiClient;
+import com.example.spreado.domain.summary.application.SummaryStoreService.PreviousSummary;
+import com.example.spreado.domain.summary.application.SummaryStoreService.SummarySource;
+import com.example.spreado.domain.summary.application.client.SummaryModelRouter;
+import com.example.spreado.domain.summary.application.client.SummaryStreamListener;
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
+import com.example.spreado.domain.summary.application.property.SummaryIncrementalProperties;
+import com.example.spreado.domain.summary.application.support.NoteTextDiffer;
+import com.example.spreado.domain.summary.application.support.SummaryTextChunker;
 import com.example.spreado.domain.summary.core.repository.SummaryRepository;
 import com.example.spreado.domain.summary.api.dto.response.SummaryResponse;
 import com.example.spreado.domain.summary.api.dto.request.SummaryUpdateRequest;
 import com.example.spreado.domain.summary.core.entity.Summary;
-import com.example.spreado.global.shared.exception.BadRequestException;
 import com.example.spreado.global.shared.exception.NotFoundException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -24,43 +31,81 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class SummaryService {
 
-    private final NoteRepository noteRepository;
+    private final SummaryStoreService summaryStoreService;
     private final SummaryRepository summaryRepository;
     private final MeetingJoinRepository meetingJoinRepository;
-    private final SummaryDocumentPreprocessor documentPreprocessor;
     private final PromptService promptService;
-    private final AiClient aiClient;
+    private final SummaryTextChunker textChunker;
+    private final ChunkedSummarizer chunkedSummarizer;
+    private final SummaryPromptBudget summaryPromptBudget;
+    private final SummaryModelRouter summaryModelRouter;
+    private final SummaryCacheService summaryCacheService;
+    private final NoteTextDiffer noteTextDiffer;
+    private final SummaryIncrementalProperties summaryIncrementalProperties;
     private final ObjectMapper objectMapper;
 
-    @Transactional
+    /**
+     * 노트 요약을 생성합니다. 조회와 저장만 짧은 트랜잭션으로 실행하고, AI 응답을 기다리는 동안에는 트랜잭션을 열지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SummaryResponse generateSummary(Long noteId) {
-        Note note = noteRepository.findById(noteId)
-                .orElseThrow(() -> new NotFoundException("해당 노트를 찾을 수 없습니다."));
+        SummarySource source = summaryStoreService.loadSource(noteId);
+        if (source.isUnchanged()) {
+            return source.previous().get().summary();
+        }
 
-        String plainText = documentPreprocessor.toPlainText(note.getContent());
-        if (!StringUtils.hasText(plainText)) {
-            throw new BadRequestException("요약할 회의록 내용이 비어 있습니다.");
+        try {
+            String plainText = source.plainText();
+            String summaryJson = source.previous().flatMap(previous -> buildUpdatePrompt(noteId, previous, plainText))
+                    .map(this::requestSummaryJson)
+                    .orElseGet(() -> summarize(plainText));
+            return summaryStoreService.save(noteId, summaryJson, plainText);
+        } catch (Exception e) {
+            log.error("요약 생성 중 오류 발생 - noteId: {}, errorType: {}, errorMessage: {}",
+                    noteId, e.getClass().getName(), e.getMessage(), e);
+            throw e;
         }
+    }
 
-        String prompt = promptService.buildSummaryPrompt(plainText);
+    /**
+     * 요약을 스트리밍으로 생성하면서 완성된 부분을 리스너로 전달합니다.
+     * 캐시에 있거나 청크로 나누어 요약하는 경우에는 결과를 한 번에 전달하며, 조회/저장 방식은 generateSummary와 같습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SummaryResponse streamSummary(Long noteId, SummaryStreamListener listener) {
+        SummarySource source = summaryStoreService.loadSource(noteId);
+        if (source.isUnchanged()) {
+            SummaryResponse previous = source.previous().get().summary();
+            listener.replay(parseSummaryJson(previous.summaryJson()));
+            return previous;
+        }
 
         try {
-            var summaryDto = aiClient.requestSummary(prompt);
-            String summaryJson = convertToJson(summaryDto);
-
-            return summaryRepository.findByNoteId(noteId)
-                    .map(existing -> {
-                        existing.updateSummaryJson(summaryJson);
-                        return SummaryResponse.from(existing);
-                    })
-                    .orElseGet(() -> SummaryResponse.from(summaryRepository.save(Summary.create(note, summaryJson))));
+            String plainText = source.plainText();
+            String summaryJson = source.previous().flatMap(previous -> buildUpdatePrompt(noteId, previous, plainText))
+                    .map(prompt -> streamSummaryJson(prompt, listener))
+                    .orElseGet(() -> summarizeStreaming(plainText, listener));
+            return summaryStoreService.save(noteId, summaryJson, plainText);
         } catch (Exception e) {
-            log.error("요약 생성 중 오류 발생 - noteId: {}, errorType: {}, errorMessage: {}",
+            log.error("스트리밍 요약 생성 중 오류 발생 - noteId: {}, errorType: {}, errorMessage: {}",
                     noteId, e.getClass().getName(), e.getMessage(), e);
             throw e;
         }
     }
 
+    /**
+     * 노트 없이 본문만으로 요약 JSON을 만듭니다 (진행 중인 회의의 중간 요약).
+     * 이전 요약과 그때의 본문이 있으면 generateSummary와 같은 기준으로 변경분만 반영합니다.
+     * DB를 사용하지 않으므로 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String summarizeText(String previousSummaryJson, String previousSourceText, String plainText, String target) {
+        return Optional.ofNullable(previousSummaryJson)
+                .flatMap(summaryJson -> buildUpdatePrompt(summaryJson, previousSourceText, plainText, target))
+                .map(this::requestSummaryJson)
+                .orElseGet(() -> summarize(plainText));
+    }
+
     public SummaryResponse getSummary(Long noteId) {
         Summary summary = summaryRepository.findByNoteId(noteId)
                 .orElseThrow(() -> new NotFoundException("해당 노트의 요약이 존재하지 않습니다."));
@@ -87,6 +132,98 @@ public class SummaryService {
 
 
     // 헬퍼 메서드
+    /**
+     * 이전 요약에 사용한 본문과 비교해 바뀐 부분이 적으면 기존 요약과 변경 내용만 담은 갱신 프롬프트를 만듭니다.
+     * 처음 요약했거나 많이 바뀐 경우에는 빈 값을 반환해 전체를 다시 요약합니다.
+     */
+    private Optional<String> buildUpdatePrompt(Long noteId, PreviousSummary previous, String plainText) {
+        return buildUpdatePrompt(previous.summary().summaryJson(), previous.sourceText(), plainText, "noteId: " + noteId);
+    }
+
+    private Optional<String> buildUpdatePrompt(String summaryJson, String sourceText, String plainText, String target) {
+        if (!summaryIncrementalProperties.isEnabled() || sourceText == null) {
+            return Optional.empty();
+        }
+
+        NoteTextDiffer.NoteTextDiff diff = noteTextDiffer.diff(sourceText, plainText);
+        if (diff.changedRatio() > summaryIncrementalProperties.getMaxChangedRatio()) {
+            log.info("변경된 내용이 많아 전체 다시 요약 - {}, changedRatio: {}",
+                    target, String.format("%.2f", diff.changedRatio()));
+            return Optional.empty();
+        }
+
+        // 변경 비율이 작아도 긴 회의록이면 기존 요약 + 변경 내용이 예산을 넘을 수 있음 (전체 요약은 fit/청크로 처리됨)
+        String prompt = promptService.buildUpdatePrompt(summaryJson, diff.describe());
+        if (!summaryPromptBudget.fits(prompt)) {
+            log.info("갱신 프롬프트가 예산을 넘어 전체 다시 요약 - {}, changedChars: {}", target, diff.changedChars());
+            return Optional.empty();
+        }
+
+        log.info("변경분만 반영해 요약 갱신 - {}, hunks: {}, changedChars: {}",
+                target, diff.hunks().size(), diff.changedChars());
+        return Optional.of(prompt);
+    }
+
+    private String summarize(String plainText) {
+        String text = summaryPromptBudget.fit(plainText);
+        List<String> chunks = textChunker.split(text);
+        if (chunks.size() == 1) {
+            return requestSummaryJson(promptService.buildSummaryPrompt(text));
+        }
+
+        // 모델 컨텍스트/타임아웃을 넘지 않도록 나누어 요약 후 병합
+        return convertToJson(chunkedSummarizer.summarize(chunks));
+    }
+
+    private String requestSummaryJson(String prompt) {
+        String model = summaryModelRouter.route(prompt);
+        String cacheKey = summaryCacheService.buildKey(model, prompt);
+
+        return summaryCacheService.get(cacheKey)
+                .orElseGet(() -> {
+                    summaryPromptBudget.check(prompt);
+                    String summaryJson = convertToJson(summaryModelRouter.requestSummary(prompt));
+                    summaryCacheService.put(cacheKey, model, summaryJson);
+                    return summaryJson;
+                });
+    }
+
+    private String summarizeStreaming(String plainText, SummaryStreamListener listener) {
+        String text = summaryPromptBudget.fit(plainText);
+        List<String> chunks = textChunker.split(text);
+        if (chunks.size() > 1) {
+            MeetingSummaryDto merged = chunkedSummarizer.summarize(chunks);
+            listener.replay(merged);
+            return convertToJson(merged);
+        }
+
+        return streamSummaryJson(promptService.buildSummaryPrompt(text), listener);
+    }
+
+    private String streamSummaryJson(String prompt, SummaryStreamListener listener) {
+        String model = summaryModelRouter.route(prompt);
+        String cacheKey = summaryCacheService.buildKey(model, prompt);
+
+        Optional<String> cached = summaryCacheService.get(cacheKey);
+        if (cached.isPresent()) {
+            listener.replay(parseSummaryJson(cached.get()));
+            return cached.get();
+        }
+
+        summaryPromptBudget.check(prompt);
+        String summaryJson = convertToJson(summaryModelRouter.streamSummary(prompt, listener));
+        summaryCacheService.put(cacheKey, model, summaryJson);
+        return summaryJson;
+    }
+
+    private MeetingSummaryDto parseSummaryJson(String summaryJson) {
+        try {
+            return objectMapper.readValue(summaryJson, MeetingSummaryDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시된 요약을 파싱하는 중 오류가 발생했습니다.", e);
+        }
+    }
+
     private String convertToJson(Object dto) {
         try {
             return objectMapper.writeValueAsString(dto);
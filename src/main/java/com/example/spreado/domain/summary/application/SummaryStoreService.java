@@ -0,0 +1,78 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.note.core.entity.Note;
+import com.example.spreado.domain.note.core.repository.NoteRepository;
+import com.example.spreado.domain.summary.api.dto.response.SummaryResponse;
+import com.example.spreado.domain.summary.core.entity.Summary;
+import com.example.spreado.domain.summary.core.repository.SummaryRepository;
+import com.example.spreado.global.shared.exception.BadRequestException;
+import com.example.spreado.global.shared.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.Optional;
+
+/**
+ * 요약 생성에 필요한 노트 본문/이전 요약 조회와 결과 저장.
+ * AI 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 조회와 저장을 각각 짧은 트랜잭션으로 나눕니다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SummaryStoreService {
+
+    private final NoteRepository noteRepository;
+    private final SummaryRepository summaryRepository;
+    private final SummaryDocumentPreprocessor documentPreprocessor;
+
+    public SummarySource loadSource(Long noteId) {
+        Note note = noteRepository.findById(noteId)
+                .orElseThrow(() -> new NotFoundException("해당 노트를 찾을 수 없습니다."));
+
+        Optional<PreviousSummary> previous = summaryRepository.findByNoteId(noteId)
+                .map(summary -> new PreviousSummary(SummaryResponse.from(summary), summary.getSourceText()));
+        return new SummarySource(noteId, toPlainText(note), previous);
+    }
+
+    /**
+     * 요약 결과를 저장합니다. 요약하는 동안 다른 요청이 먼저 저장했으면 그 요약을 갱신합니다.
+     */
+    @Transactional
+    public SummaryResponse save(Long noteId, String summaryJson, String plainText) {
+        return summaryRepository.findByNoteId(noteId)
+                .map(existing -> {
+                    existing.regenerate(summaryJson, plainText);
+                    return SummaryResponse.from(existing);
+                })
+                .orElseGet(() -> {
+                    Note note = noteRepository.findById(noteId)
+                            .orElseThrow(() -> new NotFoundException("해당 노트를 찾을 수 없습니다."));
+                    return SummaryResponse.from(summaryRepository.save(Summary.create(note, summaryJson, plainText)));
+                });
+    }
+
+    private String toPlainText(Note note) {
+        String plainText = note.getPlainText() != null
+                ? note.getPlainText()
+                : documentPreprocessor.toPlainText(note.getContent());
+        if (!StringUtils.hasText(plainText)) {
+            throw new BadRequestException("요약할 회의록 내용이 비어 있습니다.");
+        }
+        return plainText;
+    }
+
+    public record SummarySource(Long noteId, String plainText, Optional<PreviousSummary> previous) {
+
+        /**
+         * 요약 이후 회의록 본문이 바뀌지 않았으면 AI를 호출하지 않고 기존 요약(직접 수정한 내용 포함)을 그대로 사용합니다.
+         */
+        public boolean isUnchanged() {
+            return previous.isPresent() && plainText.equals(previous.get().sourceText());
+        }
+    }
+
+    public record PreviousSummary(SummaryResponse summary, String sourceText) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.summary.api.dto.response.SummaryActionItemResponse;
+import com.example.spreado.domain.summary.api.dto.response.SummaryResponse;
+import com.example.spreado.domain.summary.api.dto.response.SummaryTextDeltaResponse;
+import com.example.spreado.domain.summary.application.client.SummaryStreamListener;
+import com.example.spreado.domain.summary.application.client.dto.MilestoneDto;
+import com.example.spreado.domain.summary.application.property.SummaryStreamProperties;
+import com.example.spreado.global.shared.exception.BadRequestException;
+import com.example.spreado.global.shared.exception.ErrorResponse;
+import com.example.spreado.global.shared.exception.NotFoundException;
+import com.example.spreado.global.shared.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 요약 생성 과정을 SSE로 전달합니다.
+ * summary 본문 조각(summary), 완성된 마일스톤(milestone)과 액션 아이템(actionItem)을 도착하는 대로 보내고,
+ * 저장이 끝나면 저장된 요약(done)을, 실패하면 에러(error)를 보낸 뒤 스트림을 닫습니다.
+ */
+@Slf4j
+@Service
+public class SummaryStreamService {
+
+    private final SummaryService summaryService;
+    private final SummaryStreamProperties summaryStreamProperties;
+    private final ThreadPoolTaskExecutor summaryStreamExecutor;
+
+    public SummaryStreamService(SummaryService summaryService,
+                                SummaryStreamProperties summaryStreamProperties,
+                                @Qualifier("summaryStreamExecutor") ThreadPoolTaskExecutor summaryStreamExecutor) {
+        this.summaryService = summaryService;
+        this.summaryStreamProperties = summaryStreamProperties;
+        this.summaryStreamExecutor = summaryStreamExecutor;
+    }
+
+    public SseEmitter streamSummary(Long noteId) {
+        SseEmitter emitter = new SseEmitter(summaryStreamProperties.getTimeout().toMillis());
+        SseSummaryStreamListener listener = new SseSummaryStreamListener(noteId, emitter);
+
+        try {
+            summaryStreamExecutor.execute(() -> generate(noteId, listener));
+        } catch (RejectedExecutionException e) {
+            log.warn("요약 스트림 실행기 포화로 요청 거절 - noteId: {}", noteId);
+            throw new ServiceUnavailableException("진행 중인 요약 스트림이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return emitter;
+    }
+
+    private void generate(Long noteId, SseSummaryStreamListener listener) {
+        try {
+            SummaryResponse summary = summaryService.streamSummary(noteId, listener);
+            listener.send("done", summary);
+        } catch (Exception e) {
+            listener.send("error", new ErrorResponse(statusOf(e), e.getMessage()));
+        } finally {
+            listener.complete();
+        }
+    }
+
+    private int statusOf(Exception e) {
+        if (e instanceof NotFoundException) {
+            return HttpStatus.NOT_FOUND.value();
+        }
+        if (e instanceof BadRequestException) {
+            return HttpStatus.BAD_REQUEST.value();
+        }
+        if (e instanceof ServiceUnavailableException) {
+            return HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    /**
+     * 클라이언트 연결이 끊겨도 요약 생성과 저장은 끝까지 진행하도록 전송 실패는 기록만 하고 이후 이벤트는 버립니다.
+     */
+    private static final class SseSummaryStreamListener implements SummaryStreamListener {
+
+        private final Long noteId;
+        private final SseEmitter emitter;
+        private volatile boolean disconnected;
+
+        private SseSummaryStreamListener(Long noteId, SseEmitter emitter) {
+            this.noteId = noteId;
+            this.emitter = emitter;
+            emitter.onTimeout(() -> disconnected = true);
+            emitter.onError(error -> disconnected = true);
+        }
+
+        @Override
+        public void onSummaryText(String delta) {
+            send("summary", new SummaryTextDeltaResponse(delta));
+        }
+
+        @Override
+        public void onMilestone(MilestoneDto milestone) {
+            send("milestone", milestone);
+        }
+
+        @Override
+        public void onActionItem(String role, String item) {
+            send("actionItem", new SummaryActionItemResponse(role, item));
+        }
+
+        private void send(String eventName, Object data) {
+            if (disconnected) {
+                return;
+            }
+
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(eventName)
+                        .data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                disconnected = true;
+                log.info("요약 스트림 연결 종료 - noteId: {}, 요약 생성은 계속 진행합니다.", noteId);
+            }
+        }
+
+        private void complete() {
+            if (!disconnected) {
+                emitter.complete();
+            }
+        }
+    }
+}
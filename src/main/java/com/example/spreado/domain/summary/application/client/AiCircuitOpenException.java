@@ -0,0 +1,12 @@
+package com.example.spreado.domain.summary.application.client;
+
+import com.example.spreado.global.shared.exception.ServiceUnavailableException;
+
+/**
+ * 모델의 서킷 브레이커가 열려 호출하지 않은 경우. 폴백 모델로 다시 요청할지 판단하는 데 사용합니다.
+ */
+public class AiCircuitOpenException extends ServiceUnavailableException {
+    public AiCircuitOpenException(String message) {
+        super(message);
+    }
+}
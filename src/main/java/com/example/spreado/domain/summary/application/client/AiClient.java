@@ -3,5 +3,10 @@ package com.example.spreado.domain.summary.application.client;
 import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
 
 public interface AiClient {
-    MeetingSummaryDto requestSummary(String prompt);
+    MeetingSummaryDto requestSummary(String model, String prompt);
+
+    /**
+     * 응답을 스트리밍으로 받아 완성된 부분을 리스너로 먼저 전달하고, 전체 결과를 반환합니다.
+     */
+    MeetingSummaryDto streamSummary(String model, String prompt, SummaryStreamListener listener);
 }
@@ -0,0 +1,10 @@
+package com.example.spreado.domain.summary.application.client;
+
+/**
+ * AI 응답이 읽기 타임아웃 안에 오지 않은 경우. 폴백 모델로 다시 요청할지 판단하는 데 사용합니다.
+ */
+public class AiTimeoutException extends IllegalStateException {
+    public AiTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -4,19 +4,31 @@ import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryD
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openai.client.OpenAIClient;
+import com.openai.core.http.StreamResponse;
 import com.openai.errors.OpenAIException;
 import com.openai.models.responses.Response;
 import com.openai.models.responses.ResponseCreateParams;
 import com.openai.models.responses.ResponseOutputItem;
 import com.openai.models.responses.ResponseOutputMessage;
 import com.openai.models.responses.ResponseOutputText;
+import com.openai.models.responses.ResponseStreamEvent;
+import com.openai.models.responses.ResponseUsage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.io.InterruptedIOException;
+import java.net.http.HttpTimeoutException;
 import java.util.Optional;
 
+/**
+ * OpenAI Responses API 호출.
+ * 모델별 지연(ai.request.latency)과 입력/출력 토큰 수(ai.request.tokens) 분포를 기록해 라우팅 기준을 조정하는 데 사용합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -25,13 +37,17 @@ public class OpenAiResponsesClient implements AiClient {
     private final SummaryAiPayloadBuilder payloadBuilder;
     private final OpenAIClient openAIClient;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Override
-    public MeetingSummaryDto requestSummary(String prompt) {
-        ResponseCreateParams params = payloadBuilder.buildRequest(prompt);
+    public MeetingSummaryDto requestSummary(String model, String prompt) {
+        ResponseCreateParams params = payloadBuilder.buildRequest(model, prompt);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
 
         try {
             Response response = openAIClient.responses().create(params);
+            response.usage().ifPresent(usage -> recordUsage(model, usage));
 
             // 에러 응답 확인
             response.error().ifPresent(error -> {
@@ -41,19 +57,122 @@ public class OpenAiResponsesClient implements AiClient {
             });
 
             String jsonText = extractText(response);
-            return parseToDto(jsonText);
+            MeetingSummaryDto result = parseToDto(jsonText);
+            outcome = "success";
+            return result;
 
         } catch (OpenAIException e) {
-            log.error("OpenAI API 호출 중 오류 발생 - errorType: {}, message: {}",
-                    e.getClass().getSimpleName(), e.getMessage(), e);
+            outcome = timeoutOutcome(e, outcome);
+            log.error("OpenAI API 호출 중 오류 발생 - model: {}, errorType: {}, message: {}",
+                    model, e.getClass().getSimpleName(), e.getMessage(), e);
+            throw callFailure(model, e);
+        } catch (Exception e) {
+            log.error("예기치 않은 오류 발생 - errorType: {}, message: {}",
+                    e.getClass().getName(), e.getMessage(), e);
             throw new IllegalStateException("AI 요약 호출 중 오류가 발생했습니다.", e);
+        } finally {
+            sample.stop(latencyTimer(model, outcome));
+        }
+    }
+
+    @Override
+    public MeetingSummaryDto streamSummary(String model, String prompt, SummaryStreamListener listener) {
+        ResponseCreateParams params = payloadBuilder.buildRequest(model, prompt);
+        SummaryStreamParser parser = new SummaryStreamParser(listener);
+        StringBuilder jsonText = new StringBuilder();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+
+        try (StreamResponse<ResponseStreamEvent> stream = openAIClient.responses().createStreaming(params)) {
+            stream.stream().forEach(event -> {
+                event.outputTextDelta().ifPresent(textDelta -> {
+                    jsonText.append(textDelta.delta());
+                    parser.feed(textDelta.delta());
+                });
+                event.completed()
+                        .flatMap(completed -> completed.response().usage())
+                        .ifPresent(usage -> recordUsage(model, usage));
+
+                // 에러 이벤트 확인
+                event.failed()
+                        .flatMap(failed -> failed.response().error())
+                        .ifPresent(error -> {
+                            log.error("AI 스트리밍 응답 에러 - code: {}, message: {}",
+                                    error.code(), error.message());
+                            throw new IllegalStateException("AI 응답 실패: " + error.message());
+                        });
+                event.error().ifPresent(error -> {
+                    log.error("AI 스트리밍 에러 이벤트 - message: {}", error.message());
+                    throw new IllegalStateException("AI 응답 실패: " + error.message());
+                });
+            });
+
+            if (jsonText.isEmpty()) {
+                throw new IllegalStateException("AI 응답에 텍스트가 포함되어 있지 않습니다.");
+            }
+            MeetingSummaryDto result = parseToDto(jsonText.toString());
+            outcome = "success";
+            return result;
+
+        } catch (OpenAIException e) {
+            outcome = timeoutOutcome(e, outcome);
+            log.error("OpenAI API 스트리밍 호출 중 오류 발생 - model: {}, errorType: {}, message: {}",
+                    model, e.getClass().getSimpleName(), e.getMessage(), e);
+            throw callFailure(model, e);
         } catch (Exception e) {
             log.error("예기치 않은 오류 발생 - errorType: {}, message: {}",
                     e.getClass().getName(), e.getMessage(), e);
             throw new IllegalStateException("AI 요약 호출 중 오류가 발생했습니다.", e);
+        } finally {
+            sample.stop(latencyTimer(model, outcome));
         }
     }
 
+    private RuntimeException callFailure(String model, OpenAIException e) {
+        if (isTimeout(e)) {
+            return new AiTimeoutException("AI 응답 시간이 초과되었습니다. model: " + model, e);
+        }
+        return new IllegalStateException("AI 요약 호출 중 오류가 발생했습니다.", e);
+    }
+
+    private String timeoutOutcome(OpenAIException e, String outcome) {
+        return isTimeout(e) ? "timeout" : outcome;
+    }
+
+    /**
+     * SDK는 읽기/연결 타임아웃을 IO 예외로 감싸서 던지므로 원인을 따라가며 확인합니다.
+     */
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException || cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Timer latencyTimer(String model, String outcome) {
+        return Timer.builder("ai.request.latency")
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void recordUsage(String model, ResponseUsage usage) {
+        tokenSummary(model, "input").record(usage.inputTokens());
+        tokenSummary(model, "output").record(usage.outputTokens());
+    }
+
+    private DistributionSummary tokenSummary(String model, String type) {
+        return DistributionSummary.builder("ai.request.tokens")
+                .baseUnit("tokens")
+                .tag("model", model)
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     /**
      * Response 객체에서 텍스트 콘텐츠를 추출합니다.
      */
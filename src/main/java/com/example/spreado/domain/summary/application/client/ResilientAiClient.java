@@ -0,0 +1,198 @@
+package com.example.spreado.domain.summary.application.client;
+
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
+import com.example.spreado.domain.summary.application.client.resilience.CircuitBreaker;
+import com.example.spreado.domain.summary.application.client.resilience.TokenBucket;
+import com.example.spreado.domain.summary.application.property.AiResilienceProperties;
+import com.example.spreado.global.shared.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * OpenAiResponsesClient 앞에 두는 장애 격리 계층.
+ * 서킷 브레이커 → RPM/TPM 토큰 버킷 → 세마포어 bulkhead 순서로 통과해야 실제 호출하며,
+ * 어느 단계든 한도를 넘으면 기다리지 않거나 짧게만 기다린 뒤 ServiceUnavailableException으로 바로 실패합니다.
+ * 서킷 브레이커는 모델별로 두어 한 모델의 장애가 폴백 모델 호출까지 막지 않도록 하고, 요청/토큰 한도와 bulkhead는 계정 단위로 공유합니다.
+ * 상태는 /actuator/metrics 의 ai.circuit.state, ai.bulkhead.*, ai.ratelimit.*, ai.calls 로 확인합니다.
+ */
+@Slf4j
+@Primary
+@Component
+public class ResilientAiClient implements AiClient {
+
+    private final AiClient delegate;
+    private final AiResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final Semaphore bulkhead;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter circuitOpenCounter;
+    private final Counter rateLimitedCounter;
+    private final Counter bulkheadFullCounter;
+
+    public ResilientAiClient(OpenAiResponsesClient delegate,
+                             AiResilienceProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        this.requestBucket = new TokenBucket(properties.getRateLimit().getRequestsPerMinute());
+        this.tokenBucket = new TokenBucket(properties.getRateLimit().getTokensPerMinute());
+        this.bulkhead = new Semaphore(properties.getBulkhead().getMaxConcurrentCalls(), true);
+
+        this.successCounter = callCounter(meterRegistry, "success");
+        this.failureCounter = callCounter(meterRegistry, "failure");
+        this.circuitOpenCounter = callCounter(meterRegistry, "circuit_open");
+        this.rateLimitedCounter = callCounter(meterRegistry, "rate_limited");
+        this.bulkheadFullCounter = callCounter(meterRegistry, "bulkhead_full");
+
+        Gauge.builder("ai.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
+        Gauge.builder("ai.ratelimit.available", requestBucket, TokenBucket::available)
+                .tag("limit", "requests")
+                .register(meterRegistry);
+        Gauge.builder("ai.ratelimit.available", tokenBucket, TokenBucket::available)
+                .tag("limit", "tokens")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public MeetingSummaryDto requestSummary(String model, String prompt) {
+        return execute(model, prompt, () -> delegate.requestSummary(model, prompt));
+    }
+
+    @Override
+    public MeetingSummaryDto streamSummary(String model, String prompt, SummaryStreamListener listener) {
+        return execute(model, prompt, () -> delegate.streamSummary(model, prompt, listener));
+    }
+
+    private MeetingSummaryDto execute(String model, String prompt, Supplier<MeetingSummaryDto> call) {
+        CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(model, this::createCircuitBreaker);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitOpenCounter.increment();
+            throw new AiCircuitOpenException("AI 요약 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        long tokens = estimateTokens(prompt);
+        boolean acquired = false;
+        try {
+            acquireRateLimit(tokens);
+            try {
+                acquireBulkhead();
+            } catch (RuntimeException e) {
+                // 호출하지 않았으므로 예약한 요청/토큰 한도를 돌려놓음
+                refundRateLimit(tokens);
+                throw e;
+            }
+            acquired = true;
+        } finally {
+            if (!acquired) {
+                circuitBreaker.releasePermission();
+            }
+        }
+
+        try {
+            MeetingSummaryDto result = call.get();
+            circuitBreaker.onSuccess();
+            successCounter.increment();
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            failureCounter.increment();
+            if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                log.warn("AI 호출 실패가 누적되어 서킷 브레이커가 열렸습니다 - model: {}, errorMessage: {}", model, e.getMessage());
+            }
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private CircuitBreaker createCircuitBreaker(String model) {
+        AiResilienceProperties.CircuitBreaker circuit = properties.getCircuitBreaker();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(circuit.getWindowSize(), circuit.getMinimumCalls(),
+                circuit.getFailureRateThreshold(), circuit.getOpenDuration(), circuit.getHalfOpenCalls());
+
+        // 0: CLOSED, 1: HALF_OPEN, 2: OPEN
+        Gauge.builder("ai.circuit.state", circuitBreaker, breaker -> switch (breaker.getState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .tag("model", model)
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+
+    private void acquireRateLimit(long tokens) {
+        AiResilienceProperties.RateLimit rateLimit = properties.getRateLimit();
+
+        long requestWait = requestBucket.reserve(1, rateLimit.getMaxWait());
+        if (requestWait < 0) {
+            rateLimitedCounter.increment();
+            throw new ServiceUnavailableException("AI 요청 한도(RPM)를 초과했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        long tokenWait = tokenBucket.reserve(tokens, rateLimit.getMaxWait());
+        if (tokenWait < 0) {
+            requestBucket.refund(1);
+            rateLimitedCounter.increment();
+            throw new ServiceUnavailableException("AI 토큰 한도(TPM)를 초과했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        long waitNanos = Math.max(requestWait, tokenWait);
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            refundRateLimit(tokens);
+            throw new ServiceUnavailableException("AI 요청 대기 중 중단되었습니다.");
+        }
+    }
+
+    private void refundRateLimit(long tokens) {
+        requestBucket.refund(1);
+        tokenBucket.refund(tokens);
+    }
+
+    private void acquireBulkhead() {
+        try {
+            if (bulkhead.tryAcquire(properties.getBulkhead().getMaxWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        bulkheadFullCounter.increment();
+        throw new ServiceUnavailableException("진행 중인 AI 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private long estimateTokens(String prompt) {
+        AiResilienceProperties.RateLimit rateLimit = properties.getRateLimit();
+        return (long) Math.ceil(prompt.length() * rateLimit.getTokensPerChar()) + rateLimit.getExpectedOutputTokens();
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.calls")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
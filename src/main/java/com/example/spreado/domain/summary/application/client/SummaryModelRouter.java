@@ -0,0 +1,109 @@
+package com.example.spreado.domain.summary.application.client;
+
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
+import com.example.spreado.domain.summary.application.client.dto.MilestoneDto;
+import com.example.spreado.domain.summary.application.property.AiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.function.Function;
+
+/**
+ * 프롬프트 길이에 따라 요약 모델을 고르고, 선택한 모델이 타임아웃되거나 서킷이 열려 있으면 폴백 모델로 한 번 더 요청합니다.
+ * 짧은 회의록은 저렴하고 빠른 모델로, 긴 회의록은 컨텍스트가 큰 모델로 보냅니다.
+ * 폴백 횟수는 ai.fallback{from,to}로 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SummaryModelRouter {
+
+    private final AiClient aiClient;
+    private final AiProperties aiProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 프롬프트에 사용할 모델. 캐시 키에도 이 값을 사용합니다.
+     */
+    public String route(String prompt) {
+        AiProperties.Routing routing = aiProperties.getRouting();
+        String model = prompt.length() <= routing.getShortMaxChars()
+                ? routing.getShortModel()
+                : routing.getLongModel();
+        return StringUtils.hasText(model) ? model : aiProperties.getModel();
+    }
+
+    public MeetingSummaryDto requestSummary(String prompt) {
+        return withFallback(route(prompt), model -> aiClient.requestSummary(model, prompt));
+    }
+
+    /**
+     * 스트리밍은 리스너로 아무것도 보내지 않은 상태에서 실패한 경우에만 폴백합니다.
+     * 이미 일부를 보냈다면 다른 모델의 결과와 섞이지 않도록 그대로 실패합니다.
+     */
+    public MeetingSummaryDto streamSummary(String prompt, SummaryStreamListener listener) {
+        EmissionTrackingListener tracking = new EmissionTrackingListener(listener);
+        return withFallback(route(prompt), model -> {
+            if (tracking.emitted) {
+                throw new IllegalStateException("이미 전송한 스트림은 다른 모델로 이어서 생성할 수 없습니다.");
+            }
+            return aiClient.streamSummary(model, prompt, tracking);
+        });
+    }
+
+    private MeetingSummaryDto withFallback(String model, Function<String, MeetingSummaryDto> call) {
+        try {
+            return call.apply(model);
+        } catch (AiTimeoutException | AiCircuitOpenException e) {
+            String fallbackModel = aiProperties.getRouting().getFallbackModel();
+            if (!StringUtils.hasText(fallbackModel) || fallbackModel.equals(model)) {
+                throw e;
+            }
+
+            log.warn("AI 모델 폴백 - from: {}, to: {}, reason: {}", model, fallbackModel, e.getClass().getSimpleName());
+            Counter.builder("ai.fallback")
+                    .tag("from", model)
+                    .tag("to", fallbackModel)
+                    .register(meterRegistry)
+                    .increment();
+            try {
+                return call.apply(fallbackModel);
+            } catch (RuntimeException fallbackFailure) {
+                fallbackFailure.addSuppressed(e);
+                throw fallbackFailure;
+            }
+        }
+    }
+
+    private static final class EmissionTrackingListener implements SummaryStreamListener {
+
+        private final SummaryStreamListener delegate;
+        private volatile boolean emitted;
+
+        private EmissionTrackingListener(SummaryStreamListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onSummaryText(String delta) {
+            emitted = true;
+            delegate.onSummaryText(delta);
+        }
+
+        @Override
+        public void onMilestone(MilestoneDto milestone) {
+            emitted = true;
+            delegate.onMilestone(milestone);
+        }
+
+        @Override
+        public void onActionItem(String role, String item) {
+            emitted = true;
+            delegate.onActionItem(role, item);
+        }
+    }
+}
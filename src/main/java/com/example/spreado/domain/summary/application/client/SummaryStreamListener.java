@@ -0,0 +1,57 @@
+package com.example.spreado.domain.summary.application.client;
+
+import com.example.spreado.domain.summary.application.client.dto.ActionItemsByRoleDto;
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
+import com.example.spreado.domain.summary.application.client.dto.MilestoneDto;
+
+import java.util.List;
+
+/**
+ * 스트리밍 요약 중 완성된 부분을 전달받는 리스너.
+ */
+public interface SummaryStreamListener {
+
+    /**
+     * summary 본문에 새로 이어진 텍스트 조각
+     */
+    void onSummaryText(String delta);
+
+    /**
+     * task/deadline이 모두 채워진 마일스톤
+     */
+    void onMilestone(MilestoneDto milestone);
+
+    /**
+     * 역할(PM, PD, FE, BE, AI, ALL)별로 완성된 액션 아이템
+     */
+    void onActionItem(String role, String item);
+
+    /**
+     * 캐시나 청크 요약처럼 한 번에 받은 결과를 스트리밍과 같은 순서의 이벤트로 전달합니다.
+     */
+    default void replay(MeetingSummaryDto summaryDto) {
+        if (summaryDto.getSummary() != null && !summaryDto.getSummary().isEmpty()) {
+            onSummaryText(summaryDto.getSummary());
+        }
+        if (summaryDto.getMilestones() != null) {
+            summaryDto.getMilestones().forEach(this::onMilestone);
+        }
+
+        ActionItemsByRoleDto actionItems = summaryDto.getActionItemsByRole();
+        if (actionItems == null) {
+            return;
+        }
+        replayRole("PM", actionItems.getPm());
+        replayRole("PD", actionItems.getPd());
+        replayRole("FE", actionItems.getFe());
+        replayRole("BE", actionItems.getBe());
+        replayRole("AI", actionItems.getAi());
+        replayRole("ALL", actionItems.getAll());
+    }
+
+    private void replayRole(String role, List<String> items) {
+        if (items != null) {
+            items.forEach(item -> onActionItem(role, item));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.spreado.domain.summary.application.client;
+
+import com.example.spreado.domain.summary.application.client.dto.MilestoneDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조각 단위로 도착하는 요약 JSON을 읽으면서 완성된 부분을 바로 리스너로 넘깁니다.
+ * 응답 스키마(summary, milestones[], actionItemsByRole{역할: []})에 필요한 구조만 추적하는 증분 파서이며,
+ * 최종 결과는 스트림이 끝난 뒤 전체 JSON을 다시 파싱해 만듭니다.
+ */
+public class SummaryStreamParser {
+
+    private static final String SUMMARY = "summary";
+    private static final String MILESTONES = "milestones";
+    private static final String ACTION_ITEMS = "actionItemsByRole";
+
+    private final SummaryStreamListener listener;
+    private final List<Frame> frames = new ArrayList<>();
+    private final StringBuilder token = new StringBuilder();
+    private final StringBuilder summaryDelta = new StringBuilder();
+
+    private boolean inString;
+    private boolean keyString;
+    private boolean summaryString;
+    private boolean escaped;
+    // \\uXXXX 이스케이프에서 읽은 16진수 자릿수 (-1이면 이스케이프 밖)
+    private int unicodeDigits = -1;
+    private int unicodeValue;
+
+    public SummaryStreamParser(SummaryStreamListener listener) {
+        this.listener = listener;
+    }
+
+    public void feed(CharSequence chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            if (inString) {
+                readStringChar(c);
+            } else {
+                readStructureChar(c);
+            }
+        }
+        flushSummary();
+    }
+
+    private void readStructureChar(char c) {
+        switch (c) {
+            case '{' -> frames.add(new Frame(true));
+            case '[' -> frames.add(new Frame(false));
+            case '}', ']' -> closeFrame();
+            case '"' -> startString();
+            case ',' -> {
+                Frame current = current();
+                if (current != null && current.object) {
+                    current.expectingKey = true;
+                }
+            }
+            default -> {
+                // 공백, 콜론, 숫자/리터럴은 요약 스키마에서 추적할 필요가 없음
+            }
+        }
+    }
+
+    private void readStringChar(char c) {
+        if (unicodeDigits >= 0) {
+            unicodeValue = (unicodeValue << 4) + Character.digit(c, 16);
+            if (++unicodeDigits == 4) {
+                unicodeDigits = -1;
+                append((char) unicodeValue);
+            }
+            return;
+        }
+
+        if (escaped) {
+            escaped = false;
+            switch (c) {
+                case 'n' -> append('\n');
+                case 'r' -> append('\r');
+                case 't' -> append('\t');
+                case 'b' -> append('\b');
+                case 'f' -> append('\f');
+                case 'u' -> {
+                    unicodeDigits = 0;
+                    unicodeValue = 0;
+                }
+                default -> append(c);
+            }
+            return;
+        }
+
+        if (c == '\\') {
+            escaped = true;
+        } else if (c == '"') {
+            endString();
+        } else {
+            append(c);
+        }
+    }
+
+    private void startString() {
+        Frame current = current();
+        inString = true;
+        keyString = current != null && current.object && current.expectingKey;
+        summaryString = !keyString && frames.size() == 1 && SUMMARY.equals(current.key);
+        token.setLength(0);
+    }
+
+    private void append(char c) {
+        if (summaryString) {
+            summaryDelta.append(c);
+        } else {
+            token.append(c);
+        }
+    }
+
+    private void endString() {
+        inString = false;
+        Frame current = current();
+
+        if (keyString) {
+            current.key = token.toString();
+            current.expectingKey = false;
+        } else if (summaryString) {
+            summaryString = false;
+            flushSummary();
+        } else {
+            onStringValue(token.toString());
+        }
+    }
+
+    private void onStringValue(String value) {
+        if (frames.size() != 3) {
+            return;
+        }
+
+        Frame root = frames.get(0);
+        Frame parent = frames.get(1);
+        Frame current = frames.get(2);
+
+        if (MILESTONES.equals(root.key) && !parent.object && current.object) {
+            current.fields().put(current.key, value);
+        } else if (ACTION_ITEMS.equals(root.key) && parent.object && !current.object) {
+            listener.onActionItem(parent.key, value);
+        }
+    }
+
+    private void closeFrame() {
+        if (frames.isEmpty()) {
+            return;
+        }
+
+        Frame closed = frames.remove(frames.size() - 1);
+        if (closed.object && frames.size() == 2
+                && MILESTONES.equals(frames.get(0).key) && !frames.get(1).object) {
+            Map<String, String> fields = closed.fields();
+            listener.onMilestone(new MilestoneDto(fields.get("task"), fields.get("deadline")));
+        }
+    }
+
+    private void flushSummary() {
+        int length = summaryDelta.length();
+        if (length == 0) {
+            return;
+        }
+
+        // 서로게이트 쌍이 조각 경계에서 나뉘면 다음 조각과 합쳐서 보냄
+        boolean pendingSurrogate = Character.isHighSurrogate(summaryDelta.charAt(length - 1));
+        int end = pendingSurrogate ? length - 1 : length;
+        if (end == 0) {
+            return;
+        }
+
+        listener.onSummaryText(summaryDelta.substring(0, end));
+        summaryDelta.delete(0, end);
+    }
+
+    private Frame current() {
+        return frames.isEmpty() ? null : frames.get(frames.size() - 1);
+    }
+
+    private static final class Frame {
+        private final boolean object;
+        private boolean expectingKey;
+        private String key;
+        private Map<String, String> fields;
+
+        private Frame(boolean object) {
+            this.object = object;
+            this.expectingKey = object;
+        }
+
+        private Map<String, String> fields() {
+            if (fields == null) {
+                fields = new HashMap<>();
+            }
+            return fields;
+        }
+    }
+}
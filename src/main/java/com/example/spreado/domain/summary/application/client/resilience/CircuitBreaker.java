@@ -0,0 +1,122 @@
+package com.example.spreado.domain.summary.application.client.resilience;
+
+import java.time.Duration;
+
+/**
+ * 최근 호출 결과(고정 크기 링 버퍼)의 실패 비율로 AI 호출을 차단하는 서킷 브레이커.
+ * CLOSED → (실패율 초과) → OPEN → (openDuration 경과) → HALF_OPEN → (시험 호출 모두 성공) → CLOSED,
+ * HALF_OPEN에서 한 번이라도 실패하면 다시 OPEN 됩니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int cursor;
+    private int failures;
+    private long openedAtNanos;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        this.outcomes = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+    }
+
+    /**
+     * 호출 가능 여부를 확인합니다. HALF_OPEN에서는 halfOpenCalls건까지만 허용합니다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermitted = 0;
+            halfOpenSucceeded = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    /**
+     * 허용받았지만 호출하지 않은 경우(다른 제한에 걸린 경우) 시험 호출 자리를 돌려놓습니다.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+            halfOpenPermitted--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSucceeded >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(true);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(false);
+        if (state == State.CLOSED && recorded >= minimumCalls
+                && failures * 100 >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean success) {
+        if (recorded == outcomes.length) {
+            if (!outcomes[cursor]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[cursor] = success;
+        if (!success) {
+            failures++;
+        }
+        cursor = (cursor + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        cursor = 0;
+        failures = 0;
+    }
+}
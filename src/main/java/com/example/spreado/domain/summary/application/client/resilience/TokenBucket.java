@@ -0,0 +1,59 @@
+package com.example.spreado.domain.summary.application.client.resilience;
+
+import java.time.Duration;
+
+/**
+ * 분당 한도를 일정한 속도로 채우는 토큰 버킷.
+ * 토큰이 모자라면 채워질 때까지 기다릴 시간을 예약하며, 예약한 만큼 잔량이 음수가 되어 뒤 요청이 그만큼 더 기다립니다.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+
+    private double available;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacityPerMinute) {
+        this.capacity = Math.max(1, capacityPerMinute);
+        this.refillPerNano = (double) capacity / Duration.ofMinutes(1).toNanos();
+        this.available = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * permits만큼 예약하고 기다려야 할 시간(나노초)을 반환합니다. maxWait 안에 채워지지 않으면 예약하지 않고 -1을 반환합니다.
+     */
+    public synchronized long reserve(long permits, Duration maxWait) {
+        refill();
+
+        double needed = Math.min(permits, capacity);
+        double deficit = needed - available;
+        long waitNanos = deficit <= 0 ? 0 : (long) Math.ceil(deficit / refillPerNano);
+        if (waitNanos > maxWait.toNanos()) {
+            return -1;
+        }
+
+        available -= needed;
+        return waitNanos;
+    }
+
+    /**
+     * 사용하지 않은 예약을 돌려놓습니다.
+     */
+    public synchronized void refund(long permits) {
+        refill();
+        available = Math.min(capacity, available + Math.min(permits, capacity));
+    }
+
+    public synchronized double available() {
+        refill();
+        return available;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
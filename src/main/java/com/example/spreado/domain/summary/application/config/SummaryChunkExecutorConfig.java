@@ -0,0 +1,29 @@
+package com.example.spreado.domain.summary.application.config;
+
+import com.example.spreado.domain.summary.application.property.SummaryChunkProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class SummaryChunkExecutorConfig {
+
+    private final SummaryChunkProperties summaryChunkProperties;
+
+    /**
+     * 긴 회의록의 청크별 요약 요청을 처리하는 실행기.
+     * 스레드 수로 동시에 나가는 AI 요청 수를 제한하고, 나머지 청크는 큐에서 대기합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor summaryChunkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(summaryChunkProperties.getConcurrency());
+        executor.setMaxPoolSize(summaryChunkProperties.getConcurrency());
+        executor.setThreadNamePrefix("summary-chunk-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.spreado.domain.summary.application.config;
+
+import com.example.spreado.domain.summary.application.property.SummaryJobProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class SummaryJobExecutorConfig {
+
+    private final SummaryJobProperties summaryJobProperties;
+
+    /**
+     * 회의 종료 후 요약 생성을 처리하는 전용 실행기.
+     * 큐 크기를 제한해 AI 응답이 느려져도 요청 스레드와 DB 커넥션이 묶이지 않도록 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor summaryJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(summaryJobProperties.getCorePoolSize());
+        executor.setMaxPoolSize(summaryJobProperties.getMaxPoolSize());
+        executor.setQueueCapacity(summaryJobProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("summary-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.spreado.domain.summary.application.config;
+
+import com.example.spreado.domain.summary.application.property.SummaryLiveProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class SummaryLiveExecutorConfig {
+
+    private final SummaryLiveProperties summaryLiveProperties;
+
+    /**
+     * 진행 중인 회의의 중간 요약 실행기. 대기열 없이 스레드 수만큼만 받아 종료된 회의 요약보다 AI 요청을 많이 쓰지 않게 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor summaryLiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(summaryLiveProperties.getConcurrency());
+        executor.setMaxPoolSize(summaryLiveProperties.getConcurrency());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("summary-live-");
+        return executor;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.spreado.domain.summary.application.config;
+
+import com.example.spreado.domain.summary.application.property.SummaryStreamProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class SummaryStreamExecutorConfig {
+
+    private final SummaryStreamProperties summaryStreamProperties;
+
+    /**
+     * SSE 요약 스트림을 처리하는 실행기.
+     * 요청 스레드를 AI 응답이 끝날 때까지 붙잡지 않도록 하고, 백그라운드 요약 작업과는 스레드를 나누어 씁니다.
+     * 큐를 두지 않아 동시 스트림 수를 넘으면 바로 거절합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor summaryStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(summaryStreamProperties.getConcurrency());
+        executor.setMaxPoolSize(summaryStreamProperties.getConcurrency());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("summary-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -12,5 +12,20 @@ import org.springframework.stereotype.Component;
 public class AiProperties {
     private String url;
     private String apiKey;
+    // 라우팅 모델을 지정하지 않았을 때 사용하는 기본 모델
     private String model;
+
+    private final Routing routing = new Routing();
+
+    @Getter
+    @Setter
+    public static class Routing {
+        // 프롬프트 글자 수가 이 값 이하면 shortModel, 초과하면 longModel로 요청
+        private int shortMaxChars = 16000;
+        // 비어 있으면 ai.model 사용
+        private String shortModel;
+        private String longModel;
+        // 라우팅된 모델이 타임아웃되거나 서킷이 열렸을 때 다시 요청할 모델 (비어 있으면 폴백하지 않음)
+        private String fallbackModel;
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.resilience")
+public class AiResilienceProperties {
+
+    private final Bulkhead bulkhead = new Bulkhead();
+    private final RateLimit rateLimit = new RateLimit();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+        // 동시에 진행할 수 있는 AI 호출 수
+        private int maxConcurrentCalls = 8;
+        // 자리가 날 때까지 기다리는 최대 시간 (초과 시 바로 실패)
+        private Duration maxWait = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        // 요금제의 분당 요청 수(RPM) / 분당 토큰 수(TPM)
+        private int requestsPerMinute = 500;
+        private long tokensPerMinute = 200_000;
+        // 프롬프트 토큰 추정치 = 글자 수 * tokensPerChar + expectedOutputTokens (한국어는 대략 글자당 1토큰)
+        private double tokensPerChar = 1.0;
+        private int expectedOutputTokens = 1500;
+        // 한도가 찰 때까지 기다리는 최대 시간 (초과 시 바로 실패)
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        // 최근 windowSize건 중 실패 비율(%)이 threshold 이상이면 차단
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        // 차단 유지 시간. 이후 halfOpenCalls건을 시험 호출해 모두 성공하면 다시 연결
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "summary.batch")
+public class SummaryBatchProperties {
+    // 일괄 요약을 요청할 수 있는 사용자 ID 목록
+    private List<Long> adminUserIds = new ArrayList<>();
+    // 한 번의 일괄 요청으로 등록할 최대 노트 수
+    private int maxNotes = 1000;
+    // 일괄 요약 작업의 분당 최대 시작 수 (요금제 RPM 여유분에 맞춰 조정)
+    private int ratePerMinute = 30;
+}
@@ -0,0 +1,17 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "summary.budget")
+public class SummaryBudgetProperties {
+    // AI 요청 한 번에 보낼 프롬프트 최대 토큰 수 (초과하면 호출하지 않고 실패)
+    private int maxPromptTokens = 16000;
+    // 토큰 계산에 사용할 인코딩 (gpt-4o 계열: o200k_base)
+    private String encoding = "o200k_base";
+}
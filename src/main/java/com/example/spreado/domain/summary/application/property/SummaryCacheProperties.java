@@ -0,0 +1,22 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "summary.cache")
+public class SummaryCacheProperties {
+    private boolean enabled = true;
+    // 메모리 캐시에 유지할 최대 요약 수 (초과 시 가장 오래 사용되지 않은 항목 제거)
+    private int maxEntries = 500;
+    // 이 기간 동안 적중이 없던(적중이 없으면 생성 후) 캐시는 summary_cache 테이블에서 삭제
+    private Duration ttl = Duration.ofDays(30);
+    // 정리 시 한 번의 DELETE로 지울 최대 항목 수
+    private int cleanupBatchSize = 1000;
+}
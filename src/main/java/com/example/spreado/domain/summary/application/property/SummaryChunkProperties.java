@@ -0,0 +1,17 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "summary.chunk")
+public class SummaryChunkProperties {
+    // 한 번의 AI 요청에 넣을 회의록 본문 최대 글자 수 (초과 시 나누어 요약)
+    private int maxChars = 12000;
+    // 동시에 요약할 최대 청크 수 (모든 요약 작업이 공유)
+    private int concurrency = 4;
+}
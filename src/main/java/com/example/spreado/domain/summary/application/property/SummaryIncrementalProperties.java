@@ -0,0 +1,17 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "summary.incremental")
+public class SummaryIncrementalProperties {
+    // 다시 요약할 때 기존 요약과 변경분만 보내는 방식 사용 여부
+    private boolean enabled = true;
+    // 바뀐 글자 수 비율이 이 값을 넘으면 처음부터 다시 요약
+    private double maxChangedRatio = 0.4;
+}
@@ -0,0 +1,28 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "summary.job")
+public class SummaryJobProperties {
+    private int corePoolSize = 2;
+    private int maxPoolSize = 4;
+    private int queueCapacity = 100;
+
+    // 한 번의 polling에서 가져올 최대 작업 수
+    private int batchSize = 10;
+    private int maxAttempts = 5;
+    // 실행 중에는 lease-renew-interval-ms 마다 연장되므로, 워커가 종료된 경우에만 만료됨
+    private Duration lease = Duration.ofMinutes(5);
+    // 한 작업의 최대 실행 시간. 넘기면 실행 스레드를 중단하고 lease 연장을 멈춤
+    private Duration maxRunTime = Duration.ofMinutes(15);
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+}
@@ -0,0 +1,21 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "summary.live")
+public class SummaryLiveProperties {
+    // 진행 중인 회의의 중간 요약 사용 여부
+    private boolean enabled = true;
+    // 중간 요약 주기 (이전 실행이 끝난 뒤부터 계산)
+    private long pollIntervalMs = 300000;
+    // 동시에 중간 요약하는 회의 수 (나머지는 다음 주기로 넘김)
+    private int concurrency = 2;
+    // 본문이 이보다 짧으면 중간 요약하지 않음
+    private int minChars = 500;
+}
@@ -0,0 +1,19 @@
+package com.example.spreado.domain.summary.application.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "summary.stream")
+public class SummaryStreamProperties {
+    // 동시에 열어 둘 수 있는 스트리밍 요약 수
+    private int concurrency = 4;
+    // SSE 연결 유지 시간 (AI 호출 타임아웃보다 길게)
+    private Duration timeout = Duration.ofMinutes(3);
+}
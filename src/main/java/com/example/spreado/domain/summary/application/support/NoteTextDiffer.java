@@ -0,0 +1,163 @@
+package com.example.spreado.domain.summary.application.support;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 전처리된 회의록 본문 두 개를 블록(빈 줄로 구분된 제목/문단/목록) 단위로 비교합니다.
+ * 앞뒤의 같은 블록을 먼저 덜어낸 뒤 가운데 구간만 LCS로 비교하므로, 일부 문단만 고친 경우 비용이 작습니다.
+ */
+@Component
+public class NoteTextDiffer {
+
+    private static final String BLOCK_SEPARATOR = "\n\n";
+    // LCS 표 크기 상한 (넘으면 전체가 바뀐 것으로 처리)
+    private static final long MAX_LCS_CELLS = 4_000_000L;
+
+    public NoteTextDiff diff(String previous, String current) {
+        String[] before = splitBlocks(previous);
+        String[] after = splitBlocks(current);
+
+        int prefix = 0;
+        while (prefix < before.length && prefix < after.length && before[prefix].equals(after[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < before.length - prefix && suffix < after.length - prefix
+                && before[before.length - 1 - suffix].equals(after[after.length - 1 - suffix])) {
+            suffix++;
+        }
+
+        String[] oldMiddle = Arrays.copyOfRange(before, prefix, before.length - suffix);
+        String[] newMiddle = Arrays.copyOfRange(after, prefix, after.length - suffix);
+
+        List<Hunk> hunks = (long) oldMiddle.length * newMiddle.length > MAX_LCS_CELLS
+                ? List.of(new Hunk(sectionOf(after, prefix), List.of(oldMiddle), List.of(newMiddle)))
+                : lcsHunks(after, prefix, oldMiddle, newMiddle);
+
+        int changedChars = 0;
+        for (Hunk hunk : hunks) {
+            changedChars += length(hunk.removed()) + length(hunk.added());
+        }
+        return new NoteTextDiff(hunks, changedChars, Math.max(previous.length(), current.length()));
+    }
+
+    private List<Hunk> lcsHunks(String[] after, int offset, String[] oldBlocks, String[] newBlocks) {
+        int n = oldBlocks.length;
+        int m = newBlocks.length;
+
+        // lcs[i][j]: oldBlocks[i..], newBlocks[j..]의 최장 공통 부분열 길이
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = oldBlocks[i].equals(newBlocks[j])
+                        ? lcs[i + 1][j + 1] + 1
+                        : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+
+        List<Hunk> hunks = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        int hunkStart = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < n || j < m) {
+            if (i < n && j < m && oldBlocks[i].equals(newBlocks[j])) {
+                addHunk(hunks, after, offset + hunkStart, removed, added);
+                i++;
+                j++;
+                hunkStart = j;
+            } else if (j < m && (i == n || lcs[i][j + 1] >= lcs[i + 1][j])) {
+                added.add(newBlocks[j++]);
+            } else {
+                removed.add(oldBlocks[i++]);
+            }
+        }
+        addHunk(hunks, after, offset + hunkStart, removed, added);
+        return hunks;
+    }
+
+    private void addHunk(List<Hunk> hunks, String[] after, int position, List<String> removed, List<String> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        hunks.add(new Hunk(sectionOf(after, position), List.copyOf(removed), List.copyOf(added)));
+        removed.clear();
+        added.clear();
+    }
+
+    /**
+     * 변경 위치 바로 앞에 있는 제목 블록. 없으면 null
+     */
+    private String sectionOf(String[] blocks, int position) {
+        for (int i = Math.min(position, blocks.length) - 1; i >= 0; i--) {
+            if (blocks[i].startsWith("#")) {
+                return blocks[i];
+            }
+        }
+        return null;
+    }
+
+    private String[] splitBlocks(String text) {
+        return Arrays.stream(text.split(BLOCK_SEPARATOR))
+                .map(String::strip)
+                .filter(block -> !block.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static int length(List<String> blocks) {
+        int length = 0;
+        for (String block : blocks) {
+            length += block.length();
+        }
+        return length;
+    }
+
+    /**
+     * @param section 변경 위치가 속한 제목 (없으면 null)
+     */
+    public record Hunk(String section, List<String> removed, List<String> added) {
+    }
+
+    public record NoteTextDiff(List<Hunk> hunks, int changedChars, int totalChars) {
+
+        public boolean isEmpty() {
+            return hunks.isEmpty();
+        }
+
+        public double changedRatio() {
+            return totalChars == 0 ? 0 : (double) changedChars / totalChars;
+        }
+
+        /**
+         * 갱신 프롬프트에 넣을 변경 내용. 위치(제목)별로 삭제/추가된 블록을 나열합니다.
+         */
+        public String describe() {
+            StringBuilder builder = new StringBuilder();
+            for (Hunk hunk : hunks) {
+                if (!builder.isEmpty()) {
+                    builder.append("\n\n");
+                }
+                builder.append("### 위치: ").append(hunk.section() == null ? "(문서 처음)" : hunk.section());
+                appendBlocks(builder, "[삭제된 내용]", hunk.removed());
+                appendBlocks(builder, "[추가된 내용]", hunk.added());
+            }
+            return builder.toString();
+        }
+
+        private static void appendBlocks(StringBuilder builder, String label, List<String> blocks) {
+            if (blocks.isEmpty()) {
+                return;
+            }
+            builder.append('\n').append(label);
+            for (String block : blocks) {
+                builder.append('\n').append(block);
+            }
+        }
+    }
+}
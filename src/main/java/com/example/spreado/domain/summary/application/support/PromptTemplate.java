@@ -0,0 +1,100 @@
+package com.example.spreado.domain.summary.application.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 한 번 파싱해 둔 프롬프트 템플릿.
+ * 템플릿을 고정 문자열과 %s 자리로 나누어 두고, 렌더링할 때는 최종 길이만큼 미리 잡은 버퍼에 순서대로 기록합니다.
+ * String.formatted처럼 호출마다 형식 문자열을 다시 해석하거나 중간 문자열을 만들지 않습니다.
+ * 지원하는 형식은 %s(순서대로 인자 대입)와 %%(% 문자)뿐입니다.
+ */
+public final class PromptTemplate {
+
+    private final String name;
+    // literals.length == slotCount + 1, 인자 i는 literals[i]와 literals[i + 1] 사이에 들어감
+    private final String[] literals;
+    private final int literalLength;
+
+    private PromptTemplate(String name, String[] literals) {
+        this.name = name;
+        this.literals = literals;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static PromptTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+
+            char next = i + 1 < source.length() ? source.charAt(i + 1) : 0;
+            if (next == 's') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+            } else if (next == '%') {
+                literal.append('%');
+            } else {
+                throw new IllegalStateException("프롬프트 템플릿 " + name + "에 지원하지 않는 형식이 있습니다. (위치: " + i + ")");
+            }
+            i++;
+        }
+        literals.add(literal.toString());
+        return new PromptTemplate(name, literals.toArray(String[]::new));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int slotCount() {
+        return literals.length - 1;
+    }
+
+    /**
+     * 모든 자리 앞에 prefix를 붙인 템플릿. 렌더링할 때 인자와 prefix를 따로 이어 붙이지 않도록 시작 시 만들어 둡니다.
+     */
+    public PromptTemplate withSlotPrefix(String name, String prefix) {
+        String[] prefixed = literals.clone();
+        for (int i = 0; i < prefixed.length - 1; i++) {
+            prefixed[i] = prefixed[i] + prefix;
+        }
+        return new PromptTemplate(name, prefixed);
+    }
+
+    public String render(CharSequence... args) {
+        StringBuilder builder = new StringBuilder(length(args));
+        renderTo(builder, args);
+        return builder.toString();
+    }
+
+    public void renderTo(StringBuilder builder, CharSequence... args) {
+        if (args.length != slotCount()) {
+            throw new IllegalArgumentException("프롬프트 템플릿 " + name + "의 인자 수가 맞지 않습니다. (필요: "
+                    + slotCount() + ", 전달: " + args.length + ")");
+        }
+
+        builder.append(literals[0]);
+        for (int i = 0; i < args.length; i++) {
+            builder.append(args[i]).append(literals[i + 1]);
+        }
+    }
+
+    public int length(CharSequence... args) {
+        int length = literalLength;
+        for (CharSequence arg : args) {
+            length += arg.length();
+        }
+        return length;
+    }
+}
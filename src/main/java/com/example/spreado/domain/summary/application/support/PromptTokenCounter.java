@@ -0,0 +1,28 @@
+package com.example.spreado.domain.summary.application.support;
+
+import com.example.spreado.domain.summary.application.property.SummaryBudgetProperties;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모델과 같은 BPE 인코딩으로 프롬프트 토큰 수를 로컬에서 계산합니다.
+ * 요청을 보내기 전에 크기를 확인해, 한도를 넘는 프롬프트가 왕복 후에야 실패하지 않도록 합니다.
+ */
+@Component
+public class PromptTokenCounter {
+
+    private final Encoding encoding;
+
+    public PromptTokenCounter(SummaryBudgetProperties summaryBudgetProperties) {
+        String name = summaryBudgetProperties.getEncoding();
+        EncodingType type = EncodingType.fromName(name)
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 토큰 인코딩입니다: " + name));
+        this.encoding = Encodings.newLazyEncodingRegistry().getEncoding(type);
+    }
+
+    public int count(String text) {
+        return encoding.countTokensOrdinary(text);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.spreado.domain.summary.application.support;
+
+import com.example.spreado.domain.summary.application.property.SummaryChunkProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전처리된 회의록 본문을 AI 요청 단위로 나눕니다.
+ * 제목/문단 경계(빈 줄)에서 나누고, 한 블록이 너무 길면 줄 단위로, 그래도 길면 글자 수로 나눕니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SummaryTextChunker {
+
+    private static final String BLOCK_SEPARATOR = "\n\n";
+
+    private final SummaryChunkProperties summaryChunkProperties;
+
+    public List<String> split(String text) {
+        int maxChars = Math.max(1, summaryChunkProperties.getMaxChars());
+        if (text.length() <= maxChars) {
+            return List.of(text);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String block : text.split(BLOCK_SEPARATOR)) {
+            if (block.isBlank()) {
+                continue;
+            }
+
+            // 새 제목은 가능하면 새 청크에서 시작해 같은 주제가 한 요청에 모이도록 함
+            boolean startsSection = block.startsWith("#") && current.length() >= maxChars / 2;
+            if (current.length() > 0
+                    && (startsSection || current.length() + BLOCK_SEPARATOR.length() + block.length() > maxChars)) {
+                chunks.add(current.toString());
+                current.setLength(0);
+            }
+
+            if (block.length() <= maxChars) {
+                appendBlock(current, block);
+                continue;
+            }
+
+            List<String> pieces = splitOversizedBlock(block, maxChars);
+            chunks.addAll(pieces.subList(0, pieces.size() - 1));
+            appendBlock(current, pieces.get(pieces.size() - 1));
+        }
+
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    private void appendBlock(StringBuilder current, String block) {
+        if (current.length() > 0) {
+            current.append(BLOCK_SEPARATOR);
+        }
+        current.append(block);
+    }
+
+    private List<String> splitOversizedBlock(String block, int maxChars) {
+        List<String> pieces = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String line : block.split("\n")) {
+            if (current.length() > 0 && current.length() + 1 + line.length() > maxChars) {
+                pieces.add(current.toString());
+                current.setLength(0);
+            }
+
+            String rest = line;
+            while (rest.length() > maxChars) {
+                int cut = rest.lastIndexOf(' ', maxChars);
+                if (cut <= 0) {
+                    cut = maxChars;
+                }
+                pieces.add(rest.substring(0, cut));
+                rest = rest.substring(cut).stripLeading();
+            }
+
+            if (current.length() > 0) {
+                current.append('\n');
+            }
+            current.append(rest);
+        }
+
+        if (current.length() > 0 || pieces.isEmpty()) {
+            pieces.add(current.toString());
+        }
+        return pieces;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.spreado.domain.summary.core.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "live_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LiveSummary {
+
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    @Column(name = "summary_json", columnDefinition = "jsonb", nullable = false)
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String summaryJson;
+
+    // 중간 요약에 사용한 전처리된 회의록 본문 (다음 갱신과 회의 종료 시 변경분 비교용)
+    @Column(name = "source_text", columnDefinition = "text", nullable = false)
+    private String sourceText;
+
+    // source_text의 SHA-256. 본문이 그대로면 갱신하지 않음
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
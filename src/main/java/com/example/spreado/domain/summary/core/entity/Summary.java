@@ -28,6 +28,10 @@ public class Summary {
     @JdbcTypeCode(SqlTypes.JSON)
     private String summaryJson;
 
+    // 요약에 사용한 전처리된 회의록 본문 (다시 요약할 때 변경분 비교용)
+    @Column(name = "source_text", columnDefinition = "text")
+    private String sourceText;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
@@ -47,9 +51,14 @@ public class Summary {
     }
 
     public static Summary create(Note note, String summaryJson) {
+        return create(note, summaryJson, null);
+    }
+
+    public static Summary create(Note note, String summaryJson, String sourceText) {
         Summary summary = new Summary();
         summary.note = note;
         summary.summaryJson = summaryJson;
+        summary.sourceText = sourceText;
         return summary;
     }
 
@@ -57,4 +66,10 @@ public class Summary {
         this.summaryJson = summaryJson;
         this.updatedAt = OffsetDateTime.now();
     }
+
+    public void regenerate(String summaryJson, String sourceText) {
+        this.summaryJson = summaryJson;
+        this.sourceText = sourceText;
+        this.updatedAt = OffsetDateTime.now();
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.spreado.domain.summary.core.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * 요약이 없는 과거 회의록을 한꺼번에 요약하는 일괄 요청.
+ * 대상 노트마다 summary_jobs에 작업이 하나씩 등록되며, 진행 상황은 작업 상태를 집계해 계산합니다.
+ */
+@Entity
+@Table(name = "summary_batches")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "from_date")
+    private LocalDate fromDate;
+
+    @Column(name = "to_date")
+    private LocalDate toDate;
+
+    @Column(name = "requested_by", nullable = false)
+    private Long requestedBy;
+
+    @Column(name = "total_notes", nullable = false)
+    private int totalNotes;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public static SummaryBatch create(Long groupId, LocalDate fromDate, LocalDate toDate, Long requestedBy, int totalNotes) {
+        SummaryBatch batch = new SummaryBatch();
+        batch.groupId = groupId;
+        batch.fromDate = fromDate;
+        batch.toDate = toDate;
+        batch.requestedBy = requestedBy;
+        batch.totalNotes = totalNotes;
+        return batch;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.spreado.domain.summary.core.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "summary_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @Column(name = "summary_json", columnDefinition = "jsonb", nullable = false)
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String summaryJson;
+
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "last_hit_at")
+    private OffsetDateTime lastHitAt;
+}
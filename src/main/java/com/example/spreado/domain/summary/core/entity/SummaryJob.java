@@ -0,0 +1,155 @@
+package com.example.spreado.domain.summary.core.entity;
+
+import com.example.spreado.domain.note.core.entity.Note;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "summary_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryJob {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "note_id", nullable = false)
+    private Note note;
+
+    // 일괄 요약으로 등록된 작업이면 해당 요청 (회의 종료 시 등록된 작업은 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "batch_id")
+    private SummaryBatch batch;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SummaryJobStatus status = SummaryJobStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "max_attempts", nullable = false)
+    private int maxAttempts;
+
+    @Column(name = "next_run_at", nullable = false)
+    private OffsetDateTime nextRunAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "lease_expires_at")
+    private OffsetDateTime leaseExpiresAt;
+
+    @Column(name = "summary_id")
+    private Long summaryId;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        OffsetDateTime now = OffsetDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    public static SummaryJob create(Note note, int maxAttempts) {
+        SummaryJob job = new SummaryJob();
+        job.note = note;
+        job.maxAttempts = maxAttempts;
+        job.nextRunAt = OffsetDateTime.now();
+        return job;
+    }
+
+    /**
+     * 일괄 요약 작업을 등록합니다. runAt을 작업마다 나누어 지정해 AI 호출 속도를 제한합니다.
+     */
+    public static SummaryJob createForBatch(Note note, int maxAttempts, SummaryBatch batch, OffsetDateTime runAt) {
+        SummaryJob job = create(note, maxAttempts);
+        job.batch = batch;
+        job.nextRunAt = runAt;
+        return job;
+    }
+
+    public boolean isBatchJob() {
+        return batch != null;
+    }
+
+    /**
+     * 워커가 작업을 점유합니다. lease가 만료되면 다른 워커가 다시 가져갈 수 있습니다.
+     * 이 워커가 점유한 채 lease만 만료된 작업은 실패한 시도가 아니므로 시도 횟수를 올리지 않습니다.
+     */
+    public void claim(String workerId, Duration leaseDuration) {
+        if (!isLockedBy(workerId)) {
+            this.attempts++;
+        }
+        this.status = SummaryJobStatus.RUNNING;
+        this.lockedBy = workerId;
+        this.leaseExpiresAt = OffsetDateTime.now().plus(leaseDuration);
+    }
+
+    /**
+     * 실행기에 제출하지 못한 작업을 시도 횟수 차감 없이 대기 상태로 되돌립니다.
+     */
+    public void release() {
+        this.status = SummaryJobStatus.PENDING;
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+    }
+
+    public void succeed(Long summaryId) {
+        this.status = SummaryJobStatus.SUCCEEDED;
+        this.summaryId = summaryId;
+        this.lastError = null;
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+    }
+
+    /**
+     * 실패를 기록합니다. 재시도 가능하고 시도 횟수가 남아 있으면 backoff 이후로 다시 예약합니다.
+     */
+    public void fail(String error, boolean retryable, Duration backoff) {
+        this.lastError = truncate(error);
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+
+        if (retryable && attempts < maxAttempts) {
+            this.status = SummaryJobStatus.PENDING;
+            this.nextRunAt = OffsetDateTime.now().plus(backoff);
+        } else {
+            this.status = SummaryJobStatus.FAILED;
+        }
+    }
+
+    public boolean isLockedBy(String workerId) {
+        return status == SummaryJobStatus.RUNNING && workerId.equals(lockedBy);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.spreado.domain.summary.core.entity;
+
+public enum SummaryJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
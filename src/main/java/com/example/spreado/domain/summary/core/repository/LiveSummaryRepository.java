@@ -0,0 +1,54 @@
+package com.example.spreado.domain.summary.core.repository;
+
+import com.example.spreado.domain.summary.core.entity.LiveSummary;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class LiveSummaryRepository {
+
+    private final EntityManager em;
+
+    public Optional<LiveSummary> findByMeetingId(Long meetingId) {
+        return Optional.ofNullable(em.find(LiveSummary.class, meetingId));
+    }
+
+    public Optional<String> findSourceHashByMeetingId(Long meetingId) {
+        return em.createQuery("SELECT s.sourceHash FROM LiveSummary s WHERE s.meetingId = :meetingId", String.class)
+                .setParameter("meetingId", meetingId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * 진행 중인 회의에만 저장합니다. 요약하는 동안 회의가 끝났으면 저장하지 않고 false를 반환합니다.
+     */
+    public boolean upsertIfOngoing(Long meetingId, String summaryJson, String sourceText, String sourceHash) {
+        int updated = em.createNativeQuery("""
+                        INSERT INTO live_summaries (meeting_id, summary_json, source_text, source_hash, updated_at)
+                        SELECT m.id, CAST(:summaryJson AS jsonb), :sourceText, :sourceHash, NOW() FROM meetings m
+                        WHERE m.id = :meetingId AND m.status = 'ONGOING'
+                        ON CONFLICT (meeting_id) DO UPDATE
+                        SET summary_json = EXCLUDED.summary_json,
+                            source_text = EXCLUDED.source_text,
+                            source_hash = EXCLUDED.source_hash,
+                            updated_at = EXCLUDED.updated_at
+                        """)
+                .setParameter("meetingId", meetingId)
+                .setParameter("summaryJson", summaryJson)
+                .setParameter("sourceText", sourceText)
+                .setParameter("sourceHash", sourceHash)
+                .executeUpdate();
+        return updated > 0;
+    }
+
+    public void deleteByMeetingId(Long meetingId) {
+        em.createQuery("DELETE FROM LiveSummary s WHERE s.meetingId = :meetingId")
+                .setParameter("meetingId", meetingId)
+                .executeUpdate();
+    }
+}
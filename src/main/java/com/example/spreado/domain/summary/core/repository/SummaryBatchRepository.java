@@ -0,0 +1,96 @@
+package com.example.spreado.domain.summary.core.repository;
+
+import com.example.spreado.domain.summary.core.entity.SummaryBatch;
+import com.example.spreado.domain.summary.core.entity.SummaryJobStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SummaryBatchRepository {
+
+    private final EntityManager em;
+
+    public SummaryBatch save(SummaryBatch batch) {
+        em.persist(batch);
+        return batch;
+    }
+
+    public Optional<SummaryBatch> findById(Long id) {
+        return em.createQuery("SELECT b FROM SummaryBatch b WHERE b.id = :id", SummaryBatch.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * 요약이 없고 대기/실행 중인 요약 작업도 없는 노트의 ID를 찾습니다.
+     * 노트 본문(content, plain_text)은 크므로 작업 등록에 필요한 ID만 조회합니다.
+     * groupId, from(이상), to(미만)는 null이면 조건에서 제외합니다.
+     */
+    public List<Long> findNoteIdsWithoutSummary(Long groupId, LocalDateTime from, LocalDateTime to, int limit) {
+        StringBuilder jpql = new StringBuilder("""
+                SELECT n.id FROM Note n
+                WHERE NOT EXISTS (SELECT s.id FROM Summary s WHERE s.note = n)
+                  AND NOT EXISTS (SELECT j.id FROM SummaryJob j WHERE j.note = n AND j.status IN :activeStatuses)
+                """);
+        if (groupId != null) {
+            jpql.append(" AND n.meeting.group.id = :groupId");
+        }
+        if (from != null) {
+            jpql.append(" AND n.createdAt >= :from");
+        }
+        if (to != null) {
+            jpql.append(" AND n.createdAt < :to");
+        }
+        jpql.append(" ORDER BY n.id");
+
+        TypedQuery<Long> query = em.createQuery(jpql.toString(), Long.class)
+                .setParameter("activeStatuses", List.of(SummaryJobStatus.PENDING, SummaryJobStatus.RUNNING))
+                .setMaxResults(limit);
+        if (groupId != null) {
+            query.setParameter("groupId", groupId);
+        }
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+        return query.getResultList();
+    }
+
+    public Map<SummaryJobStatus, Long> countJobsByStatus(Long batchId) {
+        List<Object[]> rows = em.createQuery("""
+                        SELECT j.status, COUNT(j) FROM SummaryJob j
+                        WHERE j.batch.id = :batchId
+                        GROUP BY j.status
+                        """, Object[].class)
+                .setParameter("batchId", batchId)
+                .getResultList();
+
+        Map<SummaryJobStatus, Long> counts = new EnumMap<>(SummaryJobStatus.class);
+        for (Object[] row : rows) {
+            counts.put((SummaryJobStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    public Optional<OffsetDateTime> findLastUpdatedAt(Long batchId) {
+        return Optional.ofNullable(em.createQuery("""
+                        SELECT MAX(j.updatedAt) FROM SummaryJob j
+                        WHERE j.batch.id = :batchId
+                        """, OffsetDateTime.class)
+                .setParameter("batchId", batchId)
+                .getSingleResult());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.spreado.domain.summary.core.repository;
+
+import com.example.spreado.domain.summary.core.entity.SummaryCacheEntry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SummaryCacheRepository {
+
+    private final EntityManager em;
+
+    public Optional<SummaryCacheEntry> findByKey(String cacheKey) {
+        return em.createQuery("SELECT c FROM SummaryCacheEntry c WHERE c.cacheKey = :cacheKey", SummaryCacheEntry.class)
+                .setParameter("cacheKey", cacheKey)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * 동시에 같은 키로 저장되어도 예외 없이 먼저 저장된 값을 유지합니다.
+     */
+    public void insertIfAbsent(String cacheKey, String model, String summaryJson) {
+        em.createNativeQuery("""
+                        INSERT INTO summary_cache (cache_key, model, summary_json, created_at)
+                        VALUES (:cacheKey, :model, CAST(:summaryJson AS jsonb), NOW())
+                        ON CONFLICT (cache_key) DO NOTHING
+                        """)
+                .setParameter("cacheKey", cacheKey)
+                .setParameter("model", model)
+                .setParameter("summaryJson", summaryJson)
+                .executeUpdate();
+    }
+
+    /**
+     * 마지막 사용 시각(적중이 없으면 생성 시각)이 threshold 이전인 항목을 최대 limit개 지웁니다.
+     */
+    public int deleteUnusedBefore(OffsetDateTime threshold, int limit) {
+        return em.createNativeQuery("""
+                        DELETE FROM summary_cache
+                        WHERE cache_key IN (
+                            SELECT cache_key FROM summary_cache
+                            WHERE COALESCE(last_hit_at, created_at) < :threshold
+                            LIMIT :limit
+                        )
+                        """)
+                .setParameter("threshold", threshold)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    public void recordHits(String cacheKey, long hits, OffsetDateTime now) {
+        em.createQuery("""
+                        UPDATE SummaryCacheEntry c
+                        SET c.hitCount = c.hitCount + :hits, c.lastHitAt = :now
+                        WHERE c.cacheKey = :cacheKey
+                        """)
+                .setParameter("cacheKey", cacheKey)
+                .setParameter("hits", hits)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.spreado.domain.summary.core.repository;
+
+import com.example.spreado.domain.summary.core.entity.SummaryJob;
+import com.example.spreado.domain.summary.core.entity.SummaryJobStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SummaryJobRepository {
+
+    private final EntityManager em;
+
+    public SummaryJob save(SummaryJob job) {
+        em.persist(job);
+        return job;
+    }
+
+    public Optional<SummaryJob> findById(Long id) {
+        return em.createQuery("SELECT j FROM SummaryJob j WHERE j.id = :id", SummaryJob.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    public Optional<SummaryJob> findActiveByNoteId(Long noteId) {
+        return em.createQuery("""
+                        SELECT j FROM SummaryJob j
+                        WHERE j.note.id = :noteId AND j.status IN :statuses
+                        ORDER BY j.id DESC
+                        """, SummaryJob.class)
+                .setParameter("noteId", noteId)
+                .setParameter("statuses", List.of(SummaryJobStatus.PENDING, SummaryJobStatus.RUNNING))
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * 실행 가능한 작업을 잠그고 가져옵니다.
+     * SKIP LOCKED로 다른 인스턴스가 이미 잠근 행은 건너뛰므로 여러 워커가 같은 작업을 중복 실행하지 않습니다.
+     * lease가 만료된 RUNNING 작업(처리 중 종료된 인스턴스의 작업)도 함께 회수합니다.
+     * 일괄 요약 작업이 쌓여 있어도 회의 종료로 등록된 작업을 먼저 가져갑니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<SummaryJob> lockRunnableJobs(int limit) {
+        return em.createNativeQuery("""
+                        SELECT * FROM summary_jobs
+                        WHERE (status = 'PENDING' AND next_run_at <= NOW())
+                           OR (status = 'RUNNING' AND lease_expires_at < NOW())
+                        ORDER BY (batch_id IS NOT NULL), next_run_at
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED
+                        """, SummaryJob.class)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    /**
+     * 이 워커가 실행 중인 작업의 lease를 연장합니다. 이미 다른 워커가 가져간 작업은 건드리지 않습니다.
+     */
+    public int renewLeases(Collection<Long> ids, String workerId, OffsetDateTime leaseExpiresAt) {
+        return em.createQuery("""
+                        UPDATE SummaryJob j
+                        SET j.leaseExpiresAt = :leaseExpiresAt, j.updatedAt = :now
+                        WHERE j.id IN :ids AND j.status = :running AND j.lockedBy = :workerId
+                        """)
+                .setParameter("leaseExpiresAt", leaseExpiresAt)
+                .setParameter("now", OffsetDateTime.now())
+                .setParameter("ids", ids)
+                .setParameter("running", SummaryJobStatus.RUNNING)
+                .setParameter("workerId", workerId)
+                .executeUpdate();
+    }
+
+    public int requeueExpiredLeases(OffsetDateTime now) {
+        return em.createQuery("""
+                        UPDATE SummaryJob j
+                        SET j.status = :pending, j.lockedBy = NULL, j.leaseExpiresAt = NULL,
+                            j.nextRunAt = :now, j.updatedAt = :now
+                        WHERE j.status = :running AND j.leaseExpiresAt < :now
+                        """)
+                .setParameter("pending", SummaryJobStatus.PENDING)
+                .setParameter("running", SummaryJobStatus.RUNNING)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
@@ -1,28 +1,38 @@
 package com.example.spreado.domain.summary.core.service;
 
+import com.example.spreado.domain.mail.application.MailOutboxService;
 import com.example.spreado.domain.meeting.core.entity.Meeting;
 import com.example.spreado.domain.meeting.core.repository.MeetingRepository;
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
 import com.example.spreado.domain.summary.application.support.SummaryEmailFormatter;
 import com.example.spreado.domain.summary.core.entity.Summary;
 import com.example.spreado.domain.summary.core.repository.SummaryRepository;
 import com.example.spreado.global.shared.exception.NotFoundException;
-import jakarta.mail.internet.MimeMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
     private final SummaryRepository summaryRepository;
     private final MeetingRepository meetingRepository;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 요약 메일을 참여자별 발송 대기열에 등록합니다. 실제 발송은 MailDispatcher가 처리합니다.
+     * 같은 요약(수정 시각 기준)을 반복해서 요청하면 dedup-window 동안 한 번만 등록합니다.
+     */
+    @Transactional
     public void sendMail(Long summaryId) {
         Summary summary = summaryRepository.findById(summaryId)
                 .orElseThrow(() -> new NotFoundException("해당 요약을 찾을 수 없습니다: " + summaryId));
@@ -36,18 +46,19 @@ public class MailService {
 
         List<String> recipients = meetingRepository.findParticipantEmailsByMeetingId(meeting.getId());
 
-        String content = SummaryEmailFormatter.renderHtml(summary.getSummaryJson());
+        String content = SummaryEmailFormatter.renderHtml(parseSummaryJson(summary));
 
-        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        String dedupKey = "summary:" + summary.getId() + ":" + summary.getUpdatedAt().toInstant().toEpochMilli();
+        MailOutboxService.MailEnqueueResult result = mailOutboxService.enqueue(dedupKey, title, content, recipients);
+        log.info("요약 메일 발송 등록 - summaryId: {}, recipients: {}, duplicate: {}",
+                summaryId, result.recipients().size(), result.duplicate());
+    }
 
+    private MeetingSummaryDto parseSummaryJson(Summary summary) {
         try {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(recipients.toArray(new String[0]));
-            mimeMessageHelper.setSubject(title);
-            mimeMessageHelper.setText(content, true);
-            mailSender.send(mimeMessage);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+            return objectMapper.readValue(summary.getSummaryJson(), MeetingSummaryDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 요약을 파싱하는 중 오류가 발생했습니다: " + summary.getId(), e);
         }
     }
 }
@@ -1,20 +1,53 @@
 package com.example.spreado.global.core.config;
 
+import com.example.spreado.global.properties.WebClientProperties;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
+    private final WebClientProperties webClientProperties;
+
+    /**
+     * 연결 수와 대기열을 제한한 연결 풀. 대기열이 가득 차거나 pending-acquire-timeout 안에 연결을 얻지 못하면 바로 실패합니다.
+     * 풀 상태는 reactor.netty.connection.provider.* 지표로 확인할 수 있습니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider webClientConnectionProvider() {
+        return ConnectionProvider.builder("default-web-client")
+                .maxConnections(webClientProperties.getMaxConnections())
+                .pendingAcquireMaxCount(webClientProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(webClientProperties.getPendingAcquireTimeout())
+                .maxIdleTime(webClientProperties.getMaxIdleTime())
+                .maxLifeTime(webClientProperties.getMaxLifeTime())
+                .evictInBackground(webClientProperties.getEvictInterval())
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient defaultWebClient() {
+    public WebClient defaultWebClient(ConnectionProvider webClientConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(webClientConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) webClientProperties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(webClientProperties.getResponseTimeout());
+
         // JSON이 커질 수 있으니 버퍼 여유
         var strategies = ExchangeStrategies.builder()
                 .codecs(c -> c.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .exchangeStrategies(strategies)
                 .build();
     }
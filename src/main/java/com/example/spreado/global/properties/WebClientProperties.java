@@ -0,0 +1,31 @@
+package com.example.spreado.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 WebClient(Reactor Netty) 연결 풀 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "webclient")
+public class WebClientProperties {
+
+    // 호스트별 최대 연결 수
+    private int maxConnections = 50;
+    // 연결을 기다릴 수 있는 요청 수, 넘으면 바로 실패
+    private int pendingAcquireMaxCount = 200;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    // 상대 서버(로드밸런서)가 먼저 끊기 전에 정리하도록 짧게 유지
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    private Duration evictInterval = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    // 응답을 읽는 동안 데이터 없이 기다릴 수 있는 최대 시간
+    private Duration responseTimeout = Duration.ofSeconds(10);
+}
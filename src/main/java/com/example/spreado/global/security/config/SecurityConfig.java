@@ -44,7 +44,9 @@ public class SecurityConfig {
                                 "/group/**",
                                 "/meeting/**",
                                 "/note/**",
-                                "/summaries/**"
+                                "/summaries/**",
+                                // 서명으로 검증
+                                "/liveblocks/webhook"
                         ).permitAll()
                         // 그 외는 기존 정책대로
                         .anyRequest().authenticated()
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS summary_cache (
+    cache_key    VARCHAR(64)  PRIMARY KEY,
+    model        VARCHAR(100) NOT NULL,
+    summary_json JSONB        NOT NULL,
+    hit_count    BIGINT       NOT NULL DEFAULT 0,
+    created_at   TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    last_hit_at  TIMESTAMPTZ
+);
+
+-- 마지막 사용 시각(적중이 없으면 생성 시각)이 TTL을 넘은 캐시를 정리할 때 사용 (SummaryCacheCleaner)
+CREATE INDEX IF NOT EXISTS idx_summary_cache_last_used_at ON summary_cache ((COALESCE(last_hit_at, created_at)));
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS summary_batches (
+    id           BIGSERIAL    PRIMARY KEY,
+    group_id     BIGINT,
+    from_date    DATE,
+    to_date      DATE,
+    requested_by BIGINT       NOT NULL,
+    total_notes  INT          NOT NULL,
+    created_at   TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+ALTER TABLE summary_jobs
+    ADD COLUMN IF NOT EXISTS batch_id BIGINT REFERENCES summary_batches(id) ON DELETE SET NULL;
+
+-- 일괄 요약 진행 상황 집계 (batch_id별 status 카운트)
+CREATE INDEX IF NOT EXISTS idx_summary_jobs_batch_id_status ON summary_jobs (batch_id, status);
@@ -0,0 +1,2 @@
+-- 다시 요약할 때 바뀐 부분만 비교하기 위해 요약에 사용한 회의록 본문을 함께 저장
+ALTER TABLE summaries ADD COLUMN IF NOT EXISTS source_text TEXT;
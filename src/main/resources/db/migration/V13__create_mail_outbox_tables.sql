@@ -0,0 +1,32 @@
+-- 발송할 메일 본문 (수신자가 여러 명이어도 한 번만 저장)
+CREATE TABLE IF NOT EXISTS mail_messages (
+    id         BIGSERIAL    PRIMARY KEY,
+    dedup_key  VARCHAR(200),
+    subject    VARCHAR(500) NOT NULL,
+    html_body  TEXT         NOT NULL,
+    created_at TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+-- 같은 메일 중복 요청 확인 시 사용 (dedup_key, 최근 생성 순 조회)
+CREATE INDEX IF NOT EXISTS idx_mail_messages_dedup_key_created_at ON mail_messages (dedup_key, created_at) WHERE dedup_key IS NOT NULL;
+
+-- 수신자별 발송 작업 (수신자마다 따로 재시도)
+CREATE TABLE IF NOT EXISTS mail_deliveries (
+    id               BIGSERIAL    PRIMARY KEY,
+    message_id       BIGINT       NOT NULL REFERENCES mail_messages(id) ON DELETE CASCADE,
+    recipient        VARCHAR(320) NOT NULL,
+    status           VARCHAR(20)  NOT NULL CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED')),
+    attempts         INT          NOT NULL DEFAULT 0,
+    max_attempts     INT          NOT NULL,
+    next_run_at      TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    locked_by        VARCHAR(100),
+    lease_expires_at TIMESTAMPTZ,
+    last_error       TEXT,
+    sent_at          TIMESTAMPTZ,
+    created_at       TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    updated_at       TIMESTAMPTZ
+);
+
+-- 발송 워커가 대상 작업을 찾을 때 사용 (status, next_run_at 순 조회)
+CREATE INDEX IF NOT EXISTS idx_mail_deliveries_status_next_run_at ON mail_deliveries (status, next_run_at);
+CREATE INDEX IF NOT EXISTS idx_mail_deliveries_message_id ON mail_deliveries (message_id);
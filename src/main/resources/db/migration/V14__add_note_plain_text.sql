@@ -0,0 +1,2 @@
+-- 회의 종료 시 스토리지를 스트리밍으로 읽으면서 함께 만든 요약용 본문 (없으면 content에서 다시 변환)
+ALTER TABLE notes ADD COLUMN IF NOT EXISTS plain_text TEXT;
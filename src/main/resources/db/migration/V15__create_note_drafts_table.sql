@@ -0,0 +1,8 @@
+-- 진행 중인 회의의 회의록 스냅샷 (Liveblocks storageUpdated 웹훅을 받아 백그라운드에서 갱신, 회의 종료 시 삭제)
+CREATE TABLE IF NOT EXISTS note_drafts (
+    meeting_id         BIGINT      PRIMARY KEY REFERENCES meetings(id) ON DELETE CASCADE,
+    content            JSONB,
+    plain_text         TEXT,
+    snapshot_at        TIMESTAMPTZ,
+    storage_updated_at TIMESTAMPTZ NOT NULL
+);
@@ -0,0 +1,8 @@
+-- 진행 중인 회의의 중간 요약 (회의 종료 시 노트 요약으로 옮긴 뒤 삭제)
+CREATE TABLE IF NOT EXISTS live_summaries (
+    meeting_id   BIGINT      PRIMARY KEY REFERENCES meetings(id) ON DELETE CASCADE,
+    summary_json JSONB       NOT NULL,
+    source_text  TEXT        NOT NULL,
+    source_hash  VARCHAR(64) NOT NULL,
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
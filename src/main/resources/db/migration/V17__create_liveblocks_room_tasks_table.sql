@@ -0,0 +1,24 @@
+-- 회의 생성/종료와 같은 트랜잭션에서 기록하고 커밋 이후 보내는 Liveblocks 방 생성/삭제 요청
+-- (회의가 지워져도 방 삭제는 보내야 하므로 meetings를 참조하지 않음)
+CREATE TABLE IF NOT EXISTS liveblocks_room_tasks (
+    id               BIGSERIAL    PRIMARY KEY,
+    meeting_id       BIGINT       NOT NULL,
+    room_id          VARCHAR(200) NOT NULL,
+    type             VARCHAR(20)  NOT NULL CHECK (type IN ('CREATE_ROOM', 'DELETE_ROOM')),
+    metadata         JSONB,
+    status           VARCHAR(20)  NOT NULL CHECK (status IN ('PENDING', 'RUNNING', 'DONE', 'FAILED')),
+    attempts         INT          NOT NULL DEFAULT 0,
+    max_attempts     INT          NOT NULL,
+    next_run_at      TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    locked_by        VARCHAR(100),
+    lease_expires_at TIMESTAMPTZ,
+    last_error       TEXT,
+    completed_at     TIMESTAMPTZ,
+    created_at       TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    updated_at       TIMESTAMPTZ
+);
+
+-- 디스패처가 대상 작업을 찾을 때 사용 (status, next_run_at 순 조회)
+CREATE INDEX IF NOT EXISTS idx_liveblocks_room_tasks_status_next_run_at ON liveblocks_room_tasks (status, next_run_at);
+-- 같은 방의 앞선 작업이 끝났는지 확인할 때 사용 (생성 전에 삭제가 먼저 나가지 않도록)
+CREATE INDEX IF NOT EXISTS idx_liveblocks_room_tasks_room_id_active ON liveblocks_room_tasks (room_id, id) WHERE status IN ('PENDING', 'RUNNING');
@@ -0,0 +1,6 @@
+-- 그룹별 회의 목록을 최신순 (created_at, id) 커서로 조회할 때 사용
+CREATE INDEX IF NOT EXISTS idx_meetings_group_id_created_at_id ON meetings (group_id, created_at DESC, id DESC);
+-- 그룹별 상태(진행 중/종료) 회의 목록 조회 시 사용
+CREATE INDEX IF NOT EXISTS idx_meetings_group_id_status_created_at_id ON meetings (group_id, status, created_at DESC, id DESC);
+-- 내가 참여한 회의 목록 조회 시 사용 (기존 UNIQUE (meeting_id, user_id)는 user_id로 찾을 수 없음)
+CREATE INDEX IF NOT EXISTS idx_meeting_join_user_id_meeting_id ON meeting_join (user_id, meeting_id);
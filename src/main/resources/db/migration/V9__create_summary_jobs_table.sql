@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS summary_jobs (
+    id               BIGSERIAL    PRIMARY KEY,
+    note_id          BIGINT       NOT NULL REFERENCES notes(id) ON DELETE CASCADE,
+    status           VARCHAR(20)  NOT NULL CHECK (status IN ('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED')),
+    attempts         INT          NOT NULL DEFAULT 0,
+    max_attempts     INT          NOT NULL,
+    next_run_at      TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    locked_by        VARCHAR(100),
+    lease_expires_at TIMESTAMPTZ,
+    summary_id       BIGINT,
+    last_error       TEXT,
+    created_at       TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    updated_at       TIMESTAMPTZ
+);
+
+-- 워커가 실행 대상 작업을 찾을 때 사용 (status, next_run_at 순 조회)
+CREATE INDEX IF NOT EXISTS idx_summary_jobs_status_next_run_at ON summary_jobs (status, next_run_at);
+CREATE INDEX IF NOT EXISTS idx_summary_jobs_note_id ON summary_jobs (note_id);
@@ -0,0 +1,56 @@
+package com.example.spreado.domain.meeting.core.util;
+
+import com.example.spreado.global.shared.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeetingCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        MeetingCursor cursor = new MeetingCursor(LocalDateTime.of(2025, 10, 3, 14, 5, 9, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(MeetingCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void 초_단위가_0인_시각도_복원한다() {
+        MeetingCursor cursor = new MeetingCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 1L);
+
+        assertThat(MeetingCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 비어_있는_커서는_첫_페이지로_본다() {
+        assertThat(MeetingCursor.decode(null)).isNull();
+        assertThat(MeetingCursor.decode("")).isNull();
+        assertThat(MeetingCursor.decode("   ")).isNull();
+    }
+
+    @Test
+    void base64가_아니면_잘못된_커서로_거절한다() {
+        assertThatThrownBy(() -> MeetingCursor.decode("not base64!"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("잘못된 페이지 커서입니다.");
+    }
+
+    @Test
+    void 형식이_맞지_않으면_잘못된_커서로_거절한다() {
+        for (String raw : new String[]{"no-separator", "2025-10-03T14:05_abc", "yesterday_42"}) {
+            String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+            assertThatThrownBy(() -> MeetingCursor.decode(cursor))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("잘못된 페이지 커서입니다.");
+        }
+    }
+}
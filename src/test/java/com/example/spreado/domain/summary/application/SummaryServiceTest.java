@@ -0,0 +1,113 @@
+package com.example.spreado.domain.summary.application;
+
+import com.example.spreado.domain.meeting.core.repository.MeetingJoinRepository;
+import com.example.spreado.domain.summary.application.client.SummaryModelRouter;
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
+import com.example.spreado.domain.summary.application.property.SummaryBudgetProperties;
+import com.example.spreado.domain.summary.application.property.SummaryChunkProperties;
+import com.example.spreado.domain.summary.application.property.SummaryIncrementalProperties;
+import com.example.spreado.domain.summary.application.support.NoteTextDiffer;
+import com.example.spreado.domain.summary.application.support.PromptTokenCounter;
+import com.example.spreado.domain.summary.application.support.SummaryTextChunker;
+import com.example.spreado.domain.summary.core.repository.SummaryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SummaryServiceTest {
+
+    private static final String PREVIOUS_SUMMARY_JSON = "{\"summary\":\"이전 요약\",\"milestones\":[],\"actionItemsByRole\":{}}";
+
+    private final NoteTextDiffer noteTextDiffer = new NoteTextDiffer();
+    private SummaryModelRouter summaryModelRouter;
+    private ChunkedSummarizer chunkedSummarizer;
+    private SummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        PromptService promptService = new PromptService("[회의록]\n%s", "[기존 요약]\n%s\n[변경 내용]\n%s");
+
+        SummaryBudgetProperties budgetProperties = new SummaryBudgetProperties();
+        SummaryDocumentPreprocessor documentPreprocessor = mock(SummaryDocumentPreprocessor.class);
+        when(documentPreprocessor.compact(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        SummaryPromptBudget summaryPromptBudget = new SummaryPromptBudget(promptService, documentPreprocessor,
+                new PromptTokenCounter(budgetProperties), budgetProperties, new SimpleMeterRegistry());
+
+        SummaryCacheService summaryCacheService = mock(SummaryCacheService.class);
+        when(summaryCacheService.get(anyString())).thenReturn(Optional.empty());
+
+        summaryModelRouter = mock(SummaryModelRouter.class);
+        when(summaryModelRouter.route(anyString())).thenReturn("gpt-4o-mini");
+        when(summaryModelRouter.requestSummary(anyString())).thenReturn(new MeetingSummaryDto("요약", List.of(), null));
+
+        chunkedSummarizer = mock(ChunkedSummarizer.class);
+        when(chunkedSummarizer.summarize(anyList())).thenReturn(new MeetingSummaryDto("청크 요약", List.of(), null));
+
+        summaryService = new SummaryService(
+                mock(SummaryStoreService.class),
+                mock(SummaryRepository.class),
+                mock(MeetingJoinRepository.class),
+                promptService,
+                new SummaryTextChunker(new SummaryChunkProperties()),
+                chunkedSummarizer,
+                summaryPromptBudget,
+                summaryModelRouter,
+                summaryCacheService,
+                noteTextDiffer,
+                new SummaryIncrementalProperties(),
+                new ObjectMapper()
+        );
+    }
+
+    @Test
+    void 긴_회의록의_갱신_프롬프트가_예산을_넘으면_전체_다시_요약한다() {
+        String previous = note(1500, 0);
+        String current = note(1500, 7);
+        assertThat(noteTextDiffer.diff(previous, current).changedRatio()).isBetween(0.25, 0.4);
+
+        String summaryJson = summaryService.summarizeText(PREVIOUS_SUMMARY_JSON, previous, current, "test");
+
+        assertThat(summaryJson).contains("청크 요약");
+        verify(chunkedSummarizer).summarize(anyList());
+        verify(summaryModelRouter, never()).requestSummary(argThat(prompt -> prompt.contains("[변경 내용]")));
+    }
+
+    @Test
+    void 짧은_회의록의_작은_변경은_변경분만_보낸다() {
+        String previous = note(20, 0);
+        String current = note(20, 10);
+
+        String summaryJson = summaryService.summarizeText(PREVIOUS_SUMMARY_JSON, previous, current, "test");
+
+        assertThat(summaryJson).contains("\"summary\":\"요약\"");
+        verify(summaryModelRouter).requestSummary(argThat(prompt -> prompt.contains("[변경 내용]")));
+        verify(chunkedSummarizer, never()).summarize(anyList());
+    }
+
+    /**
+     * editEvery 번째 블록마다 내용을 바꾼 회의록 (0이면 원본).
+     */
+    private static String note(int blocks, int editEvery) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < blocks; i++) {
+            boolean edited = editEvery > 0 && i % editEvery == 0;
+            String word = edited ? "revised decision about the release schedule " : "discussion of the backend api design ";
+            lines.add("- item " + i + ": " + word.repeat(10));
+        }
+        return String.join("\n\n", lines);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.spreado.domain.summary.application.client;
+
+import com.example.spreado.domain.summary.application.client.dto.MeetingSummaryDto;
+import com.example.spreado.domain.summary.application.property.AiResilienceProperties;
+import com.example.spreado.global.shared.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResilientAiClientTest {
+
+    private static final MeetingSummaryDto SUMMARY = new MeetingSummaryDto("요약", List.of(), null);
+
+    private OpenAiResponsesClient delegate;
+    private AiResilienceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(OpenAiResponsesClient.class);
+        properties = new AiResilienceProperties();
+        properties.getRateLimit().setMaxWait(Duration.ZERO);
+        properties.getBulkhead().setMaxWait(Duration.ZERO);
+        properties.getCircuitBreaker().setWindowSize(4);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        properties.getCircuitBreaker().setFailureRateThreshold(50);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void 한도_안의_호출은_그대로_전달한다() {
+        when(delegate.requestSummary("gpt-4o-mini", "prompt")).thenReturn(SUMMARY);
+
+        MeetingSummaryDto result = client().requestSummary("gpt-4o-mini", "prompt");
+
+        assertThat(result).isSameAs(SUMMARY);
+    }
+
+    @Test
+    void 분당_요청_한도를_넘으면_호출하지_않고_실패한다() {
+        properties.getRateLimit().setRequestsPerMinute(1);
+        when(delegate.requestSummary(anyString(), anyString())).thenReturn(SUMMARY);
+        ResilientAiClient client = client();
+
+        client.requestSummary("gpt-4o-mini", "prompt");
+
+        assertThatThrownBy(() -> client.requestSummary("gpt-4o-mini", "prompt"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessageContaining("RPM");
+        verify(delegate, times(1)).requestSummary(anyString(), anyString());
+    }
+
+    @Test
+    void bulkhead에_자리가_없으면_예약한_요청_한도를_돌려놓는다() {
+        properties.getRateLimit().setRequestsPerMinute(1);
+        properties.getBulkhead().setMaxConcurrentCalls(0);
+        ResilientAiClient client = client();
+
+        // 돌려놓지 않으면 두 번째 호출은 bulkhead 전에 RPM 한도로 실패함
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.requestSummary("gpt-4o-mini", "prompt"))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessageContaining("진행 중인 AI 요청이 많습니다");
+        }
+        verify(delegate, never()).requestSummary(anyString(), anyString());
+    }
+
+    @Test
+    void 실패가_쌓이면_서킷이_열려_호출하지_않는다() {
+        when(delegate.requestSummary(anyString(), anyString())).thenThrow(new IllegalStateException("timeout"));
+        ResilientAiClient client = client();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.requestSummary("gpt-4o-mini", "prompt"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThatThrownBy(() -> client.requestSummary("gpt-4o-mini", "prompt"))
+                .isInstanceOf(AiCircuitOpenException.class);
+        verify(delegate, times(4)).requestSummary(anyString(), anyString());
+    }
+
+    @Test
+    void 서킷은_모델별로_열린다() {
+        when(delegate.requestSummary(eq("gpt-4o-mini"), anyString())).thenThrow(new IllegalStateException("timeout"));
+        when(delegate.requestSummary(eq("gpt-4o"), anyString())).thenReturn(SUMMARY);
+        ResilientAiClient client = client();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.requestSummary("gpt-4o-mini", "prompt"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThatThrownBy(() -> client.requestSummary("gpt-4o-mini", "prompt"))
+                .isInstanceOf(AiCircuitOpenException.class);
+        assertThat(client.requestSummary("gpt-4o", "prompt")).isSameAs(SUMMARY);
+    }
+
+    private ResilientAiClient client() {
+        return new ResilientAiClient(delegate, properties, new SimpleMeterRegistry());
+    }
+}
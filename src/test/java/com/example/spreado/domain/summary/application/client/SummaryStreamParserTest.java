@@ -0,0 +1,110 @@
+package com.example.spreado.domain.summary.application.client;
+
+import com.example.spreado.domain.summary.application.client.dto.MilestoneDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryStreamParserTest {
+
+    private static final String RESPONSE = """
+            {
+              "summary": "릴리스 일정을 확정했다.",
+              "milestones": [
+                {"task": "QA 완료", "deadline": "2025-11-07"},
+                {"deadline": "", "task": "배포"}
+              ],
+              "actionItemsByRole": {
+                "PM": ["일정 공유"],
+                "BE": ["API 배포", "모니터링 설정"],
+                "FE": []
+              }
+            }
+            """;
+
+    @Test
+    void 한_글자씩_나뉘어_와도_완성된_부분을_순서대로_전달한다() {
+        RecordingListener listener = new RecordingListener();
+        SummaryStreamParser parser = new SummaryStreamParser(listener);
+
+        for (int i = 0; i < RESPONSE.length(); i++) {
+            parser.feed(RESPONSE.substring(i, i + 1));
+        }
+
+        assertThat(String.join("", listener.summaryDeltas)).isEqualTo("릴리스 일정을 확정했다.");
+        assertThat(listener.milestones).containsExactly("QA 완료|2025-11-07", "배포|");
+        assertThat(listener.actionItems).containsExactly("PM:일정 공유", "BE:API 배포", "BE:모니터링 설정");
+    }
+
+    @Test
+    void 요약_본문은_도착하는_대로_조각으로_전달한다() {
+        RecordingListener listener = new RecordingListener();
+        SummaryStreamParser parser = new SummaryStreamParser(listener);
+
+        parser.feed("{\"summary\": \"첫 ");
+        parser.feed("문장. 둘째");
+        parser.feed(" 문장.\", \"milestones\": []}");
+
+        assertThat(listener.summaryDeltas).containsExactly("첫 ", "문장. 둘째", " 문장.");
+    }
+
+    @Test
+    void 조각_경계에_걸친_이스케이프를_해석한다() {
+        RecordingListener listener = new RecordingListener();
+        SummaryStreamParser parser = new SummaryStreamParser(listener);
+
+        parser.feed("{\"summary\": \"줄\\");
+        parser.feed("n\\\"인용\\\" \\uAC");
+        parser.feed("00\"}");
+
+        assertThat(String.join("", listener.summaryDeltas)).isEqualTo("줄\n\"인용\" 가");
+    }
+
+    @Test
+    void 조각_경계에서_나뉜_서로게이트_쌍은_합쳐서_전달한다() {
+        RecordingListener listener = new RecordingListener();
+        SummaryStreamParser parser = new SummaryStreamParser(listener);
+        String emoji = "😀";
+
+        parser.feed("{\"summary\": \"완료" + emoji.charAt(0));
+        parser.feed(emoji.charAt(1) + "\"}");
+
+        assertThat(listener.summaryDeltas).containsExactly("완료", emoji);
+    }
+
+    @Test
+    void 최상위가_아닌_summary_키는_요약_본문으로_보지_않는다() {
+        RecordingListener listener = new RecordingListener();
+        SummaryStreamParser parser = new SummaryStreamParser(listener);
+
+        parser.feed("{\"milestones\": [{\"task\": \"정리\", \"summary\": \"무시\"}], \"summary\": \"본문\"}");
+
+        assertThat(listener.summaryDeltas).containsExactly("본문");
+        assertThat(listener.milestones).containsExactly("정리|null");
+    }
+
+    private static class RecordingListener implements SummaryStreamListener {
+
+        private final List<String> summaryDeltas = new ArrayList<>();
+        private final List<String> milestones = new ArrayList<>();
+        private final List<String> actionItems = new ArrayList<>();
+
+        @Override
+        public void onSummaryText(String delta) {
+            summaryDeltas.add(delta);
+        }
+
+        @Override
+        public void onMilestone(MilestoneDto milestone) {
+            milestones.add(milestone.getTask() + "|" + milestone.getDeadline());
+        }
+
+        @Override
+        public void onActionItem(String role, String item) {
+            actionItems.add(role + ":" + item);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.spreado.domain.summary.application.client.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    @Test
+    void 최소_호출_수를_채우기_전에는_열리지_않는다() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 50, Duration.ofMinutes(1), 2);
+
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void 실패율이_기준_이상이면_열리고_호출을_막는다() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, Duration.ofMinutes(1), 2);
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void 오래된_결과는_윈도우에서_빠진다() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 75, Duration.ofMinutes(1), 2);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        // 가장 오래된 실패가 밀려나 실패 2/4
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 열린_시간이_지나면_시험_호출만_허용하고_모두_성공하면_닫힌다() {
+        CircuitBreaker breaker = openedBreaker(2);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 시험_호출이_실패하면_다시_열린다() {
+        CircuitBreaker breaker = openedBreaker(2);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void 사용하지_않은_시험_호출_자리는_돌려놓을_수_있다() {
+        CircuitBreaker breaker = openedBreaker(1);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.releasePermission();
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    /**
+     * 열린 직후 바로 시험 호출을 받을 수 있도록 openDuration이 0인 열린 서킷 브레이커.
+     */
+    private static CircuitBreaker openedBreaker(int halfOpenCalls) {
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 50, Duration.ZERO, halfOpenCalls);
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.spreado.domain.summary.application.client.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    void 잔량_안에서는_기다리지_않는다() {
+        TokenBucket bucket = new TokenBucket(60);
+
+        assertThat(bucket.reserve(60, Duration.ZERO)).isZero();
+    }
+
+    @Test
+    void 잔량이_모자라면_채워질_때까지의_대기_시간을_예약한다() {
+        // 분당 60개 = 초당 1개
+        TokenBucket bucket = new TokenBucket(60);
+        bucket.reserve(60, Duration.ZERO);
+
+        long waitNanos = bucket.reserve(1, Duration.ofSeconds(5));
+
+        assertThat(waitNanos).isBetween(Duration.ofMillis(900).toNanos(), Duration.ofSeconds(1).toNanos());
+        // 예약한 만큼 뒤 요청은 더 기다림
+        assertThat(bucket.reserve(1, Duration.ofSeconds(5))).isGreaterThan(waitNanos);
+    }
+
+    @Test
+    void 최대_대기_시간_안에_채워지지_않으면_예약하지_않는다() {
+        TokenBucket bucket = new TokenBucket(60);
+        bucket.reserve(60, Duration.ZERO);
+
+        assertThat(bucket.reserve(1, Duration.ofMillis(100))).isEqualTo(-1);
+        assertThat(bucket.available()).isLessThan(1).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void 돌려놓은_예약은_다시_쓸_수_있다() {
+        TokenBucket bucket = new TokenBucket(60);
+        bucket.reserve(60, Duration.ZERO);
+
+        bucket.refund(1);
+
+        assertThat(bucket.reserve(1, Duration.ZERO)).isZero();
+    }
+
+    @Test
+    void 용량보다_큰_요청은_용량만큼만_예약한다() {
+        TokenBucket bucket = new TokenBucket(60);
+
+        assertThat(bucket.reserve(1000, Duration.ZERO)).isZero();
+        assertThat(bucket.available()).isLessThan(1);
+    }
+}
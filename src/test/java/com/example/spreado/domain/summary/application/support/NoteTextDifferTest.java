@@ -0,0 +1,93 @@
+package com.example.spreado.domain.summary.application.support;
+
+import com.example.spreado.domain.summary.application.support.NoteTextDiffer.Hunk;
+import com.example.spreado.domain.summary.application.support.NoteTextDiffer.NoteTextDiff;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoteTextDifferTest {
+
+    private static final String NOTE = """
+            # 안건
+
+            - 릴리스 일정 논의
+
+            # 결정 사항
+
+            - 11월 7일 배포
+
+            - QA는 FE가 담당
+            """;
+
+    private final NoteTextDiffer differ = new NoteTextDiffer();
+
+    @Test
+    void 같은_본문이면_변경이_없다() {
+        NoteTextDiff diff = differ.diff(NOTE, NOTE);
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.changedChars()).isZero();
+        assertThat(diff.changedRatio()).isZero();
+    }
+
+    @Test
+    void 빈_줄과_앞뒤_공백_차이는_변경으로_보지_않는다() {
+        String reformatted = NOTE.replace("\n\n", "\n\n\n\n").replace("- QA는 FE가 담당", "  - QA는 FE가 담당  ");
+
+        assertThat(differ.diff(NOTE, reformatted).isEmpty()).isTrue();
+    }
+
+    @Test
+    void 바뀐_블록을_직전_제목과_함께_돌려준다() {
+        String current = NOTE.replace("- 11월 7일 배포", "- 11월 14일 배포");
+
+        NoteTextDiff diff = differ.diff(NOTE, current);
+
+        assertThat(diff.hunks()).containsExactly(
+                new Hunk("# 결정 사항", List.of("- 11월 7일 배포"), List.of("- 11월 14일 배포")));
+        assertThat(diff.changedChars()).isEqualTo("- 11월 7일 배포".length() + "- 11월 14일 배포".length());
+    }
+
+    @Test
+    void 떨어진_변경은_각각의_묶음으로_나눈다() {
+        String current = NOTE
+                .replace("- 릴리스 일정 논의", "- 릴리스 일정 및 QA 논의")
+                .replace("- QA는 FE가 담당", "- QA는 FE가 담당\n\n- 모니터링은 BE가 담당");
+
+        NoteTextDiff diff = differ.diff(NOTE, current);
+
+        assertThat(diff.hunks()).containsExactly(
+                new Hunk("# 안건", List.of("- 릴리스 일정 논의"), List.of("- 릴리스 일정 및 QA 논의")),
+                new Hunk("# 결정 사항", List.of(), List.of("- 모니터링은 BE가 담당")));
+    }
+
+    @Test
+    void 첫_제목_앞의_변경은_문서_처음으로_표시한다() {
+        String current = "회의 메모\n\n" + NOTE;
+
+        NoteTextDiff diff = differ.diff(NOTE, current);
+
+        assertThat(diff.hunks()).containsExactly(new Hunk(null, List.of(), List.of("회의 메모")));
+        assertThat(diff.describe()).isEqualTo("""
+                ### 위치: (문서 처음)
+                [추가된 내용]
+                회의 메모""");
+    }
+
+    @Test
+    void 삭제와_추가를_함께_설명한다() {
+        String current = NOTE.replace("- QA는 FE가 담당", "- QA는 AI가 담당");
+
+        String description = differ.diff(NOTE, current).describe();
+
+        assertThat(description).isEqualTo("""
+                ### 위치: # 결정 사항
+                [삭제된 내용]
+                - QA는 FE가 담당
+                [추가된 내용]
+                - QA는 AI가 담당""");
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.spreado.support.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 로컬 스텁 서버.
+ * OpenAiResponsesClient가 사용하는 POST /v1/responses(일반/스트리밍)와 회의 종료에 필요한 Liveblocks REST API를 흉내 냅니다.
+ * AI 응답은 mock_data/test-summaries의 요약을, Liveblocks 스토리지는 mock_data의 회의록을 돌아가며 반환합니다.
+ *
+ * <pre>
+ * ./gradlew summaryStubServer -Pstub.latency=lognormal:800:0.5 -Pstub.error-rate=0.02
+ * SUMMARY_AI_URL=http://localhost:8089/v1 LIVEBLOCKS_API_BASE=http://localhost:8089 ./gradlew bootRun
+ * </pre>
+ *
+ * 설정 (시스템 프로퍼티)
+ * <ul>
+ *   <li>stub.port: 포트 (기본 8089)</li>
+ *   <li>stub.latency: AI 응답 지연 분포 - fixed:ms, uniform:minMs:maxMs, lognormal:medianMs:sigma (기본 lognormal:800:0.5)</li>
+ *   <li>stub.error-rate: 500 응답 비율 (기본 0)</li>
+ *   <li>stub.rate-limit-rate: 429 응답 비율 (기본 0)</li>
+ *   <li>stub.liveblocks-latency: Liveblocks 응답 지연 분포 (기본 fixed:20)</li>
+ * </ul>
+ */
+public class SummaryStubServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final List<String> NOTES = List.of("mock_note1", "mock_note2", "mock_note3");
+    private static final int STREAM_CHUNK_CHARS = 8;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Latency aiLatency;
+    private final Latency liveblocksLatency;
+    private final double errorRate;
+    private final double rateLimitRate;
+
+    private final List<String> summaries = new ArrayList<>();
+    private final List<String> storages = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SummaryStubServer(int port, Latency aiLatency, Latency liveblocksLatency,
+                             double errorRate, double rateLimitRate) throws IOException {
+        this.aiLatency = aiLatency;
+        this.liveblocksLatency = liveblocksLatency;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+
+        for (String note : NOTES) {
+            summaries.add(MAPPER.readTree(readResource("/mock_data/test-summaries/" + note + "_summary.json")).toString());
+            storages.add(readResource("/mock_data/" + note + ".json"));
+        }
+
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public static void main(String[] args) throws IOException {
+        SummaryStubServer stub = new SummaryStubServer(
+                Integer.getInteger("stub.port", 8089),
+                Latency.parse(System.getProperty("stub.latency", "lognormal:800:0.5")),
+                Latency.parse(System.getProperty("stub.liveblocks-latency", "fixed:20")),
+                Double.parseDouble(System.getProperty("stub.error-rate", "0")),
+                Double.parseDouble(System.getProperty("stub.rate-limit-rate", "0"))
+        );
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        System.out.println("summary stub server listening on " + stub.port());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+
+            if ("POST".equals(method) && path.endsWith("/responses")) {
+                handleResponses(exchange);
+            } else if ("POST".equals(method) && path.equals("/v2/authorize-user")) {
+                sleep(liveblocksLatency.sampleMillis());
+                writeJson(exchange, 200, "{\"token\":\"stub-token-" + sequence.incrementAndGet() + "\"}");
+            } else if ("POST".equals(method) && path.equals("/v2/rooms")) {
+                sleep(liveblocksLatency.sampleMillis());
+                writeJson(exchange, 200, exchange.getRequestBody().readAllBytes());
+            } else if ("GET".equals(method) && path.startsWith("/v2/rooms/") && path.endsWith("/storage")) {
+                sleep(liveblocksLatency.sampleMillis());
+                writeJson(exchange, 200, pick(storages));
+            } else if ("DELETE".equals(method) && path.startsWith("/v2/rooms/")) {
+                sleep(liveblocksLatency.sampleMillis());
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                writeJson(exchange, 404, "{\"error\":\"not found\"}");
+            }
+        }
+    }
+
+    private void handleResponses(HttpExchange exchange) throws IOException {
+        JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+        long latencyMillis = aiLatency.sampleMillis();
+
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < rateLimitRate) {
+            writeJson(exchange, 429, errorBody("Rate limit reached (stub)", "rate_limit_exceeded"));
+            return;
+        }
+        if (roll < rateLimitRate + errorRate) {
+            sleep(latencyMillis);
+            writeJson(exchange, 500, errorBody("The server had an error (stub)", "server_error"));
+            return;
+        }
+
+        long id = sequence.incrementAndGet();
+        String model = request.path("model").asText("stub-model");
+        String text = pick(summaries);
+
+        if (request.path("stream").asBoolean(false)) {
+            stream(exchange, id, model, text, latencyMillis);
+            return;
+        }
+
+        sleep(latencyMillis);
+        writeJson(exchange, 200, MAPPER.writeValueAsString(response(id, model, text, "completed")));
+    }
+
+    /**
+     * 전체 지연 중 20%를 첫 토큰까지의 시간으로, 나머지를 텍스트 조각 사이에 고르게 나누어 보냅니다.
+     */
+    private void stream(HttpExchange exchange, long id, String model, String text, long latencyMillis) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        OutputStream out = exchange.getResponseBody();
+        int sequenceNumber = 0;
+        writeEvent(out, "response.created", event("response.created", sequenceNumber++)
+                .set("response", response(id, model, "", "in_progress")));
+
+        sleep(latencyMillis / 5);
+        int chunks = Math.max(1, (text.length() + STREAM_CHUNK_CHARS - 1) / STREAM_CHUNK_CHARS);
+        long interval = (latencyMillis - latencyMillis / 5) / chunks;
+
+        for (int start = 0; start < text.length(); start += STREAM_CHUNK_CHARS) {
+            ObjectNode delta = event("response.output_text.delta", sequenceNumber++)
+                    .put("item_id", "msg_stub_" + id)
+                    .put("output_index", 0)
+                    .put("content_index", 0)
+                    .put("delta", text.substring(start, Math.min(text.length(), start + STREAM_CHUNK_CHARS)));
+            delta.putArray("logprobs");
+            writeEvent(out, "response.output_text.delta", delta);
+            sleep(interval);
+        }
+
+        writeEvent(out, "response.completed", event("response.completed", sequenceNumber)
+                .set("response", response(id, model, text, "completed")));
+    }
+
+    private ObjectNode response(long id, String model, String text, String status) {
+        ObjectNode response = MAPPER.createObjectNode()
+                .put("id", "resp_stub_" + id)
+                .put("object", "response")
+                .put("created_at", Instant.now().getEpochSecond())
+                .put("status", status)
+                .put("model", model)
+                .putNull("error")
+                .putNull("incomplete_details")
+                .putNull("instructions")
+                .put("parallel_tool_calls", true)
+                .put("temperature", 1.0)
+                .put("tool_choice", "auto")
+                .put("top_p", 1.0);
+        response.putObject("metadata");
+        response.putArray("tools");
+
+        ArrayNode output = response.putArray("output");
+        if (!text.isEmpty()) {
+            ObjectNode message = output.addObject()
+                    .put("type", "message")
+                    .put("id", "msg_stub_" + id)
+                    .put("status", "completed")
+                    .put("role", "assistant");
+            ObjectNode content = message.putArray("content").addObject()
+                    .put("type", "output_text")
+                    .put("text", text);
+            content.putArray("annotations");
+
+            int outputTokens = text.length();
+            ObjectNode usage = response.putObject("usage")
+                    .put("input_tokens", 0)
+                    .put("output_tokens", outputTokens)
+                    .put("total_tokens", outputTokens);
+            usage.putObject("input_tokens_details").put("cached_tokens", 0);
+            usage.putObject("output_tokens_details").put("reasoning_tokens", 0);
+        }
+        return response;
+    }
+
+    private ObjectNode event(String type, int sequenceNumber) {
+        return MAPPER.createObjectNode()
+                .put("type", type)
+                .put("sequence_number", sequenceNumber);
+    }
+
+    private String errorBody(String message, String type) {
+        ObjectNode error = MAPPER.createObjectNode();
+        error.putObject("error")
+                .put("message", message)
+                .put("type", type)
+                .putNull("param")
+                .putNull("code");
+        return error.toString();
+    }
+
+    private void writeEvent(OutputStream out, String name, JsonNode data) throws IOException {
+        out.write(("event: " + name + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void writeJson(HttpExchange exchange, int status, String body) throws IOException {
+        writeJson(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private String pick(List<String> values) {
+        return values.get((int) (sequence.getAndIncrement() % values.size()));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String readResource(String path) {
+        try (InputStream in = SummaryStubServer.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("스텁 데이터를 찾을 수 없습니다: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 응답 지연 분포. fixed:ms, uniform:minMs:maxMs, lognormal:medianMs:sigma
+     */
+    public interface Latency {
+
+        long sampleMillis();
+
+        static Latency parse(String spec) {
+            String[] parts = spec.split(":");
+            return switch (parts[0]) {
+                case "fixed" -> {
+                    long millis = Long.parseLong(parts[1]);
+                    yield () -> millis;
+                }
+                case "uniform" -> {
+                    long min = Long.parseLong(parts[1]);
+                    long max = Long.parseLong(parts[2]);
+                    yield () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+                }
+                case "lognormal" -> {
+                    double median = Double.parseDouble(parts[1]);
+                    double sigma = Double.parseDouble(parts[2]);
+                    yield () -> Math.round(median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+                }
+                default -> throw new IllegalArgumentException("지원하지 않는 지연 분포입니다: " + spec);
+            };
+        }
+    }
+}